@@ -44,10 +44,23 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Receives event over websocket and publish them to the local EventsService.
+ * <p/>
+ * Connections are (re)established by a single scheduler with jittered exponential backoff.
+ * Received messages are decoded and published by a bounded pool of dispatchers, messages of
+ * the same connection are always handled by the same dispatcher so events of each channel
+ * are published in the order they were received.
  *
  * @author andrew00x
  */
@@ -57,14 +70,26 @@ public final class WSocketEventBusClient {
 
     private static final long WS_CONNECTION_TIMEOUT = 2;
 
+    /** Delay before the first reconnect attempt in milliseconds, it is doubled by each failed attempt. */
+    private static final long RECONNECT_BASE_DELAY = 1000;
+    /** Max delay between reconnect attempts in milliseconds. */
+    private static final long RECONNECT_MAX_DELAY  = 60 * 1000;
+    private static final int  DISPATCH_THREADS     = 4;
+    private static final int  DISPATCH_QUEUE_SIZE  = 1000;
+    /** Max time in seconds to wait for a free slot in the queue of overloaded dispatcher. */
+    private static final long DISPATCH_TIMEOUT     = 10;
+
     private final EventService                         eventService;
     private final Pair<String, String>[]               eventSubscriptions;
     private final ClientEventPropagationPolicy         policy;
     private final JsonMessageConverter                 messageConverter;
     private final ConcurrentMap<URI, Future<WSClient>> connections;
     private final AtomicBoolean                        start;
+    private final AtomicLong                           reconnects;
+    private final AtomicLong                           receivedEvents;
 
-    private ExecutorService executor;
+    private ScheduledExecutorService reconnectScheduler;
+    private ExecutorService[]        dispatchers;
 
     @Inject
     public WSocketEventBusClient(EventService eventService,
@@ -77,6 +102,8 @@ public final class WSocketEventBusClient {
         messageConverter = new JsonMessageConverter();
         connections = new ConcurrentHashMap<>();
         start = new AtomicBoolean(false);
+        reconnects = new AtomicLong();
+        receivedEvents = new AtomicLong();
     }
 
     @PostConstruct
@@ -107,10 +134,36 @@ public final class WSocketEventBusClient {
                     }
                 }
                 if (!cfg.isEmpty()) {
-                    executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("WSocketEventBusClient-%d")
-                                                                                       .setDaemon(true).build());
+                    reconnectScheduler = Executors.newSingleThreadScheduledExecutor(
+                            new ThreadFactoryBuilder().setNameFormat("WSocketEventBusClient-Connect-%d")
+                                                      .setDaemon(true)
+                                                      .build());
+                    final ThreadFactory dispatcherFactory = new ThreadFactoryBuilder().setNameFormat("WSocketEventBusClient-Dispatch-%d")
+                                                                                      .setDaemon(true)
+                                                                                      .build();
+                    dispatchers = new ExecutorService[DISPATCH_THREADS];
+                    for (int i = 0; i < dispatchers.length; i++) {
+                        // block websocket thread for a while when dispatcher is overloaded instead of dropping events
+                        // or breaking their order, tasks aren't queued to the stopped dispatcher as nobody runs them
+                        dispatchers[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                                                                new LinkedBlockingQueue<>(DISPATCH_QUEUE_SIZE),
+                                                                dispatcherFactory,
+                                                                (task, executor) -> {
+                                                                    if (executor.isShutdown()) {
+                                                                        throw new RejectedExecutionException("Dispatcher is stopped");
+                                                                    }
+                                                                    try {
+                                                                        if (!executor.getQueue().offer(task, DISPATCH_TIMEOUT, TimeUnit.SECONDS)) {
+                                                                            throw new RejectedExecutionException("Dispatcher queue is full");
+                                                                        }
+                                                                    } catch (InterruptedException e) {
+                                                                        Thread.currentThread().interrupt();
+                                                                        throw new RejectedExecutionException("Interrupted while waiting for dispatcher", e);
+                                                                    }
+                                                                });
+                    }
                     for (Map.Entry<URI, Set<String>> entry : cfg.entrySet()) {
-                        executor.execute(new ConnectTask(entry.getKey(), entry.getValue()));
+                        reconnectScheduler.execute(new ConnectTask(entry.getKey(), entry.getValue()));
                     }
                 }
             }
@@ -132,11 +185,35 @@ public final class WSocketEventBusClient {
 
     @PreDestroy
     void stop() {
-        if (start.compareAndSet(true, false) && executor != null) {
-            executor.shutdownNow();
+        if (start.compareAndSet(true, false) && reconnectScheduler != null) {
+            reconnectScheduler.shutdownNow();
+            for (ExecutorService dispatcher : dispatchers) {
+                dispatcher.shutdownNow();
+            }
         }
     }
 
+    /** Returns number of endpoints the client is connected to at the moment. */
+    public int getConnectedEndpoints() {
+        return (int)connections.values().stream().filter(future -> future.isDone() && !future.isCancelled()).count();
+    }
+
+    /** Returns number of reconnect attempts since start. */
+    public long getReconnectCount() {
+        return reconnects.get();
+    }
+
+    /** Returns number of events received from all the endpoints since start, sampling it gives inbound event rate. */
+    public long getReceivedEventCount() {
+        return receivedEvents.get();
+    }
+
+    /** Returns delay before the given reconnect attempt, random part prevents all clients to reconnect at the same moment. */
+    static long reconnectDelay(int attempt) {
+        final long delay = Math.min(RECONNECT_MAX_DELAY, RECONNECT_BASE_DELAY << Math.min(attempt, 16));
+        return delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+    }
+
     private void connect(final URI wsUri, final Collection<String> channels) throws IOException, DeploymentException {
         Future<WSClient> clientFuture = connections.get(wsUri);
         if (clientFuture == null) {
@@ -181,9 +258,12 @@ public final class WSocketEventBusClient {
         final URI         wsUri;
         final Set<String> channels;
 
+        final ExecutorService dispatcher;
+
         WSocketListener(URI wsUri, Collection<String> channels) {
             this.wsUri = wsUri;
             this.channels = new HashSet<>(channels);
+            this.dispatcher = dispatchers[Math.abs(wsUri.hashCode() % dispatchers.length)];
         }
 
         @Override
@@ -192,12 +272,29 @@ public final class WSocketEventBusClient {
             LOG.info("Close connection to {} with status {} message {}. ", wsUri, status, message);
             LOG.info("Init connection task {}", wsUri);
             if (start.get()) {
-                executor.execute(new ConnectTask(wsUri, channels));
+                reconnects.incrementAndGet();
+                try {
+                    reconnectScheduler.schedule(new ConnectTask(wsUri, channels), reconnectDelay(0), TimeUnit.MILLISECONDS);
+                } catch (RejectedExecutionException e) {
+                    LOG.debug("Reconnect to {} is cancelled, client is stopped", wsUri);
+                }
             }
         }
 
         @Override
         public void onMessage(String data) {
+            try {
+                dispatcher.execute(() -> dispatch(data));
+            } catch (RejectedExecutionException e) {
+                if (start.get()) {
+                    LOG.warn("Message from {} is skipped, {}", wsUri, e.getMessage());
+                } else {
+                    LOG.debug("Message from {} is skipped, client is stopped", wsUri);
+                }
+            }
+        }
+
+        private void dispatch(String data) {
             try {
                 final RestOutputMessage message = messageConverter.fromString(data, RestOutputMessage.class);
                 if (message != null && message.getHeaders() != null) {
@@ -207,6 +304,7 @@ public final class WSocketEventBusClient {
                             if (channel != null && channels.contains(channel)) {
                                 final Object event = Messages.restoreEventFromBroadcastMessage(message);
                                 if (event != null) {
+                                    receivedEvents.incrementAndGet();
                                     eventService.publish(event);
                                 }
                             }
@@ -235,6 +333,8 @@ public final class WSocketEventBusClient {
         final URI                wsUri;
         final Collection<String> channels;
 
+        int attempt;
+
         ConnectTask(URI wsUri, Collection<String> channels) {
             this.wsUri = wsUri;
             this.channels = channels;
@@ -242,32 +342,26 @@ public final class WSocketEventBusClient {
 
         @Override
         public void run() {
-            for (; ; ) {
-
-                if (Thread.currentThread().isInterrupted()) {
-                    return;
-                }
-                LOG.debug("Start connection loop {} channels {} ", wsUri, channels);
-                try {
-                    connect(wsUri, channels);
-                    LOG.debug("Connection complete");
-                    return;
-                } catch (IOException | DeploymentException e) {
-                    LOG.warn("Not able to connect to {} because {}. Retrying ", wsUri, e.getLocalizedMessage());
-                    LOG.debug(e.getLocalizedMessage(), e);
-                    synchronized (this) {
-                        try {
-                            wait(WS_CONNECTION_TIMEOUT * 2 * 1000);
-                        } catch (InterruptedException ie) {
-                            Thread.currentThread().interrupt();
-                            return;
-                        }
-                    }
-                } catch (Throwable e) {
-                    LOG.error("Unexpected here");
-                    LOG.error(e.getLocalizedMessage(), e);
-                }
-                LOG.debug("Iteration complete");
+            if (!start.get() || Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            LOG.debug("Connect to {} channels {}, attempt {}", wsUri, channels, attempt);
+            try {
+                connect(wsUri, channels);
+                LOG.debug("Connection complete");
+                return;
+            } catch (IOException | DeploymentException e) {
+                LOG.warn("Not able to connect to {} because {}. Retrying ", wsUri, e.getLocalizedMessage());
+                LOG.debug(e.getLocalizedMessage(), e);
+            } catch (Throwable e) {
+                LOG.error("Unexpected here");
+                LOG.error(e.getLocalizedMessage(), e);
+            }
+            reconnects.incrementAndGet();
+            try {
+                reconnectScheduler.schedule(this, reconnectDelay(++attempt), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Reconnect to {} is cancelled, client is stopped", wsUri);
             }
         }
     }
@@ -10,7 +10,8 @@
  *******************************************************************************/
 package org.eclipse.che.api.core.notification;
 
-import org.everrest.websockets.WSConnectionContext;
+import org.eclipse.che.everrest.CheWSConnection;
+import org.everrest.websockets.message.ChannelBroadcastMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -22,6 +23,7 @@ import javax.ws.rs.Consumes;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.core.MediaType;
+import java.util.Collection;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -74,7 +76,16 @@ public final class WSocketEventBusServer {
     protected void propagate(Object event) {
         if (policy.shouldPropagated(event)) {
             try {
-                WSConnectionContext.sendMessage(Messages.broadcastMessage(resolveChannelName(event), event));
+                final String channel = resolveChannelName(event);
+                final Collection<CheWSConnection> subscribers = CheWSConnection.getSubscribers(channel);
+                if (subscribers.isEmpty()) {
+                    return;
+                }
+                // serialize event once and share message between all the subscribers
+                final ChannelBroadcastMessage message = Messages.broadcastMessage(channel, event);
+                for (CheWSConnection subscriber : subscribers) {
+                    subscriber.sendBroadcast(message);
+                }
             } catch (Exception e) {
                 LOG.error(e.getMessage(), e);
             }
@@ -39,12 +39,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
-import java.io.Reader;
+import java.io.PushbackInputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static java.util.Objects.requireNonNull;
@@ -57,6 +58,10 @@ import static java.util.Objects.requireNonNull;
  * <p>The instance of this request is reusable, which means that
  * it is possible to call {@link #request()} method more than one time per instance
  *
+ * <p>Connections are not closed after the response is read, so the underlying sockets are reused
+ * by the {@link HttpURLConnection} keep-alive cache, see {@code http.keepAlive} and {@code http.maxConnections}
+ * system properties. Responses compressed with gzip are accepted and decompressed transparently.
+ *
  * @author Yevhenii Voevodin
  * @see DefaultHttpJsonRequestFactory
  */
@@ -64,6 +69,7 @@ public class DefaultHttpJsonRequest implements HttpJsonRequest {
 
     private static final int      DEFAULT_QUERY_PARAMS_LIST_SIZE = 5;
     private static final Object[] EMPTY_ARRAY                    = new Object[0];
+    private static final String   GZIP_ENCODING                  = "gzip";
 
     private final String url;
 
@@ -160,6 +166,7 @@ public class DefaultHttpJsonRequest implements HttpJsonRequest {
      *
      * <p>Uses {@link HttpHeaders#AUTHORIZATION} header with value from {@link EnvironmentContext}.
      * <br>uses {@link HttpHeaders#ACCEPT} header with "application/json" value.
+     * <br>uses {@link HttpHeaders#ACCEPT_ENCODING} header with "gzip" value.
      * <br>Encodes query parameters in "UTF-8".
      *
      * @param timeout
@@ -223,6 +230,7 @@ public class DefaultHttpJsonRequest implements HttpJsonRequest {
             conn.setRequestMethod(method);
             //drop a hint for server side that we want to receive application/json
             conn.addRequestProperty(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON);
+            conn.addRequestProperty(HttpHeaders.ACCEPT_ENCODING, GZIP_ENCODING);
             if (!isNullOrEmpty(authorizationHeaderValue)) {
                 conn.setRequestProperty(HttpHeaders.AUTHORIZATION, authorizationHeaderValue);
             } else if (authToken != null) {
@@ -248,10 +256,7 @@ public class DefaultHttpJsonRequest implements HttpJsonRequest {
                 if (in == null) {
                     in = conn.getInputStream();
                 }
-                final String str;
-                try (Reader reader = new InputStreamReader(in)) {
-                    str = CharStreams.toString(reader);
-                }
+                final String str = readBody(conn, in);
                 final String contentType = conn.getContentType();
                 if (contentType != null && contentType.startsWith(MediaType.APPLICATION_JSON)) {
                     final ServiceError serviceError = DtoFactory.getInstance().createDtoFromJson(str, ServiceError.class);
@@ -281,11 +286,37 @@ public class DefaultHttpJsonRequest implements HttpJsonRequest {
                 throw new IOException(conn.getResponseMessage());
             }
 
-            try (Reader reader = new InputStreamReader(conn.getInputStream())) {
-                return new DefaultHttpJsonResponse(CharStreams.toString(reader), responseCode);
-            }
-        } finally {
+            return new DefaultHttpJsonResponse(readBody(conn, conn.getInputStream()), responseCode);
+        } catch (IOException | RuntimeException e) {
             conn.disconnect();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads response body decompressing it if needed.
+     *
+     * <p>Connection is not disconnected after the body is read, the stream is entirely consumed and closed instead,
+     * which allows {@link HttpURLConnection} to put the underlying socket back to the keep-alive cache
+     * and reuse it for the next requests to the same host.
+     */
+    private static String readBody(HttpURLConnection conn, InputStream in) throws IOException {
+        if (in == null) {
+            return "";
+        }
+        try (InputStream body = in) {
+            InputStream decoded = body;
+            if (GZIP_ENCODING.equalsIgnoreCase(conn.getContentEncoding())) {
+                // empty body, e.g. 204 response, has no gzip header at all
+                final PushbackInputStream pushback = new PushbackInputStream(body, 1);
+                final int first = pushback.read();
+                if (first == -1) {
+                    return "";
+                }
+                pushback.unread(first);
+                decoded = new GZIPInputStream(pushback);
+            }
+            return CharStreams.toString(new InputStreamReader(decoded));
         }
     }
 
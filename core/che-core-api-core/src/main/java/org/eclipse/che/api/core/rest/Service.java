@@ -25,6 +25,7 @@ import org.eclipse.che.api.core.rest.shared.dto.RequestBodyDescriptor;
 import org.eclipse.che.api.core.rest.shared.dto.ServiceDescriptor;
 import org.eclipse.che.api.core.util.PagingUtil;
 import org.eclipse.che.dto.server.DtoFactory;
+import org.eclipse.che.everrest.ETagResponseFilter;
 
 import javax.ws.rs.Consumes;
 import javax.ws.rs.CookieParam;
@@ -38,6 +39,7 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.UriBuilder;
 import javax.ws.rs.core.UriInfo;
@@ -79,6 +81,18 @@ public abstract class Service {
         return DtoFactory.getInstance().createDto(ServiceDescriptor.class);
     }
 
+    /**
+     * Stops processing of GET request with {@code 304 Not Modified} response if client
+     * already has the given version of the requested entity, otherwise returns entity tag of the version.
+     * The tag is set to the response by {@link ETagResponseFilter}, resources of the applications
+     * which don't deploy the filter should set it to the response themselves.
+     *
+     * @see ETagResponseFilter#checkNotModified(String)
+     */
+    protected EntityTag checkNotModified(String version) {
+        return ETagResponseFilter.checkNotModified(version);
+    }
+
     /**
      * Generates link header value based on given {@code page}
      * and uri returned by {@code uriInfo.getRequestUri()}.
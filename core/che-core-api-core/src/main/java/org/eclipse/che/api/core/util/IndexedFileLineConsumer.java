@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.util;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+
+/**
+ * Line consumer which writes lines to a log file and maintains a sparse line-offset index alongside it.
+ * <p/>
+ * The index file ({@code <log>.idx}) starts with the global byte offset of the current segment followed
+ * by the local byte offset of every {@link #INDEX_INTERVAL}-th line. It is used by {@link IndexedLogFile}
+ * to answer byte-range and last-N-lines queries without scanning the whole file.
+ * <p/>
+ * When the size of the current segment exceeds {@code maxSegmentSize} bytes the segment is renamed
+ * to {@code <log>.<n>}, where {@code n} grows with each rotation, and a new segment is started.
+ * Renamed segment is compressed to {@code <log>.<n>.gz} in background, so writers aren't blocked
+ * while it is compressed. Only {@code maxRotatedSegments} most recent rotated segments are kept.
+ */
+public class IndexedFileLineConsumer implements LineConsumer {
+    private static final Logger LOG = LoggerFactory.getLogger(IndexedFileLineConsumer.class);
+
+    /** Index entry is written for each line whose number is a multiple of this value. */
+    public static final int    INDEX_INTERVAL = 256;
+    public static final String INDEX_SUFFIX   = ".idx";
+    public static final String SEGMENT_SUFFIX = ".gz";
+    public static final long   UNLIMITED      = -1;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    /** Compresses rotated segments of all the logs, segments and removals of old segments are processed in rotation order. */
+    private static final ExecutorService COMPRESSOR =
+            Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("LogSegmentCompressor")
+                                                                        .setDaemon(true)
+                                                                        .build());
+
+    private final File    file;
+    private final File    indexFile;
+    private final Charset charset;
+    private final long    maxSegmentSize;
+    private final int     maxRotatedSegments;
+
+    private OutputStream     output;
+    private DataOutputStream index;
+    private long             segmentBase;
+    private long             position;
+    private long             lines;
+    private int              lastSegment;
+
+    /**
+     * @param file
+     *         log file
+     * @param maxSegmentSize
+     *         size in bytes after which the current segment is rotated, or {@link #UNLIMITED} to disable rotation
+     * @param maxRotatedSegments
+     *         number of compressed segments to keep
+     */
+    public IndexedFileLineConsumer(File file, long maxSegmentSize, int maxRotatedSegments) throws IOException {
+        this.file = file;
+        this.indexFile = getIndexFile(file);
+        this.charset = Charset.defaultCharset();
+        this.maxSegmentSize = maxSegmentSize;
+        this.maxRotatedSegments = maxRotatedSegments;
+        deleteSegments(file, 0);
+        openSegment();
+    }
+
+    public IndexedFileLineConsumer(File file) throws IOException {
+        this(file, UNLIMITED, 0);
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    @Override
+    public synchronized void writeLine(String line) throws IOException {
+        if (lines % INDEX_INTERVAL == 0) {
+            index.writeLong(position);
+            index.flush();
+        }
+        final byte[] bytes = ((line == null ? "" : line) + '\n').getBytes(charset);
+        output.write(bytes);
+        output.flush();
+        position += bytes.length;
+        lines++;
+        if (maxSegmentSize != UNLIMITED && position >= maxSegmentSize) {
+            rotate();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            output.close();
+        } finally {
+            index.close();
+        }
+    }
+
+    /** Returns index file of the specified log file. */
+    public static File getIndexFile(File file) {
+        return new File(file.getParentFile(), file.getName() + INDEX_SUFFIX);
+    }
+
+    /** Returns compressed segment of the specified log file with the specified number. */
+    public static File getSegmentFile(File file, int number) {
+        return new File(file.getParentFile(), file.getName() + '.' + number + SEGMENT_SUFFIX);
+    }
+
+    /** Returns rotated segment of the specified log file with the specified number which isn't compressed yet. */
+    public static File getUncompressedSegmentFile(File file, int number) {
+        return new File(file.getParentFile(), file.getName() + '.' + number);
+    }
+
+    /**
+     * Returns numbers of rotated segments of the specified log file in ascending order, i.e. oldest segment first.
+     * Segments which aren't compressed yet are included.
+     */
+    public static int[] getSegmentNumbers(File file) {
+        final String prefix = file.getName() + '.';
+        final String[] names = file.getParentFile().list((dir, name) -> name.startsWith(prefix));
+        if (names == null) {
+            return new int[0];
+        }
+        final SortedSet<Integer> numbers = new TreeSet<>();
+        for (String name : names) {
+            String number = name.substring(prefix.length());
+            if (number.endsWith(SEGMENT_SUFFIX)) {
+                number = number.substring(0, number.length() - SEGMENT_SUFFIX.length());
+            }
+            try {
+                numbers.add(Integer.parseInt(number));
+            } catch (NumberFormatException ignored) {
+                // not a segment of this log, e.g. index or segment which is being compressed
+            }
+        }
+        return numbers.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private void openSegment() throws IOException {
+        output = new FileOutputStream(file);
+        index = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(indexFile)));
+        index.writeLong(segmentBase);
+        index.flush();
+        position = 0;
+        lines = 0;
+    }
+
+    private void rotate() throws IOException {
+        close();
+        final int number = ++lastSegment;
+        Files.move(file.toPath(), getUncompressedSegmentFile(file, number).toPath(), ATOMIC_MOVE);
+        segmentBase += position;
+        openSegment();
+        COMPRESSOR.execute(() -> {
+            compressSegment(file, number);
+            deleteSegments(file, maxRotatedSegments);
+        });
+    }
+
+    /** Compresses rotated segment, does nothing if the segment was already removed as an old one. */
+    private static void compressSegment(File file, int number) {
+        final File uncompressed = getUncompressedSegmentFile(file, number);
+        final File compressing = new File(file.getParentFile(), getSegmentFile(file, number).getName() + ".tmp");
+        try {
+            try (InputStream in = Files.newInputStream(uncompressed.toPath());
+                 OutputStream out = new GZIPOutputStream(new FileOutputStream(compressing), BUFFER_SIZE)) {
+                final byte[] buffer = new byte[BUFFER_SIZE];
+                int r;
+                while ((r = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, r);
+                }
+            }
+            // readers switch to compressed segment once it is complete
+            Files.move(compressing.toPath(), getSegmentFile(file, number).toPath(), ATOMIC_MOVE);
+            Files.delete(uncompressed.toPath());
+        } catch (NoSuchFileException ignored) {
+            // segment is removed together with its log
+        } catch (IOException e) {
+            LOG.error(String.format("Unable to compress segment %s of log %s. Error: %s", number, file, e.getMessage()), e);
+            compressing.delete();
+        }
+    }
+
+    /** Removes rotated segments of the specified log file keeping {@code keep} most recent of them. */
+    private static void deleteSegments(File file, int keep) {
+        final int[] numbers = getSegmentNumbers(file);
+        for (int i = 0; i < numbers.length - keep; i++) {
+            getSegmentFile(file, numbers[i]).delete();
+            getUncompressedSegmentFile(file, numbers[i]).delete();
+        }
+    }
+}
@@ -0,0 +1,280 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.util;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.io.Reader;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.eclipse.che.api.core.util.IndexedFileLineConsumer.INDEX_INTERVAL;
+
+/**
+ * Read access to a log file written by {@link IndexedFileLineConsumer}.
+ * <p/>
+ * Offsets used by this class are global, i.e. they keep growing across rotations of the log.
+ * Byte-range and tail queries are served from the current (not compressed) segment only,
+ * offsets which point into already rotated segments are moved to the start of the current one.
+ * So right after a rotation a tail query may return fewer lines than requested and a range query
+ * may skip content of the previous segment.
+ * Full content of the log, including rotated segments, is available with {@link #openReader()}.
+ * Log files written without index are supported as well, but each query requires scanning of the file.
+ */
+public class IndexedLogFile {
+    private static final int  BUFFER_SIZE        = 8192;
+    private static final long FOLLOW_INTERVAL_MS = 250;
+
+    private final File file;
+    private final File indexFile;
+
+    // part of the index which was already read, guarded by this
+    private long   indexBase;
+    private long[] indexOffsets = new long[]{0};
+    private int    indexSize;
+    private long   indexLength;
+
+    public IndexedLogFile(File file) {
+        this.file = file;
+        this.indexFile = IndexedFileLineConsumer.getIndexFile(file);
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public boolean exists() {
+        return file.isFile();
+    }
+
+    /** Returns global offset of the first byte of the current segment. */
+    public long getStartOffset() throws IOException {
+        return readIndex().base;
+    }
+
+    /** Returns global offset right after the last byte written to the log. */
+    public long getEndOffset() throws IOException {
+        return readIndexBase() + file.length();
+    }
+
+    /** Opens reader over the whole log, including compressed segments which weren't deleted yet. */
+    public Reader openReader() throws IOException {
+        final List<InputStream> streams = new ArrayList<>();
+        try {
+            for (int number : IndexedFileLineConsumer.getSegmentNumbers(file)) {
+                streams.add(openSegment(number));
+            }
+            streams.add(new FileInputStream(file));
+        } catch (IOException e) {
+            for (InputStream stream : streams) {
+                stream.close();
+            }
+            throw e;
+        }
+        return new InputStreamReader(new BufferedInputStream(new SequenceInputStream(Collections.enumeration(streams))),
+                                     Charset.defaultCharset());
+    }
+
+    /**
+     * Finds global offset of the first of the last {@code lines} lines of the log.
+     * Only the current segment is taken into account, see class description.
+     */
+    public long findTail(int lines) throws IOException {
+        final Index index = readIndex();
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            final long length = raf.length();
+            final int last = index.offsets.length - 1;
+            final long lastIndexed = index.offsets[last];
+            final long total = (long)last * INDEX_INTERVAL + countLines(raf, lastIndexed, length);
+            final long target = Math.max(0, total - lines);
+            final int entry = (int)Math.min(target / INDEX_INTERVAL, last);
+            final long offset = skipLines(raf, index.offsets[entry], length, target - (long)entry * INDEX_INTERVAL);
+            return index.base + offset;
+        }
+    }
+
+    /**
+     * Copies at most {@code length} bytes of the current segment of the log starting from the global offset {@code from}
+     * to the given output stream.
+     *
+     * @return global offset right after the last copied byte, it should be used for the next read
+     */
+    public long copyRange(long from, long length, OutputStream output) throws IOException {
+        final long base = readIndexBase();
+        long position = Math.max(from, base) - base;
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            final long end = length < 0 ? raf.length() : Math.min(raf.length(), position + length);
+            raf.seek(position);
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            while (position < end) {
+                final int r = raf.read(buffer, 0, (int)Math.min(buffer.length, end - position));
+                if (r == -1) {
+                    break;
+                }
+                output.write(buffer, 0, r);
+                position += r;
+            }
+        }
+        return base + position;
+    }
+
+    /**
+     * Waits until the log grows beyond the given global offset or timeout expires.
+     *
+     * @return global offset right after the last byte written to the log
+     */
+    public long awaitData(long offset, long timeoutMs) throws IOException, InterruptedException {
+        final long deadline = System.currentTimeMillis() + timeoutMs;
+        long end = getEndOffset();
+        while (end <= offset && System.currentTimeMillis() < deadline) {
+            Thread.sleep(FOLLOW_INTERVAL_MS);
+            end = getEndOffset();
+        }
+        return end;
+    }
+
+    /**
+     * Opens rotated segment, segment which isn't compressed yet is read as is.
+     * Compressed segment is preferred since plain one is removed right after compression.
+     */
+    private InputStream openSegment(int number) throws IOException {
+        final File compressed = IndexedFileLineConsumer.getSegmentFile(file, number);
+        if (!compressed.isFile()) {
+            try {
+                return new FileInputStream(IndexedFileLineConsumer.getUncompressedSegmentFile(file, number));
+            } catch (FileNotFoundException e) {
+                // compressed in the meantime
+            }
+        }
+        return new GZIPInputStream(new FileInputStream(compressed));
+    }
+
+    private synchronized long readIndexBase() throws IOException {
+        updateIndex();
+        return indexBase;
+    }
+
+    private synchronized Index readIndex() throws IOException {
+        updateIndex();
+        return new Index(indexBase, Arrays.copyOf(indexOffsets, Math.max(1, indexSize)));
+    }
+
+    /**
+     * Reads entries which were added to the index since the previous read.
+     * Index is read from the beginning when it is recreated or the log is rotated, i.e. when its base changes.
+     */
+    private void updateIndex() throws IOException {
+        if (!indexFile.isFile()) {
+            resetIndex(0);
+            return;
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(indexFile, "r")) {
+            final long length = raf.length();
+            if (length < Long.BYTES) {
+                // index which is being created right now
+                resetIndex(0);
+                return;
+            }
+            final long base = raf.readLong();
+            if (base != indexBase || length < indexLength || indexLength == 0) {
+                resetIndex(base);
+                indexLength = Long.BYTES;
+            }
+            // skip entry which is being written right now
+            final int newEntries = (int)((length - indexLength) / Long.BYTES);
+            if (newEntries == 0) {
+                return;
+            }
+            if (indexSize + newEntries > indexOffsets.length) {
+                indexOffsets = Arrays.copyOf(indexOffsets, Math.max(indexOffsets.length * 2, indexSize + newEntries));
+            }
+            final byte[] entries = new byte[newEntries * Long.BYTES];
+            raf.seek(indexLength);
+            raf.readFully(entries);
+            ByteBuffer.wrap(entries).asLongBuffer().get(indexOffsets, indexSize, newEntries);
+            indexSize += newEntries;
+            indexLength += (long)newEntries * Long.BYTES;
+        }
+    }
+
+    private void resetIndex(long base) {
+        indexBase = base;
+        indexOffsets = new long[]{0};
+        indexSize = 0;
+        indexLength = 0;
+    }
+
+    private static long countLines(RandomAccessFile raf, long from, long to) throws IOException {
+        raf.seek(from);
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        long position = from;
+        long lines = 0;
+        while (position < to) {
+            final int r = raf.read(buffer, 0, (int)Math.min(buffer.length, to - position));
+            if (r == -1) {
+                break;
+            }
+            for (int i = 0; i < r; i++) {
+                if (buffer[i] == '\n') {
+                    lines++;
+                }
+            }
+            position += r;
+        }
+        return lines;
+    }
+
+    private static long skipLines(RandomAccessFile raf, long from, long to, long lines) throws IOException {
+        if (lines == 0) {
+            return from;
+        }
+        raf.seek(from);
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        long position = from;
+        long skipped = 0;
+        while (position < to) {
+            final int r = raf.read(buffer, 0, (int)Math.min(buffer.length, to - position));
+            if (r == -1) {
+                break;
+            }
+            for (int i = 0; i < r; i++) {
+                if (buffer[i] == '\n' && ++skipped == lines) {
+                    return position + i + 1;
+                }
+            }
+            position += r;
+        }
+        return position;
+    }
+
+    private static class Index {
+        final long   base;
+        final long[] offsets;
+
+        Index(long base, long[] offsets) {
+            this.base = base;
+            this.offsets = offsets;
+        }
+    }
+}
@@ -12,16 +12,66 @@ package org.eclipse.che.everrest;
 
 import static org.eclipse.che.everrest.ServerContainerInitializeListener.ENVIRONMENT_CONTEXT;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import org.everrest.websockets.WSConnectionImpl;
+import org.everrest.websockets.message.OutputMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import javax.websocket.CloseReason;
 import javax.websocket.EndpointConfig;
 import javax.websocket.Session;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
+ * Keeps registry of connections subscribed to each channel and delivers broadcast messages
+ * through per-connection outbound queues, so a connection which doesn't keep up with messages
+ * delays only its own messages. When the queue of a connection is full new messages
+ * for that connection are dropped until it catches up.
+ * <p/>
+ * Queues are drained by a fixed pool of sender threads, each drain sends a limited batch of messages
+ * and then gives the thread to other connections.
+ *
  * @author Sergii Kabashniuk
  */
 public class CheWSConnection extends WSConnectionImpl {
+    private static final Logger LOG = LoggerFactory.getLogger(CheWSConnection.class);
+
+    /** Max number of broadcast messages waiting to be sent to a single connection. */
+    static final int MAX_PENDING_MESSAGES = 1000;
+    /** Max number of messages which are sent to a connection before the sender thread is given to other connections. */
+    static final int MAX_MESSAGES_PER_DRAIN = 100;
+
+    private static final Map<String, Set<CheWSConnection>> SUBSCRIBERS = new ConcurrentHashMap<>();
+    private static final ExecutorService                   SENDER      =
+            Executors.newFixedThreadPool(2 * Runtime.getRuntime().availableProcessors(),
+                                         new ThreadFactoryBuilder().setNameFormat("WSConnectionSender-%d")
+                                                                   .setDaemon(true)
+                                                                   .build());
+
+    private final Set<String>          channels    = ConcurrentHashMap.newKeySet();
+    private final Queue<OutputMessage> pending     = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger        pendingSize = new AtomicInteger();
+    private final AtomicBoolean        draining    = new AtomicBoolean();
+    private volatile boolean           slow;
+
+    /** Returns connections subscribed to the channel. */
+    public static Collection<CheWSConnection> getSubscribers(String channel) {
+        final Set<CheWSConnection> subscribers = SUBSCRIBERS.get(channel);
+        return subscribers == null ? Collections.emptySet() : Collections.unmodifiableSet(subscribers);
+    }
+
     @Override
     public void onOpen(Session session, EndpointConfig config) {
         final Map<String, Object> userProperties = config.getUserProperties();
@@ -29,4 +79,94 @@ public class CheWSConnection extends WSConnectionImpl {
         super.onOpen(session, config);
 
     }
+
+    @Override
+    public void onClose(Session session, CloseReason closeReason) {
+        for (String channel : channels) {
+            removeSubscriber(channel);
+        }
+        channels.clear();
+        pending.clear();
+        pendingSize.set(0);
+        super.onClose(session, closeReason);
+    }
+
+    @Override
+    public boolean subscribeToChannel(String channel) {
+        final boolean subscribed = super.subscribeToChannel(channel);
+        channels.add(channel);
+        SUBSCRIBERS.compute(channel, (c, subscribers) -> {
+            final Set<CheWSConnection> result = subscribers == null ? ConcurrentHashMap.newKeySet() : subscribers;
+            result.add(this);
+            return result;
+        });
+        return subscribed;
+    }
+
+    @Override
+    public boolean unsubscribeFromChannel(String channel) {
+        final boolean unsubscribed = super.unsubscribeFromChannel(channel);
+        channels.remove(channel);
+        removeSubscriber(channel);
+        return unsubscribed;
+    }
+
+    /**
+     * Queues message to be sent to this connection asynchronously.
+     * The same message instance may be shared between all the subscribers of a channel.
+     *
+     * @return {@code false} if message is dropped because this connection has too many pending messages
+     */
+    public boolean sendBroadcast(OutputMessage message) {
+        if (pendingSize.incrementAndGet() > MAX_PENDING_MESSAGES) {
+            pendingSize.decrementAndGet();
+            if (!slow) {
+                slow = true;
+                LOG.warn("Connection {} has {} pending messages, new messages are dropped until it catches up",
+                         getId(), MAX_PENDING_MESSAGES);
+            }
+            return false;
+        }
+        pending.offer(message);
+        scheduleDrain();
+        return true;
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            SENDER.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            OutputMessage message;
+            int sent = 0;
+            while (sent < MAX_MESSAGES_PER_DRAIN && (message = pending.poll()) != null) {
+                pendingSize.decrementAndGet();
+                sent++;
+                try {
+                    sendMessage(message);
+                } catch (Exception e) {
+                    LOG.debug(e.getMessage(), e);
+                }
+            }
+            if (pending.isEmpty()) {
+                slow = false;
+            }
+        } finally {
+            draining.set(false);
+        }
+        // rest of the batch or message which was queued after the loop exited but before the flag was reset
+        if (!pending.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+
+    private void removeSubscriber(String channel) {
+        SUBSCRIBERS.computeIfPresent(channel, (c, subscribers) -> {
+            subscribers.remove(this);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
 }
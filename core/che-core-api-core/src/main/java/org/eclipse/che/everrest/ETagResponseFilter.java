@@ -23,6 +23,7 @@ import org.everrest.core.ResponseFilter;
 import org.everrest.core.impl.ApplicationContextImpl;
 
 import javax.ws.rs.HttpMethod;
+import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Request;
@@ -40,11 +41,17 @@ import static org.eclipse.che.everrest.ETagResponseFilter.EntityType.UNKNOWN;
  * requests.
  * It is applying on GET method and JSON content type only.
  *
+ * <p>If resource method declared version of the entity with {@link #checkNotModified(String)},
+ * the version is used as ETag and entity hash is not computed.
+ *
  * @author Florent Benoit
  */
 @Filter
 public class ETagResponseFilter implements ResponseFilter {
 
+    /** Name of the request attribute which holds entity tag declared by resource method. */
+    public static final String ENTITY_TAG_ATTRIBUTE = ETagResponseFilter.class.getName() + ".entityTag";
+
     public enum EntityType {
         JSON_SERIALIZABLE,
         STRING,
@@ -81,6 +88,13 @@ public class ETagResponseFilter implements ResponseFilter {
             return;
         }
 
+        // entity version was declared by resource, so there is no need to hash entity
+        final Object declaredTag = applicationContext.getAttributes().get(ENTITY_TAG_ATTRIBUTE);
+        if (declaredTag instanceof EntityTag) {
+            containerResponse.setResponse(Response.fromResponse(containerResponse.getResponse()).tag((EntityTag)declaredTag).build());
+            return;
+        }
+
         // calculate hash with MD5
         HashFunction hashFunction = Hashing.md5();
         Hasher hasher = hashFunction.newHasher();
@@ -123,6 +137,39 @@ public class ETagResponseFilter implements ResponseFilter {
 
     }
 
+    /**
+     * Checks whether client already has the given version of the requested entity.
+     *
+     * <p>Should be called by GET resource methods before loading the entity. If the version matches
+     * the {@code If-None-Match} request header, the request processing is stopped with {@code 304 Not Modified} response,
+     * otherwise the version is used as ETag of the response by the filter. The version must change each time the entity
+     * is modified, e.g. it may be a modification counter or a modification date.
+     *
+     * @param version
+     *         version of the requested entity, if it is {@code null} the method does nothing
+     * @return entity tag of the version, so resource may set it to the response when the filter isn't deployed,
+     * or {@code null} if version is {@code null} or request method is not GET
+     * @throws WebApplicationException
+     *         with {@code 304 Not Modified} response when client has the actual version of the entity
+     */
+    public static EntityTag checkNotModified(String version) throws WebApplicationException {
+        if (version == null) {
+            return null;
+        }
+        final ApplicationContext applicationContext = ApplicationContextImpl.getCurrent();
+        final Request request = applicationContext.getRequest();
+        if (!HttpMethod.GET.equals(request.getMethod())) {
+            return null;
+        }
+        final EntityTag entityTag = new EntityTag(version);
+        final Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+        if (notModified != null) {
+            throw new WebApplicationException(notModified.tag(entityTag).build());
+        }
+        applicationContext.getAttributes().put(ENTITY_TAG_ATTRIBUTE, entityTag);
+        return entityTag;
+    }
+
     /**
      * Helper method to add entity to hash. If there is an invalid entity type it will return false
      *
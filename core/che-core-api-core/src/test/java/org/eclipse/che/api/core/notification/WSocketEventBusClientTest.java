@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.notification;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link WSocketEventBusClient}.
+ */
+public class WSocketEventBusClientTest {
+
+    @Test
+    public void reconnectDelayShouldGrowExponentiallyWithJitter() {
+        for (int i = 0; i < 100; i++) {
+            final long first = WSocketEventBusClient.reconnectDelay(0);
+            final long third = WSocketEventBusClient.reconnectDelay(2);
+            assertTrue(first >= 500 && first <= 1000, "delay " + first);
+            assertTrue(third >= 2000 && third <= 4000, "delay " + third);
+        }
+    }
+
+    @Test
+    public void reconnectDelayShouldBeLimited() {
+        for (int attempt : new int[] {10, 20, 100}) {
+            final long delay = WSocketEventBusClient.reconnectDelay(attempt);
+            assertTrue(delay >= 30 * 1000 && delay <= 60 * 1000, "delay " + delay);
+        }
+    }
+}
@@ -260,6 +260,27 @@ public class DefaultHttpJsonRequestTest {
         assertEquals(request.request().asString(), TestService.JSON_OBJECT);
     }
 
+    @Test
+    public void shouldReadGzippedJsonBody(ITestContext ctx) throws Exception {
+        final DefaultHttpJsonRequest request = new DefaultHttpJsonRequest(getUrl(ctx) + "/gzip/application-json");
+        request.useGetMethod();
+
+        assertEquals(request.request().asString(), TestService.JSON_OBJECT);
+    }
+
+    @Test(expectedExceptions = ConflictException.class, expectedExceptionsMessageRegExp = "gzip response code test method")
+    public void shouldReadGzippedErrorBody(ITestContext ctx) throws Exception {
+        new DefaultHttpJsonRequest(getUrl(ctx) + "/gzip/409/response-code-test").useGetMethod().request();
+    }
+
+    @Test
+    public void shouldReadEmptyGzippedBody(ITestContext ctx) throws Exception {
+        final DefaultHttpJsonRequest request = new DefaultHttpJsonRequest(getUrl(ctx) + "/gzip/empty");
+        request.useGetMethod();
+
+        assertEquals(request.request().asString(), "");
+    }
+
     @Test
     public void shouldEncodeRequestUrlInDefaultHttpJsonRequestAndDecodeInService(ITestContext ctx) throws Exception {
         final String base = getUrl(ctx) + "/decode";
@@ -30,11 +30,16 @@ import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URLDecoder;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
@@ -126,4 +131,41 @@ public class TestService extends Service {
                        .header("Link", createLinkHeader(page, "getStringList", singletonMap("query-param", param), value))
                        .build();
     }
+
+    @GET
+    @Path("/gzip/application-json")
+    @Produces(APPLICATION_JSON)
+    public Response getGzippedJsonObject() throws IOException {
+        return gzipped(Response.ok(), gzip(JSON_OBJECT));
+    }
+
+    @GET
+    @Path("/gzip/{response-code}/response-code-test")
+    @Produces(APPLICATION_JSON)
+    public Response getGzippedResponseCode(@PathParam("response-code") int responseCode) throws IOException {
+        final ServiceError error = DtoFactory.newDto(ServiceError.class).withMessage("gzip response code test method");
+        return gzipped(Response.status(responseCode), gzip(DtoFactory.getInstance().toJson(error)));
+    }
+
+    @GET
+    @Path("/gzip/empty")
+    @Produces(APPLICATION_JSON)
+    public Response getGzippedEmptyBody() {
+        return gzipped(Response.ok(), new byte[0]);
+    }
+
+    private static Response gzipped(Response.ResponseBuilder builder, byte[] body) {
+        return builder.entity(body)
+                      .type(APPLICATION_JSON)
+                      .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                      .build();
+    }
+
+    private static byte[] gzip(String content) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(content.getBytes(UTF_8));
+        }
+        return bytes.toByteArray();
+    }
 }
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.util;
+
+import com.google.common.io.CharStreams;
+import com.google.common.io.Files;
+
+import org.eclipse.che.commons.lang.IoUtil;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.Reader;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link IndexedLogFile} and {@link IndexedFileLineConsumer}.
+ */
+public class IndexedLogFileTest {
+    private File dir;
+    private File log;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        dir = Files.createTempDir();
+        log = new File(dir, "log");
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        IoUtil.deleteRecursive(dir);
+    }
+
+    @Test
+    public void shouldFindTailUsingIndex() throws Exception {
+        writeLines(new IndexedFileLineConsumer(log), 0, 1000);
+
+        final IndexedLogFile logFile = new IndexedLogFile(log);
+
+        assertEquals(read(logFile, logFile.findTail(3), -1), "line997\nline998\nline999\n");
+        assertEquals(logFile.findTail(2000), 0);
+    }
+
+    @Test
+    public void shouldReadRangeAndReturnNextOffset() throws Exception {
+        writeLines(new IndexedFileLineConsumer(log), 0, 10);
+
+        final IndexedLogFile logFile = new IndexedLogFile(log);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final long next = logFile.copyRange(6, 6, out);
+
+        assertEquals(out.toString(), "line1\n");
+        assertEquals(next, 12);
+        assertEquals(logFile.getEndOffset(), log.length());
+    }
+
+    @Test
+    public void shouldRotateAndCompressOldSegments() throws Exception {
+        writeLines(new IndexedFileLineConsumer(log, 60, 2), 0, 50);
+
+        final IndexedLogFile logFile = new IndexedLogFile(log);
+
+        awaitCompression();
+        assertEquals(IndexedFileLineConsumer.getSegmentNumbers(log).length, 2);
+        for (int number : IndexedFileLineConsumer.getSegmentNumbers(log)) {
+            assertTrue(IndexedFileLineConsumer.getSegmentFile(log, number).isFile());
+        }
+        assertTrue(logFile.getStartOffset() > 0);
+        assertEquals(logFile.getEndOffset(), logFile.getStartOffset() + log.length());
+        assertEquals(read(logFile, logFile.findTail(1), -1), "line49\n");
+        try (Reader reader = logFile.openReader()) {
+            assertTrue(CharStreams.toString(reader).endsWith("line48\nline49\n"));
+        }
+    }
+
+    @Test
+    public void shouldReadSegmentWhichIsNotCompressedYet() throws Exception {
+        writeLines(new IndexedFileLineConsumer(log), 0, 2);
+        assertTrue(log.renameTo(IndexedFileLineConsumer.getUncompressedSegmentFile(log, 1)));
+        writeLines(new FileLineConsumer(log), 2, 3);
+
+        try (Reader reader = new IndexedLogFile(log).openReader()) {
+            assertEquals(CharStreams.toString(reader), "line0\nline1\nline2\n");
+        }
+    }
+
+    @Test
+    public void shouldReadOnlyNewIndexEntriesWhenLogGrows() throws Exception {
+        final IndexedLogFile logFile = new IndexedLogFile(log);
+        try (IndexedFileLineConsumer consumer = new IndexedFileLineConsumer(log, 6000, 1)) {
+            append(consumer, 0, 300);
+            assertEquals(read(logFile, logFile.findTail(1), -1), "line299\n");
+
+            append(consumer, 300, 600);
+            assertEquals(read(logFile, logFile.findTail(2), -1), "line598\nline599\n");
+            assertEquals(logFile.getEndOffset(), logFile.getStartOffset() + log.length());
+
+            // rotation restarts the index
+            append(consumer, 600, 1000);
+            assertTrue(logFile.getStartOffset() > 0);
+            assertEquals(read(logFile, logFile.findTail(1), -1), "line999\n");
+        }
+    }
+
+    @Test
+    public void shouldReadLogWrittenWithoutIndex() throws Exception {
+        writeLines(new FileLineConsumer(log), 0, 300);
+
+        final IndexedLogFile logFile = new IndexedLogFile(log);
+
+        assertEquals(read(logFile, logFile.findTail(1), -1), "line299\n");
+    }
+
+    @Test
+    public void shouldReturnImmediatelyWhenDataIsAvailable() throws Exception {
+        writeLines(new IndexedFileLineConsumer(log), 0, 1);
+
+        assertEquals(new IndexedLogFile(log).awaitData(0, 60_000), log.length());
+    }
+
+    private static void writeLines(LineConsumer consumer, int from, int to) throws Exception {
+        try (LineConsumer c = consumer) {
+            append(c, from, to);
+        }
+    }
+
+    private static void append(LineConsumer consumer, int from, int to) throws Exception {
+        for (int i = from; i < to; i++) {
+            consumer.writeLine("line" + i);
+        }
+    }
+
+    /** Waits until rotated segments are compressed in background. */
+    private void awaitCompression() throws Exception {
+        final long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline && !isCompressed()) {
+            Thread.sleep(20);
+        }
+    }
+
+    private boolean isCompressed() {
+        final int[] numbers = IndexedFileLineConsumer.getSegmentNumbers(log);
+        for (int number : numbers) {
+            if (!IndexedFileLineConsumer.getSegmentFile(log, number).isFile()
+                || IndexedFileLineConsumer.getUncompressedSegmentFile(log, number).exists()) {
+                return false;
+            }
+        }
+        return numbers.length <= 2;
+    }
+
+    private static String read(IndexedLogFile logFile, long from, long length) throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        logFile.copyRange(from, length, out);
+        return out.toString();
+    }
+}
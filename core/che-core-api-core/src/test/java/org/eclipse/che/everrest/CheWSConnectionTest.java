@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.everrest;
+
+import org.everrest.websockets.message.ChannelBroadcastMessage;
+import org.everrest.websockets.message.OutputMessage;
+import org.testng.annotations.Test;
+
+import javax.websocket.CloseReason;
+import javax.websocket.Session;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static javax.websocket.CloseReason.CloseCodes.NORMAL_CLOSURE;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link CheWSConnection}.
+ */
+public class CheWSConnectionTest {
+
+    @Test
+    public void shouldReturnOnlyConnectionsSubscribedToChannel() throws Exception {
+        final CheWSConnection first = new RecordingConnection();
+        final CheWSConnection second = new RecordingConnection();
+
+        first.subscribeToChannel("subscribers-a");
+        second.subscribeToChannel("subscribers-a");
+        second.subscribeToChannel("subscribers-b");
+
+        assertEquals(new HashSet<>(CheWSConnection.getSubscribers("subscribers-a")), new HashSet<>(asList(first, second)));
+        assertEquals(new HashSet<>(CheWSConnection.getSubscribers("subscribers-b")), Collections.singleton(second));
+        assertTrue(CheWSConnection.getSubscribers("subscribers-c").isEmpty());
+
+        second.unsubscribeFromChannel("subscribers-a");
+
+        assertEquals(new HashSet<>(CheWSConnection.getSubscribers("subscribers-a")), Collections.singleton(first));
+    }
+
+    @Test
+    public void shouldRemoveClosedConnectionFromSubscribersOfItsChannels() throws Exception {
+        final CheWSConnection closed = new RecordingConnection();
+        final CheWSConnection open = new RecordingConnection();
+        closed.subscribeToChannel("closed-a");
+        closed.subscribeToChannel("closed-b");
+        open.subscribeToChannel("closed-b");
+
+        closed.onClose(mock(Session.class), new CloseReason(NORMAL_CLOSURE, null));
+
+        assertTrue(CheWSConnection.getSubscribers("closed-a").isEmpty());
+        assertEquals(new HashSet<>(CheWSConnection.getSubscribers("closed-b")), Collections.singleton(open));
+    }
+
+    @Test
+    public void shouldDeliverBroadcastsInOrderOfSending() throws Exception {
+        final RecordingConnection connection = new RecordingConnection();
+        final List<OutputMessage> messages = new ArrayList<>();
+        for (int i = 0; i < CheWSConnection.MAX_MESSAGES_PER_DRAIN * 2 + 1; i++) {
+            final OutputMessage message = new ChannelBroadcastMessage();
+            messages.add(message);
+            assertTrue(connection.sendBroadcast(message));
+        }
+
+        assertEquals(connection.awaitSent(messages.size()), messages);
+    }
+
+    @Test
+    public void shouldDropBroadcastsWhenConnectionHasTooManyPendingMessages() throws Exception {
+        final RecordingConnection connection = new RecordingConnection();
+        connection.block();
+        // first message is taken from the queue by the sender which is blocked on sending it
+        assertTrue(connection.sendBroadcast(new ChannelBroadcastMessage()));
+        assertTrue(connection.sending.await(5, SECONDS));
+        for (int i = 0; i < CheWSConnection.MAX_PENDING_MESSAGES; i++) {
+            assertTrue(connection.sendBroadcast(new ChannelBroadcastMessage()));
+        }
+
+        assertFalse(connection.sendBroadcast(new ChannelBroadcastMessage()));
+
+        connection.unblock();
+        assertEquals(connection.awaitSent(CheWSConnection.MAX_PENDING_MESSAGES + 1).size(), CheWSConnection.MAX_PENDING_MESSAGES + 1);
+        // connection caught up, so messages are accepted again
+        assertTrue(connection.sendBroadcast(new ChannelBroadcastMessage()));
+        assertEquals(connection.awaitSent(CheWSConnection.MAX_PENDING_MESSAGES + 2).size(), CheWSConnection.MAX_PENDING_MESSAGES + 2);
+    }
+
+    private static class RecordingConnection extends CheWSConnection {
+        private final List<OutputMessage> sent    = new ArrayList<>();
+        private final CountDownLatch      sending = new CountDownLatch(1);
+
+        private volatile CountDownLatch release = new CountDownLatch(0);
+
+        @Override
+        public void sendMessage(OutputMessage message) {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (sent) {
+                sent.add(message);
+                sent.notifyAll();
+            }
+        }
+
+        void block() {
+            release = new CountDownLatch(1);
+        }
+
+        void unblock() {
+            release.countDown();
+        }
+
+        List<OutputMessage> awaitSent(int count) throws InterruptedException {
+            final long deadline = System.currentTimeMillis() + SECONDS.toMillis(5);
+            synchronized (sent) {
+                long timeout;
+                while (sent.size() < count && (timeout = deadline - System.currentTimeMillis()) > 0) {
+                    sent.wait(timeout);
+                }
+                return new ArrayList<>(sent);
+            }
+        }
+    }
+}
@@ -82,6 +82,14 @@ public class ETagResponseFilterTest {
         }
 
 
+        @GET
+        @Path("/versioned")
+        @Produces(APPLICATION_JSON)
+        public String getVersioned() {
+            ETagResponseFilter.checkNotModified("version-1");
+            return "versioned";
+        }
+
         @GET
         @Path("/modify")
         @Produces(APPLICATION_JSON)
@@ -221,4 +229,32 @@ public class ETagResponseFilterTest {
         Assert.assertNull(response.getEntity());
     }
 
+    /**
+     * Check if declared version is used as ETag instead of entity hash
+     */
+    @Test
+    public void useDeclaredVersionAsETag() throws Exception {
+
+        final ContainerResponse response = resourceLauncher.service(HttpMethod.GET, SERVICE_PATH + "/versioned", BASE_URI, null, null, null);
+        assertEquals(response.getStatus(), OK.getStatusCode());
+        Assert.assertEquals(response.getEntity(), "versioned");
+        List<Object> headerTags = response.getHttpHeaders().get("ETag");
+        Assert.assertNotNull(headerTags);
+        Assert.assertEquals(headerTags.size(), 1);
+        Assert.assertEquals(headerTags.get(0), new EntityTag("version-1"));
+    }
+
+    /**
+     * Check if request with declared version in header is redirecting to NOT_MODIFIED
+     */
+    @Test
+    public void declaredVersionWithEtag() throws Exception {
+
+        Map<String, List<String>> headers = new HashMap<>();
+        headers.put("If-None-Match", Collections.singletonList(new EntityTag("version-1").toString()));
+
+        final ContainerResponse response = resourceLauncher.service(HttpMethod.GET, SERVICE_PATH + "/versioned", BASE_URI, headers, null, null);
+        assertEquals(response.getStatus(), NOT_MODIFIED.getStatusCode());
+        Assert.assertNull(response.getEntity());
+    }
 }
@@ -22,6 +22,7 @@ import java.io.FileOutputStream;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.LinkedList;
 
 /**
@@ -80,7 +81,15 @@ public class TarUtils {
     }
 
     public static void tarFiles(File tar, long modTime, File... files) throws IOException {
-        try (TarArchiveOutputStream tarOut = new TarArchiveOutputStream(new BufferedOutputStream(new FileOutputStream(tar)))) {
+        tarFiles(new FileOutputStream(tar), modTime, files);
+    }
+
+    /**
+     * Writes tar archive of {@code files} to {@code output}, so archive may be streamed without saving it to a file.
+     * Output stream is closed after archive is written.
+     */
+    public static void tarFiles(OutputStream output, long modTime, File... files) throws IOException {
+        try (TarArchiveOutputStream tarOut = new TarArchiveOutputStream(new BufferedOutputStream(output))) {
             tarOut.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
             for (File f : files) {
                 if (f.isDirectory()) {
@@ -22,6 +22,7 @@ import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
 import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 import javax.xml.xpath.XPathFactoryConfigurationException;
@@ -34,9 +35,11 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 import static javax.xml.XMLConstants.FEATURE_SECURE_PROCESSING;
 import static javax.xml.stream.XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES;
@@ -72,6 +75,7 @@ import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
 import static javax.xml.xpath.XPathConstants.NODESET;
 import static javax.xml.xpath.XPathConstants.STRING;
 import static org.w3c.dom.Node.CDATA_SECTION_NODE;
+import static org.w3c.dom.Node.ELEMENT_NODE;
 import static org.w3c.dom.Node.TEXT_NODE;
 
 /**
@@ -174,6 +178,28 @@ public final class XMLTree {
     private static final XPathFactory           XPATH_FACTORY            = XPathFactory.newInstance();
     private static final String                 ROOT_TEMPLATE            = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<%s>\n</%s>";
     private static final int                    EXPECTED_NAMESPACES_SIZE = 2;
+    private static final int                    XPATH_CACHE_SIZE         = 256;
+
+    /**
+     * Matches absolute location paths which consist only of child element steps without prefixes
+     * and predicates e.g. {@code /project/build/finalName}, such paths are resolved without XPath.
+     */
+    private static final Pattern SIMPLE_PATH = Pattern.compile("(/[A-Za-z_][A-Za-z0-9_.\\-]*)+");
+
+    /**
+     * Neither {@link XPath} nor {@link XPathExpression} is thread-safe,
+     * so compiled expressions are cached per thread.
+     */
+    private static final ThreadLocal<XPathCache> XPATH_CACHE = ThreadLocal.withInitial(XPathCache::new);
+
+    /** Document builders are reusable but not thread-safe, so each thread keeps its own builder. */
+    private static final ThreadLocal<DocumentBuilder> DOCUMENT_BUILDER = ThreadLocal.withInitial(() -> {
+        try {
+            return DOCUMENT_BUILDER_FACTORY.newDocumentBuilder();
+        } catch (ParserConfigurationException confEx) {
+            throw XMLTreeException.wrap(confEx);
+        }
+    });
 
     /** Factories configuration. */
     static {
@@ -229,6 +255,10 @@ public final class XMLTree {
      * @see Element#getText()
      */
     public String getSingleText(String expression) {
+        if (isSimplePath(expression)) {
+            final NodeList nodes = selectSimplePath(expression);
+            return nodes.getLength() == 0 ? "" : nodes.item(0).getTextContent();
+        }
         return (String)evaluateXPath(expression, STRING);
     }
 
@@ -258,13 +288,11 @@ public final class XMLTree {
      * @return list of found elements or empty list if elements were not found
      */
     public List<Element> getElements(String expression) {
-        final NodeList nodes = (NodeList)evaluateXPath(expression, NODESET);
-        return asElements(nodes);
+        return asElements(selectNodes(expression));
     }
 
     public <R> List<R> getElements(String expression, ElementMapper<? extends R> mapper) {
-        final NodeList nodes = (NodeList)evaluateXPath(expression, NODESET);
-        return asElements(nodes, mapper);
+        return asElements(selectNodes(expression), mapper);
     }
 
     /**
@@ -414,24 +442,66 @@ public final class XMLTree {
      */
     @SuppressWarnings("unchecked")
     private Object evaluateXPath(String expression, QName returnType) {
-        final XPath xpath = XPATH_FACTORY.newXPath();
         try {
-            return xpath.evaluate(expression, document, returnType);
+            return XPATH_CACHE.get().compile(expression).evaluate(document, returnType);
         } catch (XPathExpressionException xpathEx) {
             throw XMLTreeException.wrap(xpathEx);
         }
     }
 
+    /**
+     * Selects nodes with given expression, simple child element paths
+     * are resolved directly over the document without XPath evaluation.
+     */
+    private NodeList selectNodes(String expression) {
+        if (isSimplePath(expression)) {
+            return selectSimplePath(expression);
+        }
+        return (NodeList)evaluateXPath(expression, NODESET);
+    }
+
+    private static boolean isSimplePath(String expression) {
+        return SIMPLE_PATH.matcher(expression).matches();
+    }
+
+    /**
+     * Returns elements selected by simple path in document order,
+     * the same as XPath evaluation of such path would return.
+     */
+    private NodeList selectSimplePath(String path) {
+        final String[] steps = path.substring(1).split("/");
+        final NodeListImpl result = new NodeListImpl();
+        final org.w3c.dom.Element root = document.getDocumentElement();
+        if (root.getNodeName().equals(steps[0])) {
+            collectChildren(root, steps, 1, result);
+        }
+        return result;
+    }
+
+    private static void collectChildren(Node parent, String[] steps, int step, NodeListImpl result) {
+        if (step == steps.length) {
+            result.nodes.add(parent);
+            return;
+        }
+        for (Node child = parent.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getNodeType() == ELEMENT_NODE && child.getNodeName().equals(steps[step])) {
+                collectChildren(child, steps, step + 1, result);
+            }
+        }
+    }
+
     /**
      * Parses document using {@link DocumentBuilder}
      * Rethrows all exceptions as {@link XMLTreeException}
      */
     private Document parseQuietly(byte[] xml) {
+        final DocumentBuilder db = DOCUMENT_BUILDER.get();
         try {
-            final DocumentBuilder db = DOCUMENT_BUILDER_FACTORY.newDocumentBuilder();
             return db.parse(new ByteArrayInputStream(xml));
         } catch (Exception ex) {
             throw XMLTreeException.wrap(ex);
+        } finally {
+            db.reset();
         }
     }
 
@@ -440,7 +510,7 @@ public final class XMLTree {
      * using {@link Node#getTextContent()} method
      */
     private List<String> retrieveText(String expression) {
-        final NodeList nodeList = (NodeList)evaluateXPath(expression, NODESET);
+        final NodeList nodeList = selectNodes(expression);
         final List<String> elementsText = new ArrayList<>(nodeList.getLength());
         for (int i = 0; i < nodeList.getLength(); i++) {
             elementsText.add(nodeList.item(i).getTextContent());
@@ -1061,4 +1131,46 @@ public final class XMLTree {
     public String toString() {
         return new String(getBytes(), UTF_8);
     }
+
+    /**
+     * Per thread cache of compiled xpath expressions,
+     * least recently used expressions are evicted first.
+     */
+    private static class XPathCache extends LinkedHashMap<String, XPathExpression> {
+        private static final long serialVersionUID = 1L;
+
+        private final XPath xpath = XPATH_FACTORY.newXPath();
+
+        XPathCache() {
+            super(16, 0.75f, true);
+        }
+
+        XPathExpression compile(String expression) throws XPathExpressionException {
+            XPathExpression compiled = get(expression);
+            if (compiled == null) {
+                compiled = xpath.compile(expression);
+                put(expression, compiled);
+            }
+            return compiled;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, XPathExpression> eldest) {
+            return size() > XPATH_CACHE_SIZE;
+        }
+    }
+
+    private static class NodeListImpl implements NodeList {
+        final List<Node> nodes = new ArrayList<>();
+
+        @Override
+        public Node item(int index) {
+            return index < nodes.size() ? nodes.get(index) : null;
+        }
+
+        @Override
+        public int getLength() {
+            return nodes.size();
+        }
+    }
 }
@@ -127,6 +127,18 @@ public class XMLTreeTest {
         assertEquals(version, "6.8");
     }
 
+    @Test
+    public void shouldSelectSimplePathsTheSameWayAsXPath() {
+        final XMLTree tree = XMLTree.from(XML_CONTENT);
+
+        assertEquals(tree.getText("/project/dependencies/dependency/artifactId"),
+                     tree.getText("/project/dependencies/dependency/artifactId[true()]"));
+        assertEquals(tree.getSingleText("/project/dependencies/dependency/version"),
+                     tree.getSingleText("/project/dependencies/dependency[1]/version"));
+        assertEquals(tree.getSingleText("/project/missing"), "");
+        assertTrue(tree.getElements("/missing/dependencies").isEmpty());
+    }
+
     @Test
     public void shouldFindEachElementText() {
         final XMLTree tree = XMLTree.from(XML_CONTENT);
@@ -31,6 +31,7 @@ import org.eclipse.che.plugin.docker.client.connection.DockerResponse;
 import org.eclipse.che.plugin.docker.client.dto.AuthConfigs;
 import org.eclipse.che.plugin.docker.client.exception.DockerException;
 import org.eclipse.che.plugin.docker.client.exception.ImageNotFoundException;
+import org.eclipse.che.plugin.docker.client.json.ContainerChange;
 import org.eclipse.che.plugin.docker.client.json.ContainerCommitted;
 import org.eclipse.che.plugin.docker.client.json.ContainerConfig;
 import org.eclipse.che.plugin.docker.client.json.ContainerCreated;
@@ -78,18 +79,19 @@ import org.slf4j.LoggerFactory;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.ws.rs.core.MediaType;
-import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
 import java.lang.reflect.Type;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
@@ -115,7 +117,9 @@ import static org.eclipse.che.commons.lang.IoUtil.readAndCloseQuietly;
  */
 @Singleton
 public class DockerConnector {
-    private static final Logger LOG = LoggerFactory.getLogger(DockerConnector.class);
+    private static final Logger LOG           = LoggerFactory.getLogger(DockerConnector.class);
+    /** Size of buffer between thread which archives build context and thread which sends it to docker. */
+    private static final int    TAR_PIPE_SIZE = 64 * 1024;
 
     private final URI                        dockerDaemonUri;
     private final DockerRegistryAuthResolver authResolver;
@@ -858,6 +862,32 @@ public class DockerConnector {
         }
     }
 
+    /**
+     * Lists changes of the filesystem of the container in comparison with the image the container is created from.
+     *
+     * @param container
+     *         container id
+     * @return list of changed, added and deleted paths, empty if container filesystem is not changed
+     * @throws IOException
+     *          when a problem occurs with docker api calls
+     */
+    public List<ContainerChange> getContainerChanges(String container) throws IOException {
+        try (DockerConnection connection = connectionFactory.openConnection(dockerDaemonUri)
+                                                            .method("GET")
+                                                            .path("/containers/" + container + "/changes")) {
+            final DockerResponse response = connection.request();
+            if (OK.getStatusCode() != response.getStatus()) {
+                throw getDockerException(response);
+            }
+            final List<ContainerChange> changes =
+                    parseResponseStreamAsListAndClose(response.getInputStream(), new TypeToken<List<ContainerChange>>() {}.getType());
+            // docker responds with null instead of empty list
+            return changes == null ? new ArrayList<>() : changes;
+        } catch (JsonParseException e) {
+            throw new IOException(e.getLocalizedMessage(), e);
+        }
+    }
+
     /**
      * Gets files from the specified container.
      *
@@ -938,34 +968,19 @@ public class DockerConnector {
      * @apiNote this method implements 1.20 docker API and requires docker not less than 1.8 version
      */
     public void putResource(final PutResourceParams params) throws IOException {
-        File tarFile;
-        long length;
-        try (InputStream sourceData = params.getSourceStream()) {
-            // TODO according to http spec http://www.w3.org/Protocols/rfc2616/rfc2616-sec4.html#sec4.4,
-            // it is possible to send request without specifying content length if chunked encoding header is set
-            // Investigate is it possible to write the stream to request directly
-
-            // we save stream to file, because we have to know its length
-            Path tarFilePath = Files.createTempFile("compressed-resources", ".tar");
-            tarFile = tarFilePath.toFile();
-            length = Files.copy(sourceData, tarFilePath, StandardCopyOption.REPLACE_EXISTING);
-        }
-
-        try (InputStream tarStream = new BufferedInputStream(new FileInputStream(tarFile));
+        // content length is not set, so source stream is sent with chunked encoding as it is read
+        try (InputStream tarStream = params.getSourceStream();
              DockerConnection connection = connectionFactory.openConnection(dockerDaemonUri)
                                                             .method("PUT")
                                                             .path("/containers/" + params.getContainer() + "/archive")
                                                             .query("path", params.getTargetPath())
                                                             .header("Content-Type", ExtMediaType.APPLICATION_X_TAR)
-                                                            .header("Content-Length", length)
                                                             .entity(tarStream)) {
             addQueryParamIfNotNull(connection, "noOverwriteDirNonDir", params.isNoOverwriteDirNonDir());
             final DockerResponse response = connection.request();
             if (response.getStatus() != OK.getStatusCode()) {
                 throw getDockerException(response);
             }
-        } finally {
-            FileCleaner.addFile(tarFile);
         }
     }
 
@@ -1096,7 +1111,8 @@ public class DockerConnector {
                                           .withMemoryLimit(memoryLimit)
                                           .withMemorySwapLimit(memorySwapLimit),
                           progressMonitor,
-                          tar,
+                          new FileInputStream(tar),
+                          tar.length(),
                           dockerDaemonUri);
     }
 
@@ -1112,36 +1128,34 @@ public class DockerConnector {
      */
     public String buildImage(final BuildImageParams params,
                              final ProgressMonitor progressMonitor) throws IOException, InterruptedException {
-        final File tar = Files.createTempFile(null, ".tar").toFile();
-        try {
-            File[] files = new File[params.getFiles().size()];
-            files = params.getFiles().toArray(files);
-            createTarArchive(tar, files);
-            return buildImage(params, progressMonitor, tar, dockerDaemonUri);
-        } finally {
-            FileCleaner.addFile(tar);
-        }
+        File[] files = new File[params.getFiles().size()];
+        files = params.getFiles().toArray(files);
+        // build context is sent with chunked encoding while it is being archived, no temporary tar file is needed
+        return buildImage(params, progressMonitor, createTarStream(files), -1, dockerDaemonUri);
     }
 
     private String buildImage(final BuildImageParams params,
                               final ProgressMonitor progressMonitor,
-                              File tar, // tar from params.files() (uses temporary until delete deprecated methods)
+                              InputStream tar, // tar from params.files() or from deprecated methods
+                              long tarLength, // -1 if length is unknown
                               URI dockerDaemonUri) throws IOException, InterruptedException {
         final AuthConfigs authConfigs = params.getAuthConfigs();
         final String repository = params.getRepository();
         final String tag = params.getTag();
 
-        try (InputStream tarInput = new FileInputStream(tar);
+        try (InputStream tarInput = tar;
              DockerConnection connection = connectionFactory.openConnection(dockerDaemonUri)
                                                             .method("POST")
                                                             .path("/build")
                                                             .query("rm", 1)
                                                             .query("forcerm", 1)
                                                             .header("Content-Type", "application/x-compressed-tar")
-                                                            .header("Content-Length", tar.length())
                                                             .header("X-Registry-Config",
                                                                     authResolver.getXRegistryConfigHeaderValue(authConfigs))
                                                             .entity(tarInput)) {
+            if (tarLength != -1) {
+                connection.header("Content-Length", tarLength);
+            }
             if (tag == null) {
                 addQueryParamIfNotNull(connection, "t", repository);
             } else {
@@ -1716,6 +1730,59 @@ public class DockerConnector {
         TarUtils.tarFiles(tar, 0, files);
     }
 
+    /**
+     * Returns stream of tar archive of the files, archive is written by separate thread while stream is read,
+     * so writer is blocked while reader doesn't keep up with it. An error of archiving is rethrown by the stream
+     * instead of reaching end of the stream, so incomplete archive is never sent as complete one.
+     */
+    private InputStream createTarStream(File... files) throws IOException {
+        final PipedInputStream tarInput = new PipedInputStream(TAR_PIPE_SIZE);
+        final PipedOutputStream tarOutput = new PipedOutputStream(tarInput);
+        final ValueHolder<Throwable> errorHolder = new ValueHolder<>();
+        executor.execute(() -> {
+            try {
+                // archiver closes the stream it writes to even if it fails, the pipe is closed only after
+                // the error is recorded, otherwise reader may reach the end of truncated archive
+                TarUtils.tarFiles(new FilterOutputStream(tarOutput) {
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        out.write(b, off, len);
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        flush();
+                    }
+                }, 0, files);
+            } catch (Throwable e) {
+                errorHolder.set(e);
+            } finally {
+                try {
+                    tarOutput.close();
+                } catch (IOException ignored) {
+                }
+            }
+        });
+        return new FilterInputStream(tarInput) {
+            @Override
+            public int read() throws IOException {
+                return checkError(super.read());
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return checkError(super.read(b, off, len));
+            }
+
+            private int checkError(int read) throws IOException {
+                if (read == -1 && errorHolder.get() != null) {
+                    throw new IOException("Unable to create tar archive: " + errorHolder.get().getMessage(), errorHolder.get());
+                }
+                return read;
+            }
+        };
+    }
+
     /**
      * Adds given parameter to query if it set (not null).
      *
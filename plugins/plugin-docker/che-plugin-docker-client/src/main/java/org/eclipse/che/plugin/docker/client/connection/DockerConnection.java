@@ -14,6 +14,7 @@ import com.google.common.io.ByteStreams;
 
 import org.eclipse.che.commons.lang.Pair;
 
+import java.io.BufferedOutputStream;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
@@ -27,6 +28,9 @@ import java.util.List;
  * @author Mykola Morhun
  */
 public abstract class DockerConnection implements Closeable {
+    /** Size of chunks in which stream entities of unknown length are sent. */
+    static final int CHUNK_SIZE = 64 * 1024;
+
     private String    method;
     private String    path;
     private Entity<?> entity;
@@ -103,6 +107,35 @@ public abstract class DockerConnection implements Closeable {
 
     public abstract void close();
 
+    /**
+     * Returns {@code true} if entity should be sent with chunked transfer encoding, that is the case of stream entities
+     * which length is not set with Content-Length header, so they don't have to be buffered to find out their length.
+     */
+    static boolean isChunked(List<Pair<String, ?>> headers, Entity entity) {
+        return entity instanceof StreamEntity && getContentLength(headers) == -1;
+    }
+
+    /**
+     * Writes entity with chunked transfer encoding. The last chunk is written only when the whole entity is written,
+     * so if entity fails, the caller must abort the connection and the receiver never takes a part of entity for
+     * a complete one.
+     */
+    static void writeChunked(Entity entity, OutputStream output) throws IOException {
+        final OutputStream chunkedOutput = new BufferedOutputStream(new ChunkedOutputStream(output), CHUNK_SIZE);
+        entity.writeTo(chunkedOutput);
+        chunkedOutput.close();
+    }
+
+    /** Returns value of Content-Length header or {@code -1} if header is not set. */
+    static long getContentLength(List<Pair<String, ?>> headers) {
+        for (Pair<String, ?> header : headers) {
+            if ("Content-Length".equalsIgnoreCase(header.first)) {
+                return Long.parseLong(String.valueOf(header.second));
+            }
+        }
+        return -1;
+    }
+
     static abstract class Entity<T> {
         final T entity;
 
@@ -75,9 +75,23 @@ public class TcpConnection extends DockerConnection {
         connection.setRequestProperty("Host", host);
         if (entity != null) {
             connection.setDoOutput(true);
-            try (OutputStream output = connection.getOutputStream()) {
+            // stream entity instead of buffering it in memory to compute its length
+            final long contentLength = getContentLength(headers);
+            if (isChunked(headers, entity)) {
+                connection.setChunkedStreamingMode(CHUNK_SIZE);
+            } else if (contentLength != -1) {
+                connection.setFixedLengthStreamingMode(contentLength);
+            }
+            final OutputStream output = connection.getOutputStream();
+            try {
                 entity.writeTo(output);
+            } catch (IOException | RuntimeException | Error e) {
+                // closing of the output stream completes the request, so it is aborted by disconnecting instead,
+                // otherwise docker takes the part of entity written so far for a complete one
+                connection.disconnect();
+                throw e;
             }
+            output.close();
         }
         return new TcpDockerResponse(connection);
     }
@@ -48,9 +48,20 @@ public class UnixSocketConnection extends DockerConnection {
             throws IOException {
         fd = connect();
         final OutputStream output = new BufferedOutputStream(openOutputStream(fd));
-        writeHttpHeaders(output, method, path, query, headers);
-        if (entity != null) {
-            entity.writeTo(output);
+        final boolean chunked = isChunked(headers, entity);
+        try {
+            writeHttpHeaders(output, method, path, query, headers, chunked);
+            if (entity != null) {
+                if (chunked) {
+                    writeChunked(entity, output);
+                } else {
+                    entity.writeTo(output);
+                }
+            }
+        } catch (IOException | RuntimeException | Error e) {
+            // abort request, so docker doesn't take the part of entity written so far for a complete one
+            close();
+            throw e;
         }
         return new UnixSocketDockerResponse(new BufferedInputStream(openInputStream(fd)));
     }
@@ -60,6 +71,7 @@ public class UnixSocketConnection extends DockerConnection {
     public void close() {
         if (fd != -1) {
             getCLibrary().close(fd);
+            fd = -1;
         }
     }
 
@@ -77,8 +89,12 @@ public class UnixSocketConnection extends DockerConnection {
         return fd;
     }
 
-    private void writeHttpHeaders(OutputStream output, String method, String path, String query, List<Pair<String, ?>> headers)
-            throws IOException {
+    private void writeHttpHeaders(OutputStream output,
+                                  String method,
+                                  String path,
+                                  String query,
+                                  List<Pair<String, ?>> headers,
+                                  boolean chunked) throws IOException {
         final Writer writer = new OutputStreamWriter(output);
         writer.write(method);
         writer.write(' ');
@@ -94,6 +110,9 @@ public class UnixSocketConnection extends DockerConnection {
             writer.write(String.valueOf(header.second));
             writer.write("\r\n");
         }
+        if (chunked) {
+            writer.write("Transfer-Encoding: chunked\r\n");
+        }
         // Host header is mandatory in HTTP 1.1
         writer.write("Host: \r\n\r\n");
         writer.flush();
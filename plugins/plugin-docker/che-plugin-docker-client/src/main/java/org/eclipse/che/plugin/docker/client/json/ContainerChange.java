@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.client.json;
+
+/**
+ * Change of the container filesystem in comparison with the image the container is created from.
+ */
+public class ContainerChange {
+    public static final int MODIFIED = 0;
+    public static final int ADDED    = 1;
+    public static final int DELETED  = 2;
+
+    private String path;
+    private int    kind;
+
+    public ContainerChange() {
+    }
+
+    public ContainerChange(String path, int kind) {
+        this.path = path;
+        this.kind = kind;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    /** Returns one of {@link #MODIFIED}, {@link #ADDED} or {@link #DELETED}. */
+    public int getKind() {
+        return kind;
+    }
+
+    public void setKind(int kind) {
+        this.kind = kind;
+    }
+
+    @Override
+    public String toString() {
+        return "ContainerChange{" +
+               "path='" + path + '\'' +
+               ", kind=" + kind +
+               '}';
+    }
+}
@@ -24,6 +24,7 @@ import org.eclipse.che.plugin.docker.client.connection.DockerResponse;
 import org.eclipse.che.plugin.docker.client.dto.AuthConfig;
 import org.eclipse.che.plugin.docker.client.dto.AuthConfigs;
 import org.eclipse.che.plugin.docker.client.exception.DockerException;
+import org.eclipse.che.plugin.docker.client.json.ContainerChange;
 import org.eclipse.che.plugin.docker.client.json.ContainerCommitted;
 import org.eclipse.che.plugin.docker.client.json.ContainerConfig;
 import org.eclipse.che.plugin.docker.client.json.ContainerCreated;
@@ -94,6 +95,7 @@ import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -269,6 +271,24 @@ public class DockerConnectorTest {
         verify(dockerConnector).getDockerException(dockerResponse);
     }
 
+    @Test
+    public void shouldBeAbleToGetContainerChanges() throws IOException, JsonParseException {
+        List<ContainerChange> changes = singletonList(new ContainerChange("/tmp", ContainerChange.MODIFIED));
+
+        doReturn(changes).when(dockerConnector).parseResponseStreamAsListAndClose(eq(inputStream), any());
+
+        List<ContainerChange> returnedChanges = dockerConnector.getContainerChanges(CONTAINER);
+
+        verify(dockerConnectionFactory).openConnection(any(URI.class));
+        verify(dockerConnection).method(REQUEST_METHOD_GET);
+        verify(dockerConnection).path("/containers/" + CONTAINER + "/changes");
+        verify(dockerConnection).request();
+        verify(dockerResponse).getStatus();
+        verify(dockerResponse).getInputStream();
+
+        assertEquals(returnedChanges, changes);
+    }
+
     @Test
     public void shouldBeAbleToGetListContainersWithListContainersParams() throws IOException, JsonParseException {
         ListContainersParams listContainersParams = ListContainersParams.create().withAll(true).withSize(true);
@@ -827,7 +847,7 @@ public class DockerConnectorTest {
         verify(dockerConnection).path("/containers/" + putResourceParams.getContainer() + "/archive");
         verify(dockerConnection).query(eq("path"), eq(PATH_TO_FILE));
         verify(dockerConnection).header("Content-Type", ExtMediaType.APPLICATION_X_TAR);
-        verify(dockerConnection).header(eq("Content-Length"), anyInt());
+        verify(dockerConnection, never()).header(eq("Content-Length"), any());
         verify(dockerConnection).entity(any(InputStream.class));
         verify(dockerConnection).request();
         verify(dockerResponse).getStatus();
@@ -901,7 +921,7 @@ public class DockerConnectorTest {
         verify(dockerConnection).query("rm", 1);
         verify(dockerConnection).query("forcerm", 1);
         verify(dockerConnection).header("Content-Type", "application/x-compressed-tar");
-        verify(dockerConnection).header(eq("Content-Length"), anyInt());
+        verify(dockerConnection, never()).header(eq("Content-Length"), any());
         verify(dockerConnection).header(eq("X-Registry-Config"), any(byte[].class));
         verify(dockerConnection).entity(any(InputStream.class));
         verify(dockerConnection).request();
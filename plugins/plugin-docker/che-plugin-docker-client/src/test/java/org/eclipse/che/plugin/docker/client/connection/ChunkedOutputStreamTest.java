@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.client.connection;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class ChunkedOutputStreamTest {
+
+    private CloseTrackingOutputStream output;
+    private ChunkedOutputStream       chunkedOutput;
+
+    @BeforeMethod
+    public void setUp() {
+        output = new CloseTrackingOutputStream();
+        chunkedOutput = new ChunkedOutputStream(output);
+    }
+
+    @Test
+    public void shouldWriteEachWriteAsChunkWithHexadecimalSize() throws Exception {
+        chunkedOutput.write("hello".getBytes(US_ASCII));
+        chunkedOutput.write("0123456789abcdefXYZ".getBytes(US_ASCII), 3, 16);
+
+        assertEquals(output.toString("US-ASCII"), "5\r\nhello\r\n" +
+                                                  "10\r\n3456789abcdefXYZ\r\n");
+    }
+
+    @Test
+    public void shouldWriteSingleByteAsChunk() throws Exception {
+        chunkedOutput.write('a');
+
+        assertEquals(output.toString("US-ASCII"), "1\r\na\r\n");
+    }
+
+    @Test
+    public void shouldNotWriteZeroLengthChunkWhenEmptyArrayIsWritten() throws Exception {
+        chunkedOutput.write("a".getBytes(US_ASCII));
+        chunkedOutput.write(new byte[0]);
+        chunkedOutput.write("bcd".getBytes(US_ASCII), 1, 0);
+        chunkedOutput.write("b".getBytes(US_ASCII));
+
+        assertEquals(output.toString("US-ASCII"), "1\r\na\r\n" +
+                                                  "1\r\nb\r\n");
+    }
+
+    @Test
+    public void shouldWriteLastChunkOnCloseWithoutClosingUnderlyingStream() throws Exception {
+        chunkedOutput.write("hello".getBytes(US_ASCII));
+
+        chunkedOutput.close();
+
+        assertEquals(output.toString("US-ASCII"), "5\r\nhello\r\n" +
+                                                  "0\r\n\r\n");
+        assertFalse(output.closed);
+    }
+
+    @Test
+    public void shouldWriteOnlyLastChunkWhenNothingIsWritten() throws Exception {
+        chunkedOutput.close();
+
+        assertEquals(output.toString("US-ASCII"), "0\r\n\r\n");
+    }
+
+    @Test
+    public void shouldWriteLastChunkOnlyOnceWhenClosedTwice() throws Exception {
+        chunkedOutput.close();
+        chunkedOutput.close();
+
+        assertEquals(output.toString("US-ASCII"), "0\r\n\r\n");
+    }
+
+    @Test(expectedExceptions = IOException.class, expectedExceptionsMessageRegExp = "Stream closed")
+    public void shouldNotWriteAfterClose() throws Exception {
+        chunkedOutput.close();
+
+        chunkedOutput.write("hello".getBytes(US_ASCII));
+    }
+
+    @Test
+    public void shouldSplitBufferedContentIntoChunksOfBufferSize() throws Exception {
+        try (OutputStream bufferedOutput = new BufferedOutputStream(chunkedOutput, 8)) {
+            for (byte b : "0123456789abcdefXYZ".getBytes(US_ASCII)) {
+                bufferedOutput.write(b);
+            }
+        }
+
+        assertEquals(output.toString("US-ASCII"), "8\r\n01234567\r\n" +
+                                                  "8\r\n89abcdef\r\n" +
+                                                  "3\r\nXYZ\r\n" +
+                                                  "0\r\n\r\n");
+    }
+
+    @Test
+    public void shouldBeReadableByChunkedInputStream() throws Exception {
+        final byte[] content = new byte[1000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte)i;
+        }
+        try (OutputStream bufferedOutput = new BufferedOutputStream(chunkedOutput, 64)) {
+            bufferedOutput.write(content, 0, 100);
+            bufferedOutput.write(new byte[0]);
+            bufferedOutput.write(content, 100, 900);
+        }
+
+        final InputStream chunkedInput = new ChunkedInputStream(new ByteArrayInputStream(output.toByteArray()));
+        final ByteArrayOutputStream read = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[100];
+        int n;
+        while ((n = chunkedInput.read(buffer)) != -1) {
+            read.write(buffer, 0, n);
+        }
+        assertEquals(read.toByteArray(), content);
+    }
+
+    @Test
+    public void shouldNotWriteLastChunkWhenEntityFails() throws Exception {
+        final InputStream failingEntity = new InputStream() {
+            private int produced;
+
+            @Override
+            public int read() throws IOException {
+                if (produced == DockerConnection.CHUNK_SIZE + 1) {
+                    throw new IOException("Unable to read file");
+                }
+                produced++;
+                return 'a';
+            }
+        };
+
+        try {
+            DockerConnection.writeChunked(new DockerConnection.StreamEntity(failingEntity), output);
+            fail("Entity is expected to fail");
+        } catch (IOException e) {
+            // expected
+        }
+
+        assertTrue(output.toString("US-ASCII").startsWith(Integer.toHexString(DockerConnection.CHUNK_SIZE) + "\r\n"));
+        assertFalse(output.toString("US-ASCII").endsWith("0\r\n\r\n"));
+        assertFalse(output.closed);
+    }
+
+    private static class CloseTrackingOutputStream extends ByteArrayOutputStream {
+        boolean closed;
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.client.connection;
+
+import com.google.common.io.ByteStreams;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Tests of streaming of entities by {@link TcpConnection}.
+ */
+public class TcpConnectionTest {
+    private static final int ENTITY_SIZE_BEFORE_FAILURE = DockerConnection.CHUNK_SIZE + 100;
+
+    private ServerSocket    server;
+    private ExecutorService executor;
+    private Future<String>  received;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        server = new ServerSocket(0);
+        executor = Executors.newSingleThreadExecutor();
+        // reads raw request until connection is closed by client
+        received = executor.submit(() -> {
+            try (Socket socket = server.accept()) {
+                return new String(ByteStreams.toByteArray(socket.getInputStream()), US_ASCII);
+            }
+        });
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
+        server.close();
+    }
+
+    @Test
+    public void shouldAbortRequestWithoutLastChunkWhenEntityFails() throws Exception {
+        final TcpConnection connection = new TcpConnection(URI.create("http://localhost:" + server.getLocalPort()), null, 5000, 5000);
+
+        try {
+            connection.method("POST").path("/build").entity(new FailingTarStream()).request();
+            fail("Request is expected to fail");
+        } catch (IOException e) {
+            // expected
+        } finally {
+            connection.close();
+        }
+
+        final String request = received.get(10, TimeUnit.SECONDS);
+        assertTrue(request.contains("Transfer-Encoding: chunked"));
+        // part of entity is sent before failure
+        assertTrue(request.contains("\r\naaaa"));
+        assertFalse(request.endsWith("0\r\n\r\n"));
+    }
+
+    /** Produces part of tar archive and fails, like archiver which fails to read a file. */
+    private static class FailingTarStream extends InputStream {
+        private int produced;
+
+        @Override
+        public int read() throws IOException {
+            if (produced == ENTITY_SIZE_BEFORE_FAILURE) {
+                throw new IOException("Unable to read file");
+            }
+            produced++;
+            return 'a';
+        }
+    }
+}
@@ -50,6 +50,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static java.lang.String.format;
+import static org.eclipse.che.plugin.docker.machine.DockerInstanceProvider.DOCKER_IMAGE_TYPE;
 
 /**
  * Docker implementation of {@link Instance}
@@ -70,6 +71,9 @@ public class DockerInstance extends AbstractInstance {
     private static final AtomicInteger pidSequence           = new AtomicInteger(1);
     private static final String        PID_FILE_TEMPLATE     = "/tmp/docker-exec-%s.pid";
     private static final Pattern       PID_FILE_PATH_PATTERN = Pattern.compile(String.format(PID_FILE_TEMPLATE, "([0-9]+)"));
+
+    private static final long IMAGE_AVAILABILITY_TIMEOUT_MS = 10_000;
+    private static final long IMAGE_AVAILABILITY_POLL_MS    = 200;
     /**
      * Produces output in form:
      * <pre>
@@ -95,6 +99,7 @@ public class DockerInstance extends AbstractInstance {
     private final DockerInstanceProcessesCleaner              processesCleaner;
     private final ConcurrentHashMap<Integer, InstanceProcess> machineProcesses;
     private final boolean                                     snapshotUseRegistry;
+    private final DockerSnapshotLimiter                       snapshotLimiter;
 
     private MachineRuntimeInfoImpl machineRuntime;
 
@@ -110,7 +115,8 @@ public class DockerInstance extends AbstractInstance {
                           @Assisted LineConsumer outputConsumer,
                           DockerInstanceStopDetector dockerInstanceStopDetector,
                           DockerInstanceProcessesCleaner processesCleaner,
-                          @Named("machine.docker.snapshot_use_registry") boolean snapshotUseRegistry) {
+                          @Named("machine.docker.snapshot_use_registry") boolean snapshotUseRegistry,
+                          DockerSnapshotLimiter snapshotLimiter) {
         super(machine);
         this.dockerMachineFactory = dockerMachineFactory;
         this.container = container;
@@ -125,6 +131,7 @@ public class DockerInstance extends AbstractInstance {
         this.machineProcesses = new ConcurrentHashMap<>();
         processesCleaner.trackProcesses(this);
         this.snapshotUseRegistry = snapshotUseRegistry;
+        this.snapshotLimiter = snapshotLimiter;
     }
 
     @Override
@@ -200,23 +207,49 @@ public class DockerInstance extends AbstractInstance {
         return process;
     }
 
+    /**
+     * Saves state of the container into an image.
+     * <p/>
+     * When snapshots are stored in the registry and the container is created from such a snapshot,
+     * the new snapshot is pushed into the repository of the parent snapshot, so only the layer of the last commit
+     * is uploaded to the registry, and the parent snapshot is returned as is when the container is not changed at all.
+     */
     @Override
     public MachineSource saveToSnapshot(String owner) throws MachineException {
+        final PhaseTimer timer = new PhaseTimer();
         try {
-            String image = generateRepository();
-            if(!snapshotUseRegistry) {
+            snapshotLimiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MachineException(e.getLocalizedMessage(), e);
+        }
+        try {
+            timer.phase("wait");
+            if (!snapshotUseRegistry) {
+                final String image = generateRepository();
                 commitContainer(owner, image, LATEST_TAG);
+                timer.phase("commit");
                 return new DockerMachineSource(image).withTag(LATEST_TAG);
             }
 
-            PushParams pushParams = PushParams.create(image)
+            final DockerMachineSource parent = getParentSnapshot();
+            if (parent != null && docker.getContainerChanges(container).isEmpty()) {
+                timer.phase("diff");
+                LOG.info("Container '{}' is not changed since snapshot '{}' was created, snapshot is reused",
+                         container,
+                         parent.getLocation());
+                return parent;
+            }
+            timer.phase("diff");
+
+            PushParams pushParams = PushParams.create(parent != null ? parent.getRepository() : generateRepository())
                                               .withRegistry(registry)
                                               .withTag(LATEST_TAG);
 
             final String fullRepo = pushParams.getFullRepo();
             commitContainer(owner, fullRepo, LATEST_TAG);
-            //TODO fix this workaround. Docker image is not visible after commit when using swarm
-            Thread.sleep(2000);
+            waitImageAvailable(fullRepo);
+            timer.phase("commit");
             final ProgressLineFormatterImpl lineFormatter = new ProgressLineFormatterImpl();
             final String digest = docker.push(pushParams,
                                               progressMonitor -> {
@@ -225,13 +258,59 @@ public class DockerInstance extends AbstractInstance {
                                                   } catch (IOException ignored) {
                                                   }
                                               });
+            timer.phase("push");
             docker.removeImage(RemoveImageParams.create(fullRepo).withForce(false));
-            return new DockerMachineSource(image).withRegistry(registry).withDigest(digest).withTag(LATEST_TAG);
+            return new DockerMachineSource(pushParams.getRepository()).withRegistry(registry)
+                                                                      .withDigest(digest)
+                                                                      .withTag(LATEST_TAG);
         } catch (IOException ioEx) {
             throw new MachineException(ioEx);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new MachineException(e.getLocalizedMessage(), e);
+        } finally {
+            snapshotLimiter.release();
+            LOG.info("Snapshot of container '{}' took {}", container, timer);
+        }
+    }
+
+    /**
+     * Returns source of the snapshot which the container is created from
+     * or {@code null} if the container is not created from a snapshot stored in the registry.
+     */
+    private DockerMachineSource getParentSnapshot() {
+        final MachineSource source = getConfig().getSource();
+        if (source == null || !DOCKER_IMAGE_TYPE.equals(source.getType())) {
+            return null;
+        }
+        try {
+            final DockerMachineSource parent = new DockerMachineSource(source);
+            if (registry.equals(parent.getRegistry()) && parent.getDigest() != null) {
+                return parent;
+            }
+        } catch (MachineException e) {
+            LOG.warn("Can't parse source of machine '{}': {}", getId(), e.getLocalizedMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Waits until committed image becomes visible, it may take a while when docker swarm is used.
+     * If image doesn't become visible in time pushing of the image is still attempted.
+     */
+    private void waitImageAvailable(String image) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + IMAGE_AVAILABILITY_TIMEOUT_MS;
+        while (true) {
+            try {
+                docker.inspectImage(image);
+                return;
+            } catch (IOException e) {
+                if (System.currentTimeMillis() >= deadline) {
+                    LOG.warn("Image '{}' is not available after commit: {}", image, e.getLocalizedMessage());
+                    return;
+                }
+                Thread.sleep(IMAGE_AVAILABILITY_POLL_MS);
+            }
         }
     }
 
@@ -377,4 +456,25 @@ public class DockerInstance extends AbstractInstance {
     String getContainer() {
         return container;
     }
+
+    /** Keeps durations of the phases of snapshot creation for logging. */
+    private static class PhaseTimer {
+        private final StringBuilder report = new StringBuilder();
+
+        private long phaseStart = System.currentTimeMillis();
+
+        void phase(String name) {
+            final long now = System.currentTimeMillis();
+            if (report.length() > 0) {
+                report.append(", ");
+            }
+            report.append(name).append(' ').append(now - phaseStart).append("ms");
+            phaseStart = now;
+        }
+
+        @Override
+        public String toString() {
+            return report.toString();
+        }
+    }
 }
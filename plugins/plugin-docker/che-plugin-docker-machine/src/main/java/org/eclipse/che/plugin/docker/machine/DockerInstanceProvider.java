@@ -332,7 +332,7 @@ public class DockerInstanceProvider implements InstanceProvider {
         }
 
         final String machineImageName = "eclipse-che/" + machineContainerName;
-        final String fullNameOfPulledImage = dockerMachineSource.getLocation(false);
+        final String fullNameOfPulledImage = getPulledImageName(dockerMachineSource);
         try {
             // tag image with generated name to allow sysadmin recognize it
             docker.tag(TagParams.create(fullNameOfPulledImage, machineImageName));
@@ -427,7 +427,11 @@ public class DockerInstanceProvider implements InstanceProvider {
         }
 
         final String tag;
-        if (isNullOrEmpty(dockerMachineSource.getTag())) {
+        if (dockerMachineSource.getDigest() != null) {
+            // snapshots of a workspace are pushed into the same repository under the same tag,
+            // so only digest identifies the image which is stored in the snapshot
+            tag = dockerMachineSource.getDigest();
+        } else if (isNullOrEmpty(dockerMachineSource.getTag())) {
             tag = LATEST_TAG;
         } else {
             tag = dockerMachineSource.getTag();
@@ -451,6 +455,19 @@ public class DockerInstanceProvider implements InstanceProvider {
         }
     }
 
+    /**
+     * Returns name of the image which is pulled for the given source:
+     * image pulled by digest is referenced by digest, otherwise by tag.
+     */
+    private String getPulledImageName(DockerMachineSource dockerMachineSource) {
+        if (snapshotUseRegistry && dockerMachineSource.getDigest() != null) {
+            return new DockerMachineSource(dockerMachineSource.getRepository()).withRegistry(dockerMachineSource.getRegistry())
+                                                                               .withDigest(dockerMachineSource.getDigest())
+                                                                               .getLocation();
+        }
+        return dockerMachineSource.getLocation(false);
+    }
+
     /**
      * Removes snapshot of the instance in implementation specific way.
      *
@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.machine;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Limits number of snapshots of docker machines which are created at the same time,
+ * so stopping of many workspaces at once doesn't saturate disk of the docker node and the registry.
+ */
+@Singleton
+public class DockerSnapshotLimiter {
+    private final Semaphore permits;
+
+    @Inject
+    public DockerSnapshotLimiter(@Named("machine.docker.snapshot.max_concurrent") int maxConcurrentSnapshots) {
+        if (maxConcurrentSnapshots < 1) {
+            throw new IllegalArgumentException("Max number of concurrent snapshots must be positive: " + maxConcurrentSnapshots);
+        }
+        this.permits = new Semaphore(maxConcurrentSnapshots, true);
+    }
+
+    /** Blocks until snapshot may be created. Each successful call must be followed by {@link #release()}. */
+    public void acquire() throws InterruptedException {
+        permits.acquire();
+    }
+
+    public void release() {
+        permits.release();
+    }
+}
@@ -210,11 +210,32 @@ public class DockerInstanceProviderTest {
 
         createInstanceFromSnapshot(repo, tag, registry);
 
-        PullParams pullParams = PullParams.create(repo).withRegistry(registry).withTag(tag);
+        PullParams pullParams = PullParams.create(repo).withRegistry(registry).withTag("digest");
 
         verify(dockerConnector).pull(eq(pullParams), any(ProgressMonitor.class));
     }
 
+    @Test
+    public void shouldPullRecordedSnapshotAfterPreviousSnapshotOfTheSameRepositoryIsRemoved() throws Exception {
+        final String repo = "eclipse-che/snapshot";
+        final String registry = "localhost:1234";
+        final DockerMachineSource previousSnapshot = new DockerMachineSource(repo).withTag("latest")
+                                                                                  .withRegistry(registry)
+                                                                                  .withDigest("sha256:previous");
+        final DockerMachineSource snapshot = new DockerMachineSource(repo).withTag("latest")
+                                                                          .withRegistry(registry)
+                                                                          .withDigest("sha256:new");
+        dockerInstanceProvider.removeInstanceSnapshot(previousSnapshot);
+
+        createInstanceFromSnapshot(getMachineBuilder().build(), snapshot);
+
+        verify(dockerConnector).pull(eq(PullParams.create(repo).withRegistry(registry).withTag("sha256:new")),
+                                     any(ProgressMonitor.class));
+        ArgumentCaptor<TagParams> tagParams = ArgumentCaptor.forClass(TagParams.class);
+        verify(dockerConnector).tag(tagParams.capture());
+        assertEquals(tagParams.getValue().getImage(), registry + '/' + repo + "@sha256:new");
+    }
+
     @Test
     public void shouldUseLocalImageOnInstanceCreationFromSnapshot() throws Exception {
         final String repo = "repo";
@@ -256,12 +277,12 @@ public class DockerInstanceProviderTest {
         String repo = "repo1";
         String tag = "tag1";
         String registry = "registry1";
-        TagParams tagParams = TagParams.create(registry + "/" + repo + ":" + tag, "eclipse-che/" + generatedContainerId);
+        TagParams tagParams = TagParams.create(registry + "/" + repo + "@digest", "eclipse-che/" + generatedContainerId);
 
         createInstanceFromSnapshot(repo, tag, registry);
 
         verify(dockerConnector).tag(eq(tagParams));
-        verify(dockerConnector).removeImage(eq(registry + "/" + repo + ":" + tag), eq(false));
+        verify(dockerConnector).removeImage(eq(registry + "/" + repo + "@digest"), eq(false));
     }
 
     @Test
@@ -25,6 +25,7 @@ import org.eclipse.che.plugin.docker.client.Exec;
 import org.eclipse.che.plugin.docker.client.LogMessage;
 import org.eclipse.che.plugin.docker.client.MessageProcessor;
 import org.eclipse.che.plugin.docker.client.ProgressMonitor;
+import org.eclipse.che.plugin.docker.client.json.ContainerChange;
 import org.eclipse.che.plugin.docker.client.params.CommitParams;
 import org.eclipse.che.plugin.docker.client.params.PushParams;
 import org.eclipse.che.plugin.docker.machine.node.DockerNode;
@@ -37,12 +38,16 @@ import org.testng.annotations.Test;
 import java.io.IOException;
 
 import static java.lang.String.format;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyBoolean;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -71,6 +76,9 @@ public class DockerInstanceTest {
     private static final String        TAG          = "latest";
     private static final MachineStatus STATUS       = MachineStatus.RUNNING;
 
+    private static final String SNAPSHOT_REGISTRY = "localhost:5000";
+    private static final String PARENT_SNAPSHOT   = SNAPSHOT_REGISTRY + "/eclipse-che/parent12:latest@sha256:parent";
+
     @Mock
     private LogMessage                 logMessageMock;
     @Mock
@@ -200,6 +208,37 @@ public class DockerInstanceTest {
         dockerInstance.saveToSnapshot(OWNER);
     }
 
+    @Test
+    public void shouldReuseParentSnapshotWhenContainerIsNotChanged() throws Exception {
+        dockerInstance = getDockerInstance(getMachine(getSnapshotMachineConfig(), OWNER, MACHINE_ID, WORKSPACE_ID, STATUS),
+                                           SNAPSHOT_REGISTRY, CONTAINER, IMAGE, true);
+        when(dockerConnectorMock.getContainerChanges(CONTAINER)).thenReturn(emptyList());
+
+        final MachineSource result = dockerInstance.saveToSnapshot(OWNER);
+
+        assertEquals(result.getLocation(), PARENT_SNAPSHOT);
+        verify(dockerConnectorMock, never()).commit(any(CommitParams.class));
+        verify(dockerConnectorMock, never()).push(any(PushParams.class), any(ProgressMonitor.class));
+    }
+
+    @Test
+    public void shouldPushSnapshotIntoRepositoryOfParentSnapshot() throws Exception {
+        dockerInstance = getDockerInstance(getMachine(getSnapshotMachineConfig(), OWNER, MACHINE_ID, WORKSPACE_ID, STATUS),
+                                           SNAPSHOT_REGISTRY, CONTAINER, IMAGE, true);
+        when(dockerConnectorMock.getContainerChanges(CONTAINER))
+                .thenReturn(singletonList(new ContainerChange("/projects/file", ContainerChange.ADDED)));
+        when(dockerConnectorMock.push(any(PushParams.class), any(ProgressMonitor.class))).thenReturn("sha256:new");
+
+        final DockerMachineSource result = (DockerMachineSource)dockerInstance.saveToSnapshot(OWNER);
+
+        verify(dockerConnectorMock).push(eq(PushParams.create("eclipse-che/parent12")
+                                                      .withRegistry(SNAPSHOT_REGISTRY)
+                                                      .withTag(TAG)),
+                                         any(ProgressMonitor.class));
+        assertEquals(result.getRepository(), "eclipse-che/parent12");
+        assertEquals(result.getDigest(), "sha256:new");
+    }
+
     private DockerInstance getDockerInstance() {
         return getDockerInstance(getMachine(), REGISTRY, CONTAINER, IMAGE, false);
     }
@@ -220,7 +259,8 @@ public class DockerInstanceTest {
                                   outputConsumer,
                                   dockerInstanceStopDetectorMock,
                                   mock(DockerInstanceProcessesCleaner.class),
-                                  snapshotUseRegistry);
+                                  snapshotUseRegistry,
+                                  new DockerSnapshotLimiter(1));
     }
 
     private Machine getMachine() {
@@ -246,6 +286,16 @@ public class DockerInstanceTest {
         return getMachineConfig(true, NAME, TYPE);
     }
 
+    private MachineConfig getSnapshotMachineConfig() {
+        return MachineConfigImpl.builder()
+                                .setDev(true)
+                                .setName(NAME)
+                                .setType(TYPE)
+                                .setSource(new MachineSourceImpl("image").setLocation(PARENT_SNAPSHOT))
+                                .setLimits(new LimitsImpl(64))
+                                .build();
+    }
+
     private MachineConfig getMachineConfig(boolean isDev, String name, String type) {
         return MachineConfigImpl.builder()
                                 .setDev(isDev)
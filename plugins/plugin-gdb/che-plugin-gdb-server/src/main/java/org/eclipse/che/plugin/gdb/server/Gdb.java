@@ -25,10 +25,12 @@ import org.eclipse.che.plugin.gdb.server.parser.GdbInfoBreak;
 import org.eclipse.che.plugin.gdb.server.parser.GdbInfoLine;
 import org.eclipse.che.plugin.gdb.server.parser.GdbInfoLocals;
 import org.eclipse.che.plugin.gdb.server.parser.GdbInfoProgram;
+import org.eclipse.che.plugin.gdb.server.parser.GdbListFeatures;
 import org.eclipse.che.plugin.gdb.server.parser.GdbOutput;
 import org.eclipse.che.plugin.gdb.server.parser.GdbPType;
 import org.eclipse.che.plugin.gdb.server.parser.GdbPrint;
 import org.eclipse.che.plugin.gdb.server.parser.GdbRun;
+import org.eclipse.che.plugin.gdb.server.parser.GdbStackListVariables;
 import org.eclipse.che.plugin.gdb.server.parser.GdbTargetRemote;
 import org.eclipse.che.plugin.gdb.server.parser.GdbVersion;
 import org.slf4j.Logger;
@@ -254,6 +256,30 @@ public class Gdb extends GdbProcess {
         return GdbInfoLocals.parse(gdbOutput);
     }
 
+    /**
+     * `-list-features` GDB/MI command, executed by the CLI interpreter.
+     * It fails if GDB can't execute GDB/MI commands.
+     */
+    public GdbListFeatures listFeatures() throws IOException, InterruptedException, DebuggerException {
+        GdbOutput gdbOutput = sendCommand("interpreter-exec mi \"-list-features\"");
+        return GdbListFeatures.parse(gdbOutput);
+    }
+
+    /**
+     * `-stack-list-variables` GDB/MI command, executed by the CLI interpreter.
+     *
+     * @param allValues
+     *         if {@code true} values of all variables are fetched, otherwise types of all variables
+     *         and values of variables of simple types are fetched
+     */
+    public GdbStackListVariables stackListVariables(boolean allValues) throws IOException,
+                                                                            InterruptedException,
+                                                                            DebuggerException {
+        String command = "interpreter-exec mi \"-stack-list-variables " + (allValues ? "--all-values" : "--simple-values") + "\"";
+        GdbOutput gdbOutput = sendCommand(command);
+        return GdbStackListVariables.parse(gdbOutput);
+    }
+
     /**
      * `info line` command.
      */
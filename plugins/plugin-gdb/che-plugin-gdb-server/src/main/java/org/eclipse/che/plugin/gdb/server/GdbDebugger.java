@@ -33,6 +33,7 @@ import org.eclipse.che.api.debug.shared.model.impl.event.SuspendEventImpl;
 import org.eclipse.che.api.debugger.server.Debugger;
 import org.eclipse.che.api.debugger.server.exceptions.DebuggerException;
 import org.eclipse.che.plugin.gdb.server.exception.GdbException;
+import org.eclipse.che.plugin.gdb.server.exception.GdbMiErrorException;
 import org.eclipse.che.plugin.gdb.server.exception.GdbTerminatedException;
 import org.eclipse.che.plugin.gdb.server.parser.GdbContinue;
 import org.eclipse.che.plugin.gdb.server.parser.GdbDirectory;
@@ -72,6 +73,8 @@ public class GdbDebugger implements Debugger {
     private final String file;
 
     private Location currentLocation;
+    /** Whether GDB is able to execute GDB/MI commands, it is checked when stack frame is dumped first time. */
+    private volatile Boolean miSupported;
 
     private final Gdb              gdb;
     private final DebuggerCallback debuggerCallback;
@@ -427,32 +430,88 @@ public class GdbDebugger implements Debugger {
     @Override
     public StackFrameDump dumpStackFrame() throws DebuggerException {
         try {
-            Map<String, String> locals = gdb.infoLocals().getVariables();
-            locals.putAll(gdb.infoArgs().getVariables());
-
-            List<Variable> variables = new ArrayList<>(locals.size());
-            for (Map.Entry<String, String> e : locals.entrySet()) {
-                String varName = e.getKey();
-                String varValue = e.getValue();
-                String varType;
+            List<Variable> variables = null;
+            if (isMiSupported()) {
                 try {
-                    varType = gdb.ptype(varName).getType();
+                    variables = dumpVariablesMi();
+                } catch (GdbMiErrorException e) {
+                    if (!e.isUndefinedCommand()) {
+                        throw e;
+                    }
+                    LOG.warn("GDB/MI command is not supported, variables are fetched one by one. " + e.getMessage());
+                    miSupported = false;
                 } catch (GdbParseException pe) {
-                    LOG.warn(pe.getMessage(), pe);
-                    varType = "";
+                    LOG.warn("Can't parse GDB/MI output, variables are fetched one by one. " + pe.getMessage());
                 }
-
-                VariablePath variablePath = new VariablePathImpl(singletonList(varName));
-                VariableImpl variable = new VariableImpl(varType, varName, varValue, true, variablePath, Collections.emptyList(), true);
-                variables.add(variable);
+            }
+            if (variables == null) {
+                variables = dumpVariables();
             }
 
             return new StackFrameDumpImpl(Collections.emptyList(), variables);
         } catch (GdbTerminatedException e) {
             disconnect();
             throw e;
-        } catch (IOException | GdbParseException | InterruptedException e) {
+        } catch (IOException | GdbParseException | GdbMiErrorException | InterruptedException e) {
             throw new DebuggerException("Can't dump stack frame. " + e.getMessage(), e);
         }
     }
+
+    /**
+     * Checks once whether GDB is able to execute GDB/MI commands, failure of a particular command doesn't affect it.
+     */
+    private boolean isMiSupported() throws IOException, InterruptedException, DebuggerException {
+        if (miSupported == null) {
+            try {
+                gdb.listFeatures();
+                miSupported = true;
+            } catch (GdbParseException | GdbMiErrorException e) {
+                LOG.warn("GDB/MI commands are not supported, variables are fetched one by one. " + e.getMessage());
+                miSupported = false;
+            }
+        }
+        return miSupported;
+    }
+
+    /**
+     * Fetches values and types of all locals and arguments with two GDB/MI commands regardless of their number.
+     */
+    private List<Variable> dumpVariablesMi() throws IOException, InterruptedException, DebuggerException {
+        Map<String, String> values = gdb.stackListVariables(true).getValues();
+        Map<String, String> types = gdb.stackListVariables(false).getTypes();
+
+        List<Variable> variables = new ArrayList<>(values.size());
+        for (Map.Entry<String, String> e : values.entrySet()) {
+            String varName = e.getKey();
+            String varType = types.getOrDefault(varName, "");
+            variables.add(newVariable(varName, e.getValue(), varType));
+        }
+        return variables;
+    }
+
+    private List<Variable> dumpVariables() throws IOException, InterruptedException, DebuggerException {
+        Map<String, String> locals = gdb.infoLocals().getVariables();
+        locals.putAll(gdb.infoArgs().getVariables());
+
+        List<Variable> variables = new ArrayList<>(locals.size());
+        for (Map.Entry<String, String> e : locals.entrySet()) {
+            String varName = e.getKey();
+            String varValue = e.getValue();
+            String varType;
+            try {
+                varType = gdb.ptype(varName).getType();
+            } catch (GdbParseException pe) {
+                LOG.warn(pe.getMessage(), pe);
+                varType = "";
+            }
+
+            variables.add(newVariable(varName, varValue, varType));
+        }
+        return variables;
+    }
+
+    private Variable newVariable(String varName, String varValue, String varType) {
+        VariablePath variablePath = new VariablePathImpl(singletonList(varName));
+        return new VariableImpl(varType, varName, varValue, true, variablePath, Collections.emptyList(), true);
+    }
 }
@@ -10,19 +10,18 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.gdb.server;
 
-import org.eclipse.che.commons.annotation.Nullable;
 import org.eclipse.che.plugin.gdb.server.parser.GdbOutput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 
-import static java.lang.Math.min;
-
 /**
  * @author Anatoliy Bazko
  */
@@ -35,17 +34,26 @@ public abstract class GdbProcess {
     protected final String                   outputSeparator;
     protected final BlockingQueue<GdbOutput> outputs;
     protected final Thread                   outputReader;
+    protected final Thread                   errorReader;
+
+    /** Output of both streams of the process which is not yet split by {@link #outputSeparator}. */
+    private final StringBuilder buf;
 
     public GdbProcess(String outputSeparator, String... commands) throws IOException {
         this.outputSeparator = outputSeparator;
         this.outputs = new ArrayBlockingQueue<>(MAX_CAPACITY);
+        this.buf = new StringBuilder();
 
         ProcessBuilder processBuilder = new ProcessBuilder(commands);
         process = processBuilder.start();
 
-        outputReader = new OutputReader(commands[0] + " output reader");
+        outputReader = new OutputReader(commands[0] + " output reader", process.getInputStream(), true);
         outputReader.setDaemon(true);
         outputReader.start();
+
+        errorReader = new OutputReader(commands[0] + " error reader", process.getErrorStream(), false);
+        errorReader.setDaemon(true);
+        errorReader.start();
     }
 
     /**
@@ -53,92 +61,72 @@ public abstract class GdbProcess {
      */
     protected void stop() {
         outputReader.interrupt();
+        errorReader.interrupt();
         outputs.clear();
         process.destroyForcibly();
     }
 
     /**
-     * Continuously reads process output and store in the {@code #outputs}.
+     * Appends data read from any of the process streams and passes each complete output to {@link #outputs}.
+     */
+    private synchronized void onData(char[] data, int length) {
+        buf.append(data, 0, length);
+
+        int indexOf;
+        while ((indexOf = buf.indexOf(outputSeparator)) >= 0) {
+            GdbOutput gdbOutput = GdbOutput.of(buf.substring(0, indexOf));
+            outputs.add(gdbOutput);
+
+            LOG.debug(gdbOutput.getOutput());
+
+            buf.delete(0, indexOf + outputSeparator.length());
+        }
+
+        if (buf.length() > MAX_OUTPUT) {
+            buf.delete(0, buf.length() - MAX_OUTPUT);
+        }
+    }
+
+    private synchronized void onTerminated() {
+        outputs.add(GdbOutput.of(buf.toString(), true));
+        buf.setLength(0);
+    }
+
+    /**
+     * Blocks on reading of a process stream, so output is passed to {@link #outputs}
+     * as soon as the separator arrives instead of being polled.
      */
     private class OutputReader extends Thread {
+        private final InputStream in;
+        private final boolean     reportTermination;
 
-        public OutputReader(String name) {
+        public OutputReader(String name, InputStream in, boolean reportTermination) {
             super(name);
+            this.in = in;
+            this.reportTermination = reportTermination;
         }
 
         @Override
         public void run() {
-            StringBuilder buf = new StringBuilder();
+            char[] data = new char[MAX_OUTPUT];
 
-            while (!isInterrupted()) {
-                if (!process.isAlive()) {
-                    outputs.add(GdbOutput.of(buf.toString(), true));
-                    break;
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                int read;
+                while (!isInterrupted() && (read = reader.read(data)) != -1) {
+                    onData(data, read);
                 }
-
-                try {
-                    InputStream in = getInput();
-                    if (in != null) {
-                        String data = read(in);
-                        if (!data.isEmpty()) {
-                            buf.append(data);
-                            if (buf.length() > MAX_OUTPUT) {
-                                buf.delete(0, buf.length() - MAX_OUTPUT);
-                            }
-                        }
-                    }
-                } catch (IOException e) {
+            } catch (IOException e) {
+                if (!isInterrupted()) {
                     LOG.error(e.getMessage(), e);
                 }
-
-                if (buf.length() > 0) {
-                    extractOutput(buf);
-                }
-
-                try {
-                    Thread.sleep(100);
-                } catch (InterruptedException e) {
-                    break;
-                }
             }
 
-            LOG.debug(getName() + " has been stopped");
-        }
-
-        private InputStream getInput() throws IOException {
-            return hasError() ? process.getErrorStream()
-                              : (hasInput() ? (hasError() ? process.getErrorStream() : process.getInputStream())
-                                            : null);
-        }
-
-        private void extractOutput(StringBuilder buf) {
-            int indexOf;
-            while ((indexOf = buf.indexOf(outputSeparator)) >= 0) {
-                GdbOutput gdbOutput = GdbOutput.of(buf.substring(0, indexOf));
-                outputs.add(gdbOutput);
-
-                LOG.debug(gdbOutput.getOutput());
-
-                buf.delete(0, indexOf + outputSeparator.length());
+            // stream is closed when process is finished
+            if (reportTermination && !isInterrupted()) {
+                onTerminated();
             }
-        }
-
-        private boolean hasError() throws IOException {
-            return process.getErrorStream().available() != 0;
-        }
-
-        private boolean hasInput() throws IOException {
-            return process.getInputStream().available() != 0;
-        }
-
-        @Nullable
-        private String read(InputStream in) throws IOException {
-            int available = min(in.available(), MAX_OUTPUT);
-            byte[] buf = new byte[available];
-            int read = in.read(buf, 0, available);
 
-            return new String(buf, 0, read, StandardCharsets.UTF_8);
+            LOG.debug(getName() + " has been stopped");
         }
     }
-
 }
@@ -0,0 +1,31 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.gdb.server.exception;
+
+/**
+ * Thrown when GDB/MI command ends with error result record, e.g. {@code ^error,msg="No frame selected."}.
+ */
+@SuppressWarnings("serial")
+public class GdbMiErrorException extends GdbException {
+
+    private static final String UNDEFINED_COMMAND = "Undefined MI command";
+
+    public GdbMiErrorException(String message) {
+        super(message);
+    }
+
+    /**
+     * Returns {@code true} if GDB doesn't know the command, otherwise the command is known but failed.
+     */
+    public boolean isUndefinedCommand() {
+        return getMessage().startsWith(UNDEFINED_COMMAND);
+    }
+}
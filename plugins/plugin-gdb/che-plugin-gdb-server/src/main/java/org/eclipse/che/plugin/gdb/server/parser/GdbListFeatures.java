@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.gdb.server.parser;
+
+import org.eclipse.che.plugin.gdb.server.exception.GdbMiErrorException;
+import org.eclipse.che.plugin.gdb.server.exception.GdbParseException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * '-list-features' GDB/MI command parser.
+ */
+public class GdbListFeatures {
+
+    private final List<String> features;
+
+    public GdbListFeatures(List<String> features) {
+        this.features = features;
+    }
+
+    /**
+     * Returns features of GDB/MI implementation, e.g. 'frozen-varobjs'.
+     */
+    public List<String> getFeatures() {
+        return features;
+    }
+
+    /**
+     * Factory method.
+     */
+    public static GdbListFeatures parse(GdbOutput gdbOutput) throws GdbParseException, GdbMiErrorException {
+        GdbMiRecord record = GdbMiRecord.parse(gdbOutput);
+
+        Object features = record.getResults().get("features");
+        if (!(features instanceof List)) {
+            throw new GdbParseException(GdbListFeatures.class, gdbOutput.getOutput());
+        }
+
+        List<String> result = new ArrayList<>();
+        for (Object feature : (List<?>)features) {
+            if (!(feature instanceof String)) {
+                throw new GdbParseException(GdbListFeatures.class, gdbOutput.getOutput());
+            }
+            result.add((String)feature);
+        }
+
+        return new GdbListFeatures(result);
+    }
+}
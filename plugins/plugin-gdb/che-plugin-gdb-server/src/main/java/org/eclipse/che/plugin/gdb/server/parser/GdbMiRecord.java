@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.gdb.server.parser;
+
+import org.eclipse.che.plugin.gdb.server.exception.GdbMiErrorException;
+import org.eclipse.che.plugin.gdb.server.exception.GdbParseException;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * GDB/MI result record parser, e.g. {@code ^done,variables=[{name="i",value="0"}]}.
+ * <p/>
+ * Values of the results are represented as {@link String} for constants, {@link Map} for tuples
+ * and {@link List} for lists, names of the results in lists are omitted.
+ */
+public class GdbMiRecord {
+
+    private final String              resultClass;
+    private final Map<String, Object> results;
+
+    public GdbMiRecord(String resultClass, Map<String, Object> results) {
+        this.resultClass = resultClass;
+        this.results = results;
+    }
+
+    /**
+     * Returns result class, e.g. 'done' or 'error'.
+     */
+    public String getResultClass() {
+        return resultClass;
+    }
+
+    public Map<String, Object> getResults() {
+        return results;
+    }
+
+    /**
+     * Factory method. Result record is looked for among lines of the output, other records are ignored.
+     *
+     * @throws GdbParseException
+     *         if output doesn't contain result record or it is malformed
+     * @throws GdbMiErrorException
+     *         if result class is 'error'
+     */
+    public static GdbMiRecord parse(GdbOutput gdbOutput) throws GdbParseException, GdbMiErrorException {
+        String output = gdbOutput.getOutput();
+
+        for (String line : output.split("\n")) {
+            line = line.trim();
+            if (line.startsWith("^")) {
+                GdbMiRecord record;
+                try {
+                    record = new Parser(line).parseRecord();
+                } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+                    throw new GdbParseException(GdbMiRecord.class, output);
+                }
+                if ("error".equals(record.getResultClass())) {
+                    Object message = record.getResults().get("msg");
+                    throw new GdbMiErrorException(message instanceof String ? (String)message : output);
+                }
+                return record;
+            }
+        }
+
+        throw new GdbParseException(GdbMiRecord.class, output);
+    }
+
+    private static class Parser {
+        private final String line;
+        private       int    pos;
+
+        Parser(String line) {
+            this.line = line;
+            this.pos = 1;
+        }
+
+        GdbMiRecord parseRecord() {
+            int start = pos;
+            while (pos < line.length() && line.charAt(pos) != ',') {
+                pos++;
+            }
+            String resultClass = line.substring(start, pos);
+
+            Map<String, Object> results = new LinkedHashMap<>();
+            while (pos < line.length()) {
+                expect(',');
+                parseResult(results);
+            }
+            return new GdbMiRecord(resultClass, results);
+        }
+
+        private void parseResult(Map<String, Object> results) {
+            results.put(parseVariable(), parseValue());
+        }
+
+        private String parseVariable() {
+            int start = pos;
+            while (line.charAt(pos) != '=') {
+                pos++;
+            }
+            String variable = line.substring(start, pos);
+            pos++;
+            return variable;
+        }
+
+        private Object parseValue() {
+            char c = line.charAt(pos);
+            switch (c) {
+                case '"':
+                    return parseConst();
+                case '{':
+                    return parseTuple();
+                case '[':
+                    return parseList();
+                default:
+                    throw new IllegalArgumentException("Unexpected '" + c + "' at " + pos);
+            }
+        }
+
+        private Map<String, Object> parseTuple() {
+            expect('{');
+            Map<String, Object> tuple = new LinkedHashMap<>();
+            if (line.charAt(pos) == '}') {
+                pos++;
+                return tuple;
+            }
+            parseResult(tuple);
+            while (line.charAt(pos) == ',') {
+                pos++;
+                parseResult(tuple);
+            }
+            expect('}');
+            return tuple;
+        }
+
+        private List<Object> parseList() {
+            expect('[');
+            List<Object> list = new ArrayList<>();
+            if (line.charAt(pos) == ']') {
+                pos++;
+                return list;
+            }
+            list.add(parseListItem());
+            while (line.charAt(pos) == ',') {
+                pos++;
+                list.add(parseListItem());
+            }
+            expect(']');
+            return list;
+        }
+
+        private Object parseListItem() {
+            char c = line.charAt(pos);
+            if (c != '"' && c != '{' && c != '[') {
+                // list of results, name is not needed
+                parseVariable();
+            }
+            return parseValue();
+        }
+
+        private String parseConst() {
+            expect('"');
+            StringBuilder value = new StringBuilder();
+            // octal escape sequences are bytes of multibyte characters, they are decoded together
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            char c;
+            while ((c = line.charAt(pos++)) != '"') {
+                if (c == '\\' && line.charAt(pos) >= '0' && line.charAt(pos) <= '7') {
+                    // octal escape sequence of up to three digits
+                    int code = 0;
+                    for (int i = 0; i < 3 && line.charAt(pos) >= '0' && line.charAt(pos) <= '7'; i++) {
+                        code = code * 8 + line.charAt(pos++) - '0';
+                    }
+                    bytes.write(code);
+                    continue;
+                }
+                appendBytes(value, bytes);
+                if (c == '\\') {
+                    c = line.charAt(pos++);
+                    switch (c) {
+                        case 'n':
+                            value.append('\n');
+                            break;
+                        case 't':
+                            value.append('\t');
+                            break;
+                        case 'r':
+                            value.append('\r');
+                            break;
+                        default:
+                            value.append(c);
+                    }
+                } else {
+                    value.append(c);
+                }
+            }
+            appendBytes(value, bytes);
+            return value.toString();
+        }
+
+        private void appendBytes(StringBuilder value, ByteArrayOutputStream bytes) {
+            if (bytes.size() > 0) {
+                value.append(new String(bytes.toByteArray(), UTF_8));
+                bytes.reset();
+            }
+        }
+
+        private void expect(char c) {
+            if (line.charAt(pos) != c) {
+                throw new IllegalArgumentException("Expected '" + c + "' at " + pos);
+            }
+            pos++;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.gdb.server.parser;
+
+import org.eclipse.che.plugin.gdb.server.exception.GdbMiErrorException;
+import org.eclipse.che.plugin.gdb.server.exception.GdbParseException;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * '-stack-list-variables' GDB/MI command parser.
+ * Values are present if command is run with '--all-values' or '--simple-values' option,
+ * types are present if command is run with '--simple-values' option only.
+ */
+public class GdbStackListVariables {
+
+    private final Map<String, String> values;
+    private final Map<String, String> types;
+
+    public GdbStackListVariables(Map<String, String> values, Map<String, String> types) {
+        this.values = values;
+        this.types = types;
+    }
+
+    /**
+     * Returns values of locals and arguments by their names.
+     */
+    public Map<String, String> getValues() {
+        return values;
+    }
+
+    /**
+     * Returns types of locals and arguments by their names.
+     */
+    public Map<String, String> getTypes() {
+        return types;
+    }
+
+    /**
+     * Factory method.
+     */
+    public static GdbStackListVariables parse(GdbOutput gdbOutput) throws GdbParseException, GdbMiErrorException {
+        GdbMiRecord record = GdbMiRecord.parse(gdbOutput);
+
+        Object variables = record.getResults().get("variables");
+        if (!(variables instanceof List)) {
+            throw new GdbParseException(GdbStackListVariables.class, gdbOutput.getOutput());
+        }
+
+        Map<String, String> values = new LinkedHashMap<>();
+        Map<String, String> types = new LinkedHashMap<>();
+        for (Object variable : (List<?>)variables) {
+            if (!(variable instanceof Map)) {
+                throw new GdbParseException(GdbStackListVariables.class, gdbOutput.getOutput());
+            }
+            Map<?, ?> attributes = (Map<?, ?>)variable;
+            String name = (String)attributes.get("name");
+            if (attributes.get("value") != null) {
+                values.put(name, (String)attributes.get("value"));
+            }
+            if (attributes.get("type") != null) {
+                types.put(name, (String)attributes.get("type"));
+            }
+        }
+
+        return new GdbStackListVariables(values, types);
+    }
+}
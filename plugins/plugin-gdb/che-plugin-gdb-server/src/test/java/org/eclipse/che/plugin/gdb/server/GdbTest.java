@@ -16,9 +16,11 @@ import org.eclipse.che.plugin.gdb.server.parser.GdbContinue;
 import org.eclipse.che.plugin.gdb.server.parser.GdbInfoBreak;
 import org.eclipse.che.plugin.gdb.server.parser.GdbInfoLine;
 import org.eclipse.che.plugin.gdb.server.parser.GdbInfoProgram;
+import org.eclipse.che.plugin.gdb.server.parser.GdbListFeatures;
 import org.eclipse.che.plugin.gdb.server.parser.GdbPType;
 import org.eclipse.che.plugin.gdb.server.parser.GdbPrint;
 import org.eclipse.che.plugin.gdb.server.parser.GdbRun;
+import org.eclipse.che.plugin.gdb.server.parser.GdbStackListVariables;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
@@ -29,6 +31,7 @@ import java.nio.file.Paths;
 import java.util.List;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
@@ -202,6 +205,26 @@ public class GdbTest {
         assertEquals(gdbPType.getType(), "int");
     }
 
+    @Test
+    public void testListFeatures() throws Exception {
+        GdbListFeatures gdbListFeatures = gdb.listFeatures();
+
+        assertFalse(gdbListFeatures.getFeatures().isEmpty());
+    }
+
+    @Test
+    public void testStackListVariables() throws Exception {
+        gdb.file(file);
+        gdb.breakpoint(7);
+        gdb.run();
+
+        GdbStackListVariables values = gdb.stackListVariables(true);
+        assertEquals(values.getValues().get("i"), "0");
+
+        GdbStackListVariables types = gdb.stackListVariables(false);
+        assertEquals(types.getTypes().get("i"), "int");
+    }
+
     @Test
     public void testInfoProgram() throws Exception {
         gdb.file(file);
@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.gdb.server.parser;
+
+import org.eclipse.che.plugin.gdb.server.exception.GdbParseException;
+import org.testng.annotations.Test;
+
+import static java.util.Arrays.asList;
+import static org.testng.Assert.assertEquals;
+
+public class GdbListFeaturesTest {
+
+    @Test
+    public void testParse() throws Exception {
+        GdbOutput gdbOutput = GdbOutput.of("^done,features=[\"frozen-varobjs\",\"pending-breakpoints\",\"thread-info\"]");
+
+        GdbListFeatures gdbListFeatures = GdbListFeatures.parse(gdbOutput);
+
+        assertEquals(gdbListFeatures.getFeatures(), asList("frozen-varobjs", "pending-breakpoints", "thread-info"));
+    }
+
+    @Test(expectedExceptions = GdbParseException.class)
+    public void testParseFailWhenMiInterpreterIsNotAvailable() throws Exception {
+        GdbListFeatures.parse(GdbOutput.of("Interpreter `mi' unrecognized"));
+    }
+}
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.gdb.server.parser;
+
+import org.eclipse.che.plugin.gdb.server.exception.GdbMiErrorException;
+import org.eclipse.che.plugin.gdb.server.exception.GdbParseException;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class GdbMiRecordTest {
+
+    @Test
+    public void testParse() throws Exception {
+        GdbOutput gdbOutput = GdbOutput.of("~\"some output\\n\"\n" +
+                                           "^done,bkpt={number=\"1\",file=\"h.cpp\"},frames=[frame={level=\"0\"},frame={level=\"1\"}]," +
+                                           "names=[\"a\\\"b\",\"c\\nd\"],empty={}\n");
+
+        GdbMiRecord record = GdbMiRecord.parse(gdbOutput);
+
+        assertEquals(record.getResultClass(), "done");
+        Map<?, ?> bkpt = (Map<?, ?>)record.getResults().get("bkpt");
+        assertEquals(bkpt.get("number"), "1");
+        assertEquals(bkpt.get("file"), "h.cpp");
+        List<?> frames = (List<?>)record.getResults().get("frames");
+        assertEquals(frames.size(), 2);
+        assertEquals(((Map<?, ?>)frames.get(1)).get("level"), "1");
+        List<?> names = (List<?>)record.getResults().get("names");
+        assertEquals(names.get(0), "a\"b");
+        assertEquals(names.get(1), "c\nd");
+        assertTrue(((Map<?, ?>)record.getResults().get("empty")).isEmpty());
+    }
+
+    @Test
+    public void testParseOctalEscapesAsUtf8() throws Exception {
+        GdbOutput gdbOutput = GdbOutput.of("^done,value=\"0x400 \\\"\\320\\237\\321\\200\\320\\270\\320\\262\\320\\265\\321\\202, \\303\\251\\\"\\n\"");
+
+        GdbMiRecord record = GdbMiRecord.parse(gdbOutput);
+
+        assertEquals(record.getResults().get("value"), "0x400 \"\u041f\u0440\u0438\u0432\u0435\u0442, \u00e9\"\n");
+    }
+
+    @Test
+    public void testParseError() throws Exception {
+        try {
+            GdbMiRecord.parse(GdbOutput.of("^error,msg=\"No frame selected.\""));
+            fail("Error record is expected to fail");
+        } catch (GdbMiErrorException e) {
+            assertEquals(e.getMessage(), "No frame selected.");
+            assertFalse(e.isUndefinedCommand());
+        }
+    }
+
+    @Test
+    public void testParseUndefinedCommandError() throws Exception {
+        try {
+            GdbMiRecord.parse(GdbOutput.of("^error,msg=\"Undefined MI command: stack-list-variables\""));
+            fail("Error record is expected to fail");
+        } catch (GdbMiErrorException e) {
+            assertTrue(e.isUndefinedCommand());
+        }
+    }
+
+    @Test(expectedExceptions = GdbParseException.class)
+    public void testParseFailWhenNoResultRecord() throws Exception {
+        GdbMiRecord.parse(GdbOutput.of("Undefined command: \"interpreter-exec\"."));
+    }
+
+    @Test(expectedExceptions = GdbParseException.class)
+    public void testParseFailWhenRecordIsMalformed() throws Exception {
+        GdbMiRecord.parse(GdbOutput.of("^done,variables=[{name=\"i\""));
+    }
+}
@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.gdb.server.parser;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+public class GdbStackListVariablesTest {
+
+    @Test
+    public void testParseAllValues() throws Exception {
+        GdbOutput gdbOutput = GdbOutput.of("^done,variables=[{name=\"argc\",arg=\"1\",value=\"1\"}," +
+                                           "{name=\"p\",value=\"{x = 1, y = 2}\"}]");
+
+        GdbStackListVariables variables = GdbStackListVariables.parse(gdbOutput);
+
+        assertEquals(variables.getValues().get("argc"), "1");
+        assertEquals(variables.getValues().get("p"), "{x = 1, y = 2}");
+        assertEquals(variables.getTypes().size(), 0);
+    }
+
+    @Test
+    public void testParseSimpleValues() throws Exception {
+        GdbOutput gdbOutput = GdbOutput.of("^done,variables=[{name=\"i\",type=\"int\",value=\"0\"}," +
+                                           "{name=\"p\",type=\"Point\"}]");
+
+        GdbStackListVariables variables = GdbStackListVariables.parse(gdbOutput);
+
+        assertEquals(variables.getTypes().get("i"), "int");
+        assertEquals(variables.getTypes().get("p"), "Point");
+        assertEquals(variables.getValues().get("i"), "0");
+        assertFalse(variables.getValues().containsKey("p"));
+    }
+}
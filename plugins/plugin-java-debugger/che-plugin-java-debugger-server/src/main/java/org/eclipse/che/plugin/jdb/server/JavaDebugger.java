@@ -24,6 +24,7 @@ import com.sun.jdi.connect.Connector;
 import com.sun.jdi.connect.IllegalConnectorArgumentsException;
 import com.sun.jdi.request.BreakpointRequest;
 import com.sun.jdi.request.ClassPrepareRequest;
+import com.sun.jdi.request.ClassUnloadRequest;
 import com.sun.jdi.request.EventRequest;
 import com.sun.jdi.request.EventRequestManager;
 import com.sun.jdi.request.InvalidRequestStateException;
@@ -60,6 +61,7 @@ import org.eclipse.che.plugin.jdb.server.exceptions.DebuggerAbsentInformationExc
 import org.eclipse.che.plugin.jdb.server.expression.Evaluator;
 import org.eclipse.che.plugin.jdb.server.expression.ExpressionException;
 import org.eclipse.che.plugin.jdb.server.expression.ExpressionParser;
+import org.eclipse.che.plugin.jdb.server.expression.MemberResolver;
 import org.eclipse.che.plugin.jdb.server.utils.JavaDebuggerUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -69,6 +71,7 @@ import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -90,8 +93,10 @@ import static org.eclipse.che.dto.server.DtoFactory.newDto;
  * @author Valeriy Svydenko
  */
 public class JavaDebugger implements EventsHandler, Debugger {
-    private static final Logger            LOG          = LoggerFactory.getLogger(JavaDebugger.class);
-    private static final JavaDebuggerUtils debuggerUtil = new JavaDebuggerUtils();
+    private static final Logger            LOG                    = LoggerFactory.getLogger(JavaDebugger.class);
+    private static final JavaDebuggerUtils debuggerUtil           = new JavaDebuggerUtils();
+    /** Max number of parsed expressions kept for reuse. */
+    private static final int               MAX_CACHED_EXPRESSIONS = 100;
 
     private final String           host;
     private final int              port;
@@ -117,6 +122,16 @@ public class JavaDebugger implements EventsHandler, Debugger {
     /** Lock for synchronization debug processes. */
     private Lock lock = new ReentrantLock();
 
+    /** Parsed expressions which are evaluated by user or used as breakpoint conditions, least recently used are dropped. */
+    private final Map<String, ExpressionParser> expressions = new LinkedHashMap<String, ExpressionParser>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ExpressionParser> eldest) {
+            return size() > MAX_CACHED_EXPRESSIONS;
+        }
+    };
+    /** Fields and methods of the target Java VM types resolved during evaluation of expressions. */
+    private final MemberResolver                members     = new MemberResolver();
+
     /**
      * Create debugger and connect it to the JVM which already running at the specified host and port.
      *
@@ -171,6 +186,10 @@ public class JavaDebugger implements EventsHandler, Debugger {
             } catch (InterruptedException ignored) {
             }
         }
+        // members of unloaded classes which are resolved during evaluation of expressions must be dropped
+        ClassUnloadRequest classUnloadRequest = getEventManager().createClassUnloadRequest();
+        classUnloadRequest.setSuspendPolicy(EventRequest.SUSPEND_NONE);
+        classUnloadRequest.enable();
         eventsCollector = new EventsCollector(vm.eventQueue(), this);
         LOG.debug("Connect {}:{}", host, port);
     }
@@ -205,6 +224,7 @@ public class JavaDebugger implements EventsHandler, Debugger {
     public void disconnect() throws DebuggerException {
         resume(newDto(ResumeActionDto.class));
         vm.dispose();
+        members.clear();
         LOG.debug("Close connection to {}:{}", host, port);
     }
 
@@ -251,7 +271,7 @@ public class JavaDebugger implements EventsHandler, Debugger {
             breakPointRequest.setSuspendPolicy(EventRequest.SUSPEND_ALL);
             String expression = breakpoint.getCondition();
             if (!(expression == null || expression.isEmpty())) {
-                ExpressionParser parser = ExpressionParser.newInstance(expression);
+                ExpressionParser parser = getExpressionParser(expression);
                 breakPointRequest.putProperty("org.eclipse.che.ide.java.debug.condition.expression.parser", parser);
             }
             breakPointRequest.setEnabled(true);
@@ -535,6 +555,8 @@ public class JavaDebugger implements EventsHandler, Debugger {
                     resume = processDisconnectEvent();
                 } else if (event instanceof com.sun.jdi.event.ClassPrepareEvent) {
                     resume = processClassPrepareEvent((com.sun.jdi.event.ClassPrepareEvent)event);
+                } else if (event instanceof com.sun.jdi.event.ClassUnloadEvent) {
+                    members.clear();
                 }
             }
         } finally {
@@ -581,6 +603,7 @@ public class JavaDebugger implements EventsHandler, Debugger {
     private boolean processDisconnectEvent() {
         debuggerCallback.onEvent(new DisconnectEventImpl());
         eventsCollector.stop();
+        members.clear();
         return true;
     }
 
@@ -648,14 +671,21 @@ public class JavaDebugger implements EventsHandler, Debugger {
 
     @Override
     public String evaluate(String expression) throws DebuggerException {
-        com.sun.jdi.Value result = evaluate(ExpressionParser.newInstance(expression));
+        com.sun.jdi.Value result = evaluate(getExpressionParser(expression));
         return result == null ? "null" : result.toString();
     }
 
+    /** Returns parser of the expression, expression is parsed only when it is evaluated first time. */
+    private ExpressionParser getExpressionParser(String expression) {
+        synchronized (expressions) {
+            return expressions.computeIfAbsent(expression, ExpressionParser::newInstance);
+        }
+    }
+
     private com.sun.jdi.Value evaluate(ExpressionParser parser) throws DebuggerException {
         final long startTime = System.currentTimeMillis();
         try {
-            return parser.evaluate(new Evaluator(vm, getCurrentThread()));
+            return parser.evaluate(new Evaluator(vm, getCurrentThread(), members));
         } catch (ExpressionException e) {
             throw new DebuggerException(e.getMessage());
         } finally {
@@ -23,6 +23,9 @@ public class JdiFieldImpl implements JdiField, Comparable<JdiFieldImpl> {
     private final ReferenceType   type;
     private final ObjectReference object;
 
+    /** Value is fetched once while VM is suspended, so expanding of the same field again doesn't hit VM. */
+    private JdiValue value;
+
     public JdiFieldImpl(Field field, ObjectReference object) {
         this.field = field;
         this.object = object;
@@ -35,6 +38,18 @@ public class JdiFieldImpl implements JdiField, Comparable<JdiFieldImpl> {
         this.object = null;
     }
 
+    /** Creates field which value is already fetched, e.g. together with values of other fields of the object. */
+    public JdiFieldImpl(Field field, ObjectReference object, Value value) {
+        this(field, object);
+        this.value = JdiValueImpl.of(value);
+    }
+
+    /** Creates static field which value is already fetched, e.g. together with values of other static fields of the type. */
+    public JdiFieldImpl(Field field, ReferenceType type, Value value) {
+        this(field, type);
+        this.value = JdiValueImpl.of(value);
+    }
+
     @Override
     public String getName() {
         return field.name();
@@ -72,11 +87,10 @@ public class JdiFieldImpl implements JdiField, Comparable<JdiFieldImpl> {
 
     @Override
     public JdiValue getValue() {
-        Value value = object == null ? type.getValue(field) : object.getValue(field);
         if (value == null) {
-            return new JdiNullValue();
+            value = JdiValueImpl.of(object == null ? type.getValue(field) : object.getValue(field));
         }
-        return new JdiValueImpl(value);
+        return value;
     }
 
     @Override
@@ -21,11 +21,19 @@ public class JdiLocalVariableImpl implements JdiLocalVariable {
     private final LocalVariable variable;
     private final StackFrame    stackFrame;
 
+    private JdiValue value;
+
     public JdiLocalVariableImpl(StackFrame stackFrame, LocalVariable variable) {
         this.stackFrame = stackFrame;
         this.variable = variable;
     }
 
+    /** Creates variable which value is already fetched together with values of other variables of the frame. */
+    public JdiLocalVariableImpl(StackFrame stackFrame, LocalVariable variable, Value value) {
+        this(stackFrame, variable);
+        this.value = JdiValueImpl.of(value);
+    }
+
     @Override
     public String getName() {
         return variable.name();
@@ -43,11 +51,10 @@ public class JdiLocalVariableImpl implements JdiLocalVariable {
 
     @Override
     public JdiValue getValue() {
-        Value value = stackFrame.getValue(variable);
         if (value == null) {
-            return new JdiNullValue();
+            value = JdiValueImpl.of(stackFrame.getValue(variable));
         }
-        return new JdiValueImpl(value);
+        return value;
     }
 
     @Override
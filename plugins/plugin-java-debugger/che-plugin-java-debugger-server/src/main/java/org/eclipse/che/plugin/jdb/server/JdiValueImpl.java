@@ -21,6 +21,7 @@ import org.eclipse.che.api.debugger.server.exceptions.DebuggerException;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 /** @author andrew00x */
 public class JdiValueImpl implements JdiValue {
@@ -34,6 +35,11 @@ public class JdiValueImpl implements JdiValue {
         this.value = value;
     }
 
+    /** Wraps value of a variable, {@code null} value is wrapped with {@link JdiNullValue}. */
+    static JdiValue of(Value value) {
+        return value == null ? new JdiNullValue() : new JdiValueImpl(value);
+    }
+
     @Override
     public String getAsString() {
         return value.toString();
@@ -46,20 +52,22 @@ public class JdiValueImpl implements JdiValue {
                 variables = new JdiVariable[0];
             } else {
                 if (isArray()) {
-                    ArrayReference array = (ArrayReference)value;
-                    int length = array.length();
-                    variables = new JdiVariable[length];
-                    for (int i = 0; i < length; i++) {
-                        variables[i] = new JdiArrayElementImpl(i, array.getValue(i));
+                    // fetch all elements at once instead of one request per element
+                    List<Value> elements = ((ArrayReference)value).getValues();
+                    variables = new JdiVariable[elements.size()];
+                    for (int i = 0; i < variables.length; i++) {
+                        variables[i] = new JdiArrayElementImpl(i, elements.get(i));
                     }
                 } else {
                     ObjectReference object = (ObjectReference)value;
                     ReferenceType type = object.referenceType();
                     List<Field> fields = type.allFields();
+                    // fetch values of all fields at once instead of one request per field
+                    Map<Field, Value> values = object.getValues(fields);
                     variables = new JdiVariable[fields.size()];
                     int i = 0;
                     for (Field f : fields) {
-                        variables[i++] = new JdiFieldImpl(f, object);
+                        variables[i++] = new JdiFieldImpl(f, object, values.get(f));
                     }
                     // See JdiFieldImpl#compareTo(JdiFieldImpl).
                     Arrays.sort(variables);
@@ -19,6 +19,9 @@ import org.antlr.runtime.tree.CommonTreeNodeStream;
 
 /**
  * ANTLR based implementation of ExpressionParser.
+ * <p/>
+ * Expression is parsed once, the parsed tree is reused by all the subsequent evaluations.
+ * Evaluations are serialized since the tree is walked through a shared node stream.
  *
  * @author andrew00x
  */
@@ -30,7 +33,7 @@ public final class ANTLRExpressionParser extends ExpressionParser {
     }
 
     @Override
-    public Value evaluate(Evaluator ev) {
+    public synchronized Value evaluate(Evaluator ev) {
         try {
             if (nodes == null) {
                 parse();
@@ -69,10 +69,12 @@ public class Evaluator {
 
     private final VirtualMachine  vm;
     private final ThreadReference thread;
+    private final MemberResolver  members;
 
-    public Evaluator(VirtualMachine vm, ThreadReference thread) {
+    public Evaluator(VirtualMachine vm, ThreadReference thread, MemberResolver members) {
         this.vm = vm;
         this.thread = thread;
+        this.members = members;
     }
 
     private static boolean isPrimitive(Type type) {
@@ -241,7 +243,7 @@ public class Evaluator {
         ExpressionValue value = null;
         try {
             ObjectReference object = (ObjectReference)parent;
-            Field field = object.referenceType().fieldByName(name);
+            Field field = members.fieldByName(object.referenceType(), name);
             if (field != null) {
                 value = new InstanceValue(object, field);
             }
@@ -391,7 +393,7 @@ public class Evaluator {
         }
         ObjectReference object = (ObjectReference)value;
         ReferenceType type = object.referenceType();
-        List<Method> methods = type.methodsByName(name);
+        List<Method> methods = members.methodsByName(type, name);
         Method method = findMethod(methods, arguments);
         if (method == null) {
             throw new ExpressionException("No method with name " + name + " matched to specified arguments for " + type.name());
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.jdb.server.expression;
+
+import com.sun.jdi.Field;
+import com.sun.jdi.Method;
+import com.sun.jdi.ReferenceType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Memoizes lookups of fields and methods by name per {@link ReferenceType}, so an expression
+ * which is evaluated many times, e.g. breakpoint condition, resolves members of a type only once.
+ * <p/>
+ * Reference types are mirrors of a single target VM, so instance of this class must not be shared between VMs.
+ *
+ * @see Evaluator
+ */
+public class MemberResolver {
+    private final Map<ReferenceType, Map<String, Optional<Field>>> fields  = new ConcurrentHashMap<>();
+    private final Map<ReferenceType, Map<String, List<Method>>>    methods = new ConcurrentHashMap<>();
+
+    /**
+     * Returns visible field of the type with the given name or {@code null} if there is no such field.
+     *
+     * @throws com.sun.jdi.ClassNotPreparedException
+     *         if type is not prepared yet
+     */
+    public Field fieldByName(ReferenceType type, String name) {
+        return fields.computeIfAbsent(type, t -> new ConcurrentHashMap<>())
+                     .computeIfAbsent(name, n -> Optional.ofNullable(type.fieldByName(n)))
+                     .orElse(null);
+    }
+
+    /**
+     * Returns visible methods of the type with the given name.
+     *
+     * @throws com.sun.jdi.ClassNotPreparedException
+     *         if type is not prepared yet
+     */
+    public List<Method> methodsByName(ReferenceType type, String name) {
+        return methods.computeIfAbsent(type, t -> new ConcurrentHashMap<>())
+                      .computeIfAbsent(name, type::methodsByName);
+    }
+
+    /** Drops all memoized members, e.g. when classes are unloaded or target VM is disconnected. */
+    public void clear() {
+        fields.clear();
+        methods.clear();
+    }
+}
@@ -14,13 +14,16 @@ package org.eclipse.che.jdt.javaeditor;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
+import org.eclipse.che.commons.lang.IoUtil;
 import org.eclipse.che.dto.server.DtoFactory;
 import org.eclipse.che.ide.ext.java.shared.dto.HighlightedPosition;
 import org.eclipse.che.ide.ext.java.shared.dto.Problem;
 import org.eclipse.che.ide.ext.java.shared.dto.ReconcileResult;
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.jdt.core.IBuffer;
 import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaModelStatusConstants;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IProblemRequestor;
 import org.eclipse.jdt.core.IType;
@@ -33,78 +36,211 @@ import org.eclipse.jdt.internal.core.ClassFileWorkingCopy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
+ * Reconciles java sources opened in editors.
+ * <p/>
+ * Working copy of each reconciled compilation unit is kept between reconcile requests,
+ * when the source file is changed only the changed region of the working copy buffer is replaced.
+ * Working copies which weren't reconciled for {@link #SESSION_IDLE_TIMEOUT} are discarded as well as
+ * the least recently used ones when total size of the kept sources exceeds {@link #SESSIONS_MEMORY_BUDGET}.
+ *
  * @author Evgen Vidolob
  */
 @Singleton
 public class JavaReconciler {
     private static final Logger LOG = LoggerFactory.getLogger(JavaReconciler.class);
 
+    /** Time in milliseconds after which working copy which is not reconciled is discarded. */
+    static final long SESSION_IDLE_TIMEOUT   = TimeUnit.MINUTES.toMillis(10);
+    /** Max total number of characters of the sources of kept working copies. */
+    static final long SESSIONS_MEMORY_BUDGET = 8 * 1024 * 1024;
+
+    private final Map<String, ReconcileSession> sessions;
 
     private SemanticHighlightingReconciler semanticHighlighting;
 
     @Inject
     public JavaReconciler(SemanticHighlightingReconciler semanticHighlighting) {
         this.semanticHighlighting = semanticHighlighting;
+        this.sessions = new LinkedHashMap<>(16, 0.75f, true);
     }
 
     public ReconcileResult reconcile(IJavaProject javaProject, String fqn) throws JavaModelException {
-        final ProblemRequestor requestor = new ProblemRequestor();
-        WorkingCopyOwner wcOwner = new WorkingCopyOwner() {
-            public IProblemRequestor getProblemRequestor(ICompilationUnit unit) {
-                return requestor;
-            }
-
-            @Override
-            public IBuffer createBuffer(ICompilationUnit workingCopy) {
-//                return BufferManager.createBuffer(workingCopy);
-//                ?????
-                return new org.eclipse.jdt.internal.ui.javaeditor.DocumentAdapter(workingCopy, (IFile)workingCopy.getResource());
-            }
-        };
+        final String key = javaProject.getPath().toString() + ':' + fqn;
         List<HighlightedPosition> positions = null;
-        ICompilationUnit compilationUnit = null;
+        List<Problem> problems = null;
         try {
             IType type = javaProject.findType(fqn);
             if (type == null) {
+                discard(key);
                 return null;
             }
             if (type.isBinary()) {
                 throw new IllegalArgumentException("Can't reconcile binary type: " + fqn);
-            } else {
-                compilationUnit = type.getCompilationUnit().getWorkingCopy(wcOwner, null);
             }
-            requestor.reset();
-            CompilationUnit unit = compilationUnit.reconcile(AST.JLS8, true, wcOwner, null);
-            positions = semanticHighlighting.reconcileSemanticHighlight(unit);
-            if (compilationUnit instanceof ClassFileWorkingCopy) {
-                //we don't wont to show any errors from ".class" files
-                requestor.reset();
+            while (problems == null) {
+                final ReconcileSession session = getSession(key, type.getCompilationUnit());
+                synchronized (session) {
+                    if (session.discarded) {
+                        // evicted concurrently, take a new one
+                        continue;
+                    }
+                    session.update();
+                    session.requestor.reset();
+                    CompilationUnit unit = session.workingCopy.reconcile(AST.JLS8, true, session.owner, null);
+                    positions = semanticHighlighting.reconcileSemanticHighlight(unit);
+                    if (session.workingCopy instanceof ClassFileWorkingCopy) {
+                        //we don't wont to show any errors from ".class" files
+                        session.requestor.reset();
+                    }
+                    problems = convertProblems(session.requestor.problems);
+                }
             }
-
         } catch (JavaModelException e) {
             LOG.error("Can't reconcile class: " + fqn + " in project:" + javaProject.getPath().toOSString(), e);
+            discard(key);
             throw e;
         } finally {
-            if(compilationUnit!= null && compilationUnit.isWorkingCopy()){
+            evictSessions();
+        }
+
+        ReconcileResult result = DtoFactory.getInstance().createDto(ReconcileResult.class);
+        result.setProblems(problems);
+        result.setHighlightedPositions(positions);
+        return result;
+    }
+
+    private ReconcileSession getSession(String key, ICompilationUnit primary) throws JavaModelException {
+        ReconcileSession session;
+        synchronized (sessions) {
+            session = sessions.get(key);
+            if (session != null && !session.workingCopy.getPrimary().equals(primary)) {
+                // type was moved to another compilation unit
+                sessions.remove(key);
+                session.discard();
+                session = null;
+            }
+            if (session == null) {
+                session = new ReconcileSession(primary);
+                sessions.put(key, session);
+            }
+            session.lastAccess = System.currentTimeMillis();
+        }
+        return session;
+    }
+
+    private void discard(String key) {
+        final ReconcileSession session;
+        synchronized (sessions) {
+            session = sessions.remove(key);
+        }
+        if (session != null) {
+            session.discard();
+        }
+    }
+
+    /** Discards idle working copies and the least recently used ones when the memory budget is exceeded. */
+    private void evictSessions() {
+        final List<ReconcileSession> evicted = new ArrayList<>();
+        synchronized (sessions) {
+            final long now = System.currentTimeMillis();
+            long size = 0;
+            for (ReconcileSession session : sessions.values()) {
+                size += session.size;
+            }
+            // iteration starts from the least recently used session
+            for (Iterator<ReconcileSession> it = sessions.values().iterator(); it.hasNext(); ) {
+                final ReconcileSession session = it.next();
+                if (now - session.lastAccess > SESSION_IDLE_TIMEOUT || size > SESSIONS_MEMORY_BUDGET) {
+                    it.remove();
+                    size -= session.size;
+                    evicted.add(session);
+                }
+            }
+        }
+        for (ReconcileSession session : evicted) {
+            session.discard();
+        }
+    }
+
+    /** Working copy of a single compilation unit kept between reconcile requests. */
+    private static class ReconcileSession {
+        final ProblemRequestor requestor;
+        final WorkingCopyOwner owner;
+        final ICompilationUnit workingCopy;
+
+        volatile long    lastAccess;
+        volatile long    size;
+        boolean          discarded;
+
+        ReconcileSession(ICompilationUnit primary) throws JavaModelException {
+            requestor = new ProblemRequestor();
+            owner = new WorkingCopyOwner() {
+                public IProblemRequestor getProblemRequestor(ICompilationUnit unit) {
+                    return requestor;
+                }
+
+                @Override
+                public IBuffer createBuffer(ICompilationUnit workingCopy) {
+                    return new org.eclipse.jdt.internal.ui.javaeditor.DocumentAdapter(workingCopy, (IFile)workingCopy.getResource());
+                }
+            };
+            workingCopy = primary.getWorkingCopy(owner, null);
+            size = workingCopy.getBuffer().getLength();
+        }
+
+        /**
+         * Applies changes of the source file to the working copy, replacing only the changed region of its buffer.
+         * Contents are compared rather than modification date and size of the file, as an edit which keeps the size
+         * may happen within the granularity of the modification date.
+         */
+        void update() throws JavaModelException {
+            final String newContents;
+            try (InputStream inputStream = ((IFile)workingCopy.getResource()).getContents()) {
+                newContents = IoUtil.readStream(inputStream);
+            } catch (IOException | CoreException e) {
+                throw new JavaModelException(e, IJavaModelStatusConstants.IO_EXCEPTION);
+            }
+            final IBuffer buffer = workingCopy.getBuffer();
+            final String contents = buffer.getContents();
+            final int max = Math.min(contents.length(), newContents.length());
+            int prefix = 0;
+            while (prefix < max && contents.charAt(prefix) == newContents.charAt(prefix)) {
+                prefix++;
+            }
+            int suffix = 0;
+            while (suffix < max - prefix
+                   && contents.charAt(contents.length() - 1 - suffix) == newContents.charAt(newContents.length() - 1 - suffix)) {
+                suffix++;
+            }
+            if (prefix != contents.length() || prefix != newContents.length()) {
+                buffer.replace(prefix, contents.length() - prefix - suffix, newContents.substring(prefix, newContents.length() - suffix));
+            }
+            size = newContents.length();
+        }
+
+        void discard() {
+            synchronized (this) {
+                discarded = true;
                 try {
                     //todo close buffer
-                    compilationUnit.getBuffer().close();
-                    compilationUnit.discardWorkingCopy();
+                    workingCopy.getBuffer().close();
+                    workingCopy.discardWorkingCopy();
                 } catch (JavaModelException e) {
                     //ignore
                 }
             }
         }
-
-        ReconcileResult result = DtoFactory.getInstance().createDto(ReconcileResult.class);
-        result.setProblems(convertProblems(requestor.problems));
-        result.setHighlightedPositions(positions);
-        return result;
     }
 
     private List<Problem> convertProblems(List<IProblem> problems) {
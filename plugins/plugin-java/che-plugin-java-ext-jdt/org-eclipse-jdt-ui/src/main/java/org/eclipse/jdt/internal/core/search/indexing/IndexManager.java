@@ -49,12 +49,17 @@ import org.eclipse.jdt.internal.core.util.Util;
 
 import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.zip.CRC32;
 
 public class IndexManager extends JobManager implements IIndexConstants {
@@ -72,6 +77,10 @@ public class IndexManager extends JobManager implements IIndexConstants {
     // key = containerPath, value = indexLocation path
     // indexLocation path is created by appending an index file name to the getJavaPluginWorkingLocation() path
     public               SimpleLookupTable indexLocations                       = new SimpleLookupTable();
+    // key = containerPath of external library archive, value = modification time and length of the archive its index location is computed for
+    private              SimpleLookupTable libraryStamps                        = new SimpleLookupTable();
+    // key = absolute path of external library archive, value = digest of the archive content, computed without holding the lock
+    private final        Map<String, LibraryDigest> libraryDigests              = new ConcurrentHashMap<>();
     // key = indexLocation path, value = an index
     private              SimpleLookupTable indexes                              = new SimpleLookupTable();
     /* need to save ? */
@@ -99,10 +108,17 @@ public class IndexManager extends JobManager implements IIndexConstants {
         participantIndexNamesFile = new File(getSavedIndexesDirectory(), "participantsIndexNames.txt");
     }
 
-    public synchronized void aboutToUpdateIndex(IPath containerPath, Integer newIndexState) {
+    public void aboutToUpdateIndex(IPath containerPath, Integer newIndexState) {
+        // digest of library archive is computed before the lock is taken
+        IndexLocation indexLocation = computeIndexLocation(containerPath);
+        synchronized (this) {
+            aboutToUpdateIndex(containerPath, indexLocation, newIndexState);
+        }
+    }
+
+    private void aboutToUpdateIndex(IPath containerPath, IndexLocation indexLocation, Integer newIndexState) {
         // newIndexState is either UPDATING_STATE or REBUILDING_STATE
         // must tag the index as inconsistent, in case we exit before the update job is started
-        IndexLocation indexLocation = computeIndexLocation(containerPath);
         Object state = getIndexStates().get(indexLocation);
         Integer currentIndexState = state == null ? UNKNOWN_STATE : (Integer)state;
         if (currentIndexState.compareTo(REBUILDING_STATE) >= 0) return; // already rebuilding the index
@@ -189,7 +205,7 @@ public class IndexManager extends JobManager implements IIndexConstants {
                 // if either URL is different then the index location has been updated so rebuild.
                 if (!newIndexURL.equals(existingURL)) {
                     // URL has changed so remove the old index and create a new one
-                    this.removeIndex(containerPath);
+                    this.removeIndex(containerPath, indexLocation);
                     // create a new one
                     indexLocation = IndexLocation.createIndexLocation(newIndexURL);
                     // update caches
@@ -201,20 +217,126 @@ public class IndexManager extends JobManager implements IIndexConstants {
         return indexLocation;
     }
 
-    public synchronized IndexLocation computeIndexLocation(IPath containerPath) {
-        IndexLocation indexLocation = (IndexLocation)this.indexLocations.get(containerPath);
-        if (indexLocation == null) {
-            String pathString = containerPath.toOSString();
-            CRC32 checksumCalculator = new CRC32();
-            checksumCalculator.update(pathString.getBytes());
-            String fileName = Long.toString(checksumCalculator.getValue()) + ".index"; //$NON-NLS-1$
+    /**
+     * Computes index location of the container.
+     * Index of external library archive is named after the digest of the archive content, so the saved index is reused
+     * after restart, by any workspace sharing the index folder and for any identical archive, as long as the archive
+     * is not changed. Digest is computed once per modification of the archive and never under the index manager lock.
+     */
+    public IndexLocation computeIndexLocation(IPath containerPath) {
+        File library = getLibraryArchive(containerPath);
+        String libraryStamp = library == null ? null : library.lastModified() + "-" + library.length(); //$NON-NLS-1$
+        synchronized (this) {
+            IndexLocation indexLocation = (IndexLocation)this.indexLocations.get(containerPath);
+            if (indexLocation != null && (library == null || libraryStamp.equals(this.libraryStamps.get(containerPath))))
+                return indexLocation;
+        }
+        String digest = library == null ? null : getLibraryDigest(library, libraryStamp);
+        String pathString = containerPath.toOSString();
+        CRC32 checksumCalculator = new CRC32();
+        checksumCalculator.update(pathString.getBytes());
+        String pathChecksum = Long.toString(checksumCalculator.getValue());
+        synchronized (this) {
+            IndexLocation indexLocation;
+            if (digest == null) {
+                indexLocation = getIndexLocation(pathChecksum + ".index"); //$NON-NLS-1$
+            } else {
+                indexLocation = getIndexLocation(digest + ".index"); //$NON-NLS-1$
+                if (isUsedByOtherContainer(indexLocation, containerPath)) {
+                    // in-memory index is bound to the path of its container, so identical archives share
+                    // an index file only when they are indexed in different sessions
+                    indexLocation = getIndexLocation(pathChecksum + '-' + digest + ".index"); //$NON-NLS-1$
+                }
+            }
             if (JobManager.VERBOSE)
-                Util.verbose("-> index name for " + pathString + " is " + fileName); //$NON-NLS-1$ //$NON-NLS-2$
-            // to share the indexLocation between the indexLocations and indexStates tables, get the key from the indexStates table
-            indexLocation = (IndexLocation)getIndexStates().getKey(new FileIndexLocation(new File(getSavedIndexesDirectory(), fileName)));
+                Util.verbose("-> index name for " + pathString + " is " + indexLocation.fileName()); //$NON-NLS-1$ //$NON-NLS-2$
+            IndexLocation previousLocation = (IndexLocation)this.indexLocations.get(containerPath);
             this.indexLocations.put(containerPath, indexLocation);
+            if (library != null) {
+                this.libraryStamps.put(containerPath, libraryStamp);
+                if (previousLocation != null && !previousLocation.equals(indexLocation))
+                    deleteObsoleteIndex(previousLocation);
+            }
+            return indexLocation;
         }
-        return indexLocation;
+    }
+
+    /*
+     * Returns the location of the index file with the given name,
+     * the location is shared between the indexLocations and indexStates tables.
+     */
+    private IndexLocation getIndexLocation(String fileName) {
+        return (IndexLocation)getIndexStates().getKey(new FileIndexLocation(new File(getSavedIndexesDirectory(), fileName)));
+    }
+
+    private boolean isUsedByOtherContainer(IndexLocation indexLocation, IPath containerPath) {
+        Object[] keys = this.indexLocations.keyTable;
+        Object[] values = this.indexLocations.valueTable;
+        for (int i = 0, l = keys.length; i < l; i++) {
+            if (keys[i] != null && indexLocation.equals(values[i]) && !keys[i].equals(containerPath)) return true;
+        }
+        return false;
+    }
+
+    /*
+     * Returns the file of external library archive denoted by the path or null if the path doesn't denote such archive.
+     */
+    private File getLibraryArchive(IPath containerPath) {
+        File file = containerPath.toFile();
+        if (!file.isFile() || !org.eclipse.jdt.internal.compiler.util.Util.isArchiveFileName(file.getName())) return null;
+        return file;
+    }
+
+    /*
+     * Returns digest of the content of external library archive, it is computed again only when
+     * modification time or length of the archive changes.
+     */
+    private String getLibraryDigest(File library, String libraryStamp) {
+        String path = library.getAbsolutePath();
+        LibraryDigest digest = this.libraryDigests.get(path);
+        if (digest == null || !digest.stamp.equals(libraryStamp)) {
+            String value = computeLibraryDigest(library);
+            if (value == null) return null;
+            digest = new LibraryDigest(libraryStamp, value);
+            this.libraryDigests.put(path, digest);
+        }
+        return digest.value;
+    }
+
+    private String computeLibraryDigest(File library) {
+        try (InputStream in = new FileInputStream(library)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1"); //$NON-NLS-1$
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            StringBuilder result = new StringBuilder();
+            for (byte b : digest.digest()) {
+                result.append(String.format("%02x", b)); //$NON-NLS-1$
+            }
+            return result.toString();
+        } catch (IOException | NoSuchAlgorithmException e) {
+            if (JobManager.VERBOSE)
+                Util.verbose("-> can't compute digest of " + library + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+            return null;
+        }
+    }
+
+    /*
+     * Deletes index of the previous content of the library unless another container uses it.
+     * Indexes of libraries changed between restarts are deleted by cleanUpIndexes().
+     */
+    private void deleteObsoleteIndex(IndexLocation obsoleteLocation) {
+        if (isUsedByOtherContainer(obsoleteLocation, null) || getIndexStates().get(obsoleteLocation) == REUSE_STATE) return;
+        if (JobManager.VERBOSE || DEBUG)
+            Util.verbose("Deleting obsolete index file " + obsoleteLocation); //$NON-NLS-1$
+        Index index = getIndex(obsoleteLocation);
+        if (index != null)
+            index.monitor = null;
+        this.indexes.removeKey(obsoleteLocation);
+        obsoleteLocation.delete();
+        updateIndexState(obsoleteLocation, null);
     }
 
     public void deleteIndexFiles() {
@@ -297,7 +419,7 @@ public class IndexManager extends JobManager implements IIndexConstants {
      * <p/>
      * Warning: Does not check whether index is consistent (not being used)
      */
-    public synchronized Index getIndex(IPath containerPath, boolean reuseExistingFile, boolean createIfMissing) {
+    public Index getIndex(IPath containerPath, boolean reuseExistingFile, boolean createIfMissing) {
         IndexLocation indexLocation = computeIndexLocation(containerPath);
         return getIndex(containerPath, indexLocation, reuseExistingFile, createIfMissing);
     }
@@ -452,12 +574,14 @@ public class IndexManager extends JobManager implements IIndexConstants {
         return locatedIndexes;
     }
 
-    public synchronized Index getIndexForUpdate(IPath containerPath, boolean reuseExistingFile, boolean createIfMissing) {
+    public Index getIndexForUpdate(IPath containerPath, boolean reuseExistingFile, boolean createIfMissing) {
         IndexLocation indexLocation = computeIndexLocation(containerPath);
-        if (getIndexStates().get(indexLocation) == REBUILDING_STATE)
-            return getIndex(containerPath, indexLocation, reuseExistingFile, createIfMissing);
+        synchronized (this) {
+            if (getIndexStates().get(indexLocation) == REBUILDING_STATE)
+                return getIndex(containerPath, indexLocation, reuseExistingFile, createIfMissing);
 
-        return null; // abort the job since the index has been removed from the REBUILDING_STATE
+            return null; // abort the job since the index has been removed from the REBUILDING_STATE
+        }
     }
 
     private SimpleLookupTable getIndexStates() {
@@ -656,14 +780,16 @@ public class IndexManager extends JobManager implements IIndexConstants {
         request(new AddFolderToIndex(sourceFolder, project, inclusionPatterns, exclusionPatterns, this));
     }
 
-    public synchronized void jobWasCancelled(IPath containerPath) {
+    public void jobWasCancelled(IPath containerPath) {
         IndexLocation indexLocation = computeIndexLocation(containerPath);
-        Index index = getIndex(indexLocation);
-        if (index != null) {
-            index.monitor = null;
-            this.indexes.removeKey(indexLocation);
+        synchronized (this) {
+            Index index = getIndex(indexLocation);
+            if (index != null) {
+                index.monitor = null;
+                this.indexes.removeKey(indexLocation);
+            }
+            updateIndexState(indexLocation, UNKNOWN_STATE);
         }
-        updateIndexState(indexLocation, UNKNOWN_STATE);
     }
 
     /**
@@ -737,12 +863,18 @@ public class IndexManager extends JobManager implements IIndexConstants {
      * Returns the new empty index or null if it didn't exist before.
      * Warning: Does not check whether index is consistent (not being used)
      */
-    public synchronized Index recreateIndex(IPath containerPath) {
+    public Index recreateIndex(IPath containerPath) {
+        // Path is already canonical
+        IndexLocation indexLocation = computeIndexLocation(containerPath);
+        synchronized (this) {
+            return recreateIndex(containerPath, indexLocation);
+        }
+    }
+
+    private Index recreateIndex(IPath containerPath, IndexLocation indexLocation) {
         // only called to over write an existing cached index...
         String containerPathString = containerPath.getDevice() == null ? containerPath.toString() : containerPath.toOSString();
         try {
-            // Path is already canonical
-            IndexLocation indexLocation = computeIndexLocation(containerPath);
             Index index = getIndex(indexLocation);
             ReadWriteMonitor monitor = index == null ? null : index.monitor;
 
@@ -774,10 +906,16 @@ public class IndexManager extends JobManager implements IIndexConstants {
      * Removes the index for a given path.
      * This is a no-op if the index did not exist.
      */
-    public synchronized void removeIndex(IPath containerPath) {
+    public void removeIndex(IPath containerPath) {
         if (JobManager.VERBOSE || DEBUG)
             Util.verbose("removing index " + containerPath); //$NON-NLS-1$
         IndexLocation indexLocation = computeIndexLocation(containerPath);
+        synchronized (this) {
+            removeIndex(containerPath, indexLocation);
+        }
+    }
+
+    private void removeIndex(IPath containerPath, IndexLocation indexLocation) {
         Index index = getIndex(indexLocation);
         File indexFile = null;
         if (index != null) {
@@ -896,6 +1034,7 @@ public class IndexManager extends JobManager implements IIndexConstants {
             this.indexStates = null;
         }
         this.indexLocations = new SimpleLookupTable();
+        this.libraryStamps = new SimpleLookupTable();
         this.javaPluginLocation = null;
     }
 
@@ -903,19 +1042,25 @@ public class IndexManager extends JobManager implements IIndexConstants {
      * Resets the index for a given path.
      * Returns true if the index was reset, false otherwise.
      */
-    public synchronized boolean resetIndex(IPath containerPath) {
+    public boolean resetIndex(IPath containerPath) {
+        // Path is already canonical
+        IndexLocation indexLocation = computeIndexLocation(containerPath);
+        synchronized (this) {
+            return resetIndex(containerPath, indexLocation);
+        }
+    }
+
+    private boolean resetIndex(IPath containerPath, IndexLocation indexLocation) {
         // only called to over write an existing cached index...
         String containerPathString = containerPath.getDevice() == null ? containerPath.toString() : containerPath.toOSString();
         try {
-            // Path is already canonical
-            IndexLocation indexLocation = computeIndexLocation(containerPath);
             Index index = getIndex(indexLocation);
             if (JobManager.VERBOSE) {
                 Util.verbose("-> reseting index: " + indexLocation + " for path: " + containerPathString); //$NON-NLS-1$ //$NON-NLS-2$
             }
             if (index == null) {
                 // the index does not exist, try to recreate it
-                return recreateIndex(containerPath) != null;
+                return recreateIndex(containerPath, indexLocation) != null;
             }
             index.reset();
             return true;
@@ -936,8 +1081,9 @@ public class IndexManager extends JobManager implements IIndexConstants {
                 Util.verbose("-> saving index " + index.getIndexLocation()); //$NON-NLS-1$
             index.save();
         }
+        IPath containerPath = new Path(index.containerPath);
+        IndexLocation indexLocation = computeIndexLocation(containerPath);
         synchronized (this) {
-            IPath containerPath = new Path(index.containerPath);
             if (this.jobEnd > this.jobStart) {
                 for (int i = this.jobEnd; i > this.jobStart; i--) { // skip the current job
                     IJob job = this.awaitingJobs[i];
@@ -945,7 +1091,6 @@ public class IndexManager extends JobManager implements IIndexConstants {
                         if (((IndexRequest)job).containerPath.equals(containerPath)) return;
                 }
             }
-            IndexLocation indexLocation = computeIndexLocation(containerPath);
             updateIndexState(indexLocation, SAVED_STATE);
         }
     }
@@ -1301,4 +1446,14 @@ public class IndexManager extends JobManager implements IIndexConstants {
             }
         }
     }
+
+    private static class LibraryDigest {
+        final String stamp;
+        final String value;
+
+        LibraryDigest(String stamp, String value) {
+            this.stamp = stamp;
+            this.value = value;
+        }
+    }
 }
@@ -309,6 +309,9 @@ public interface JavaLocalizationConstant extends Messages {
     @Key("find.usages.part.title.tooltip")
     String findUsagesPartTitleTooltip();
 
+    @Key("find.usages.cancel.tooltip")
+    String findUsagesCancelTooltip();
+
     @Key("rename.refactoring.action.description")
     String renameRefactoringActionDescription();
 
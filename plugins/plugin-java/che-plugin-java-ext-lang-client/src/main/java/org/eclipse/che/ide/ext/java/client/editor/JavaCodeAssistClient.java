@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.che.ide.ext.java.client.editor;
 
+import com.google.gwt.http.client.URL;
 import com.google.gwt.user.client.rpc.AsyncCallback;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
@@ -66,12 +67,30 @@ public class JavaCodeAssistClient {
         this.urlDecorator = urlDecorator;
     }
 
+    /**
+     * Computes completion proposals and starts completion session, proposals of the session
+     * may be filtered with {@link #filterProposals(String, String, AsyncRequestCallback)} later.
+     */
     public void computeProposals(String projectPath, String fqn, int offset, String contents, AsyncRequestCallback<Proposals> callback) {
         String url = appContext.getDevMachine().getWsAgentBaseUrl() + CODE_ASSIST_URL_PREFIX + "/compute/completion" + "/?projectpath=" +
                      projectPath + "&fqn=" + fqn + "&offset=" + offset;
         asyncRequestFactory.createPostRequest(url, null).data(contents).send(callback);
     }
 
+    /**
+     * Filters proposals of the completion session by the text typed since the proposals were computed.
+     *
+     * @param sessionId
+     *         id of the completion session
+     * @param prefix
+     *         text typed since the offset the proposals were computed for
+     */
+    public void filterProposals(String sessionId, String prefix, AsyncRequestCallback<Proposals> callback) {
+        String url = appContext.getDevMachine().getWsAgentBaseUrl() + CODE_ASSIST_URL_PREFIX + "/filter/completion/?sessionid=" +
+                     sessionId + "&prefix=" + URL.encodeQueryString(prefix);
+        asyncRequestFactory.createGetRequest(url).send(callback);
+    }
+
     public void computeAssistProposals(String projectPath, String fqn, int offset, List<Problem> problems,
                                        AsyncRequestCallback<Proposals> callback) {
         String url = appContext.getDevMachine().getWsAgentBaseUrl() + CODE_ASSIST_URL_PREFIX + "/compute/assist" + "/?projectpath=" +
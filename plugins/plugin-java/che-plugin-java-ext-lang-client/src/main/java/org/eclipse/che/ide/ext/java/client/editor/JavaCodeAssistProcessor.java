@@ -54,6 +54,13 @@ public class JavaCodeAssistProcessor implements CodeAssistProcessor {
 
     private String errorMessage;
 
+    /** Completion session which proposals may be filtered instead of being computed again, {@code null} if there is no such session. */
+    private String sessionId;
+    /** Offset the proposals of the completion session were computed for. */
+    private int    sessionOffset;
+    /** Content of the document the proposals of the completion session were computed for. */
+    private String sessionContent;
+
     @AssistedInject
     public JavaCodeAssistProcessor(@Assisted final EditorPartPresenter editor,
                                    final JavaCodeAssistClient client,
@@ -151,14 +158,40 @@ public class JavaCodeAssistProcessor implements CodeAssistProcessor {
         if (errorMessage != null) {
             return;
         }
+        final String contents = textEditor.getDocument().getContents();
+        final String prefix = getTypedPrefix(offset, contents);
+        if (prefix == null) {
+            computeAllProposals(offset, contents, callback);
+            return;
+        }
+        Unmarshallable<Proposals> unmarshaller = unmarshallerFactory.newUnmarshaller(Proposals.class);
+        client.filterProposals(sessionId, prefix, new AsyncRequestCallback<Proposals>(unmarshaller) {
+            @Override
+            protected void onSuccess(Proposals proposals) {
+                showProposals(callback, proposals);
+            }
+
+            @Override
+            protected void onFailure(Throwable throwable) {
+                // session is expired or proposal of the session was applied
+                computeAllProposals(offset, contents, callback);
+            }
+        });
+    }
+
+    private void computeAllProposals(final int offset, final String contents, final CodeAssistCallback callback) {
+        sessionId = null;
         final VirtualFile file = editor.getEditorInput().getFile();
         final String projectPath = file.getProject().getProjectConfig().getPath();
         String fqn = JavaSourceFolderUtil.getFQNForFile(file);
         Unmarshallable<Proposals> unmarshaller = unmarshallerFactory.newUnmarshaller(Proposals.class);
-        client.computeProposals(projectPath, fqn, offset, textEditor.getDocument().getContents(),
+        client.computeProposals(projectPath, fqn, offset, contents,
                                 new AsyncRequestCallback<Proposals>(unmarshaller) {
                                     @Override
                                     protected void onSuccess(Proposals proposals) {
+                                        sessionId = proposals.getSessionId();
+                                        sessionOffset = offset;
+                                        sessionContent = contents;
                                         showProposals(callback, proposals);
                                     }
 
@@ -169,6 +202,32 @@ public class JavaCodeAssistProcessor implements CodeAssistProcessor {
         });
     }
 
+    /**
+     * Returns text typed since proposals of the current completion session were computed
+     * or {@code null} if the document was changed in another way and proposals should be computed again.
+     */
+    private String getTypedPrefix(int offset, String contents) {
+        if (sessionId == null || offset < sessionOffset) {
+            return null;
+        }
+        final int typedLength = offset - sessionOffset;
+        if (contents.length() != sessionContent.length() + typedLength) {
+            return null;
+        }
+        final String prefix = contents.substring(sessionOffset, offset);
+        for (int i = 0; i < prefix.length(); i++) {
+            final char c = prefix.charAt(i);
+            if (!(Character.isLetterOrDigit(c) || c == '_' || c == '$')) {
+                return null;
+            }
+        }
+        if (!contents.startsWith(sessionContent.substring(0, sessionOffset))
+            || !contents.endsWith(sessionContent.substring(sessionOffset))) {
+            return null;
+        }
+        return prefix;
+    }
+
     private void showProposals(final CodeAssistCallback callback, final Proposals respons) {
         List<ProposalPresentation> presentations = respons.getProposals();
         final List<CompletionProposal> proposals = new ArrayList<>(presentations.size());
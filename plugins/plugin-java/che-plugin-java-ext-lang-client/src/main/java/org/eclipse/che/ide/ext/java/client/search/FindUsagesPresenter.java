@@ -30,13 +30,24 @@ import org.eclipse.che.ide.commons.exception.ServerException;
 import org.eclipse.che.ide.dto.DtoFactory;
 import org.eclipse.che.ide.ext.java.client.JavaLocalizationConstant;
 import org.eclipse.che.ide.ext.java.client.projecttree.JavaSourceFolderUtil;
+import org.eclipse.che.ide.ext.java.shared.dto.model.JavaElement;
+import org.eclipse.che.ide.ext.java.shared.dto.model.JavaProject;
+import org.eclipse.che.ide.ext.java.shared.dto.model.PackageFragment;
+import org.eclipse.che.ide.ext.java.shared.dto.model.PackageFragmentRoot;
 import org.eclipse.che.ide.ext.java.shared.dto.search.FindUsagesRequest;
 import org.eclipse.che.ide.ext.java.shared.dto.search.FindUsagesResponse;
+import org.eclipse.che.ide.ext.java.shared.dto.search.Match;
 import org.eclipse.che.ide.api.editor.texteditor.TextEditor;
 import org.eclipse.che.ide.rest.HTTPStatus;
+import org.eclipse.che.ide.util.UUID;
 import org.eclipse.che.ide.util.loging.Log;
 import org.vectomatic.dom.svg.ui.SVGResource;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import static org.eclipse.che.ide.api.notification.StatusNotification.DisplayMode.FLOAT_MODE;
 import static org.eclipse.che.ide.api.notification.StatusNotification.Status.FAIL;
 
@@ -57,6 +68,11 @@ public class FindUsagesPresenter extends BasePresenter implements FindUsagesView
     private NotificationManager      manager;
     private final Resources resources;
 
+    /** Id of the running search, results of other searches are ignored. */
+    private String             searchId;
+    /** Usages received so far from the running search. */
+    private FindUsagesResponse partialResponse;
+
     @Inject
     public FindUsagesPresenter(WorkspaceAgent workspaceAgent,
                                JavaLocalizationConstant localizationConstant,
@@ -115,15 +131,41 @@ public class FindUsagesPresenter extends BasePresenter implements FindUsagesView
         request.setProjectPath(projectPath);
         request.setOffset(activeEditor.getCursorOffset());
 
-        Promise<FindUsagesResponse> promise = searchService.findUsages(request);
+        cancelRunningSearch();
+        final String currentSearchId = UUID.uuid();
+        searchId = currentSearchId;
+        partialResponse = null;
+        request.setSearchId(currentSearchId);
+        view.setSearchRunning(true);
+
+        Promise<FindUsagesResponse> promise = searchService.findUsages(request, new Operation<FindUsagesResponse>() {
+            @Override
+            public void apply(FindUsagesResponse arg) throws OperationException {
+                if (currentSearchId.equals(searchId)) {
+                    partialResponse = partialResponse == null ? arg : merge(partialResponse, arg);
+                    handleResponse(partialResponse);
+                }
+            }
+        });
         promise.then(new Operation<FindUsagesResponse>() {
             @Override
             public void apply(FindUsagesResponse arg) throws OperationException {
-                handleResponse(arg);
+                if (currentSearchId.equals(searchId)) {
+                    searchId = null;
+                    partialResponse = null;
+                    view.setSearchRunning(false);
+                    handleResponse(arg);
+                }
             }
         }).catchError(new Operation<PromiseError>() {
             @Override
             public void apply(PromiseError arg) throws OperationException {
+                if (!currentSearchId.equals(searchId)) {
+                    return;
+                }
+                searchId = null;
+                partialResponse = null;
+                view.setSearchRunning(false);
                 Throwable cause = arg.getCause();
                 if (cause instanceof ServerException) {
                     handleError(((ServerException)cause).getHTTPStatus(), cause.getMessage());
@@ -141,6 +183,87 @@ public class FindUsagesPresenter extends BasePresenter implements FindUsagesView
 
     }
 
+    /** Stops the running search, usages which were found so far stay shown. */
+    @Override
+    public void onCancelSearchClicked() {
+        cancelRunningSearch();
+        partialResponse = null;
+        view.setSearchRunning(false);
+    }
+
+    /** Cancels the search which is still running, e.g. when usages of another element are requested. */
+    private void cancelRunningSearch() {
+        if (searchId == null) {
+            return;
+        }
+        searchService.cancelFindUsages(searchId).catchError(new Operation<PromiseError>() {
+            @Override
+            public void apply(PromiseError arg) throws OperationException {
+                // search may have finished already
+            }
+        });
+        searchId = null;
+    }
+
+    /** Adds usages of the partial response, which contains usages found in a single file, to the usages received before. */
+    private FindUsagesResponse merge(FindUsagesResponse response, FindUsagesResponse partial) {
+        Map<String, List<Match>> matches = new HashMap<>(response.getMatches());
+        matches.putAll(partial.getMatches());
+        response.setMatches(matches);
+
+        List<JavaProject> projects = new ArrayList<>(response.getProjects());
+        for (JavaProject partialProject : partial.getProjects()) {
+            JavaProject project = null;
+            for (JavaProject candidate : projects) {
+                if (candidate.getPath().equals(partialProject.getPath())) {
+                    project = candidate;
+                    break;
+                }
+            }
+            if (project == null) {
+                projects.add(partialProject);
+                continue;
+            }
+            List<PackageFragmentRoot> roots = new ArrayList<>(project.getPackageFragmentRoots());
+            for (PackageFragmentRoot partialRoot : partialProject.getPackageFragmentRoots()) {
+                PackageFragmentRoot root = findByHandle(roots, partialRoot);
+                if (root == null) {
+                    roots.add(partialRoot);
+                    continue;
+                }
+                List<PackageFragment> fragments = new ArrayList<>(root.getPackageFragments());
+                for (PackageFragment partialFragment : partialRoot.getPackageFragments()) {
+                    PackageFragment fragment = findByHandle(fragments, partialFragment);
+                    if (fragment == null) {
+                        fragments.add(partialFragment);
+                        continue;
+                    }
+                    fragment.setCompilationUnits(concat(fragment.getCompilationUnits(), partialFragment.getCompilationUnits()));
+                    fragment.setClassFiles(concat(fragment.getClassFiles(), partialFragment.getClassFiles()));
+                }
+                root.setPackageFragments(fragments);
+            }
+            project.setPackageFragmentRoots(roots);
+        }
+        response.setProjects(projects);
+        return response;
+    }
+
+    private static <T extends JavaElement> T findByHandle(List<T> elements, T element) {
+        for (T candidate : elements) {
+            if (candidate.getHandleIdentifier().equals(element.getHandleIdentifier())) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static <T> List<T> concat(List<T> first, List<T> second) {
+        List<T> result = new ArrayList<>(first);
+        result.addAll(second);
+        return result;
+    }
+
     private void handleError(int statusCode, String message) {
         if (statusCode == HTTPStatus.BAD_REQUEST) {
             manager.notify(localizationConstant.failedToProcessFindUsage(),
@@ -29,8 +29,13 @@ public interface FindUsagesView extends View<FindUsagesView.ActionDelegate> {
 
     void showUsages(FindUsagesResponse usagesResponse);
 
+    /** Shows the button which cancels the running search, or hides it when the search is finished. */
+    void setSearchRunning(boolean running);
+
     interface ActionDelegate extends BaseActionDelegate {
 
+        /** Performs any actions appropriate in response to the user having pressed the cancel search button. */
+        void onCancelSearchClicked();
     }
 
 }
@@ -11,17 +11,22 @@
 package org.eclipse.che.ide.ext.java.client.search;
 
 import com.google.gwt.dom.client.Style;
+import com.google.gwt.event.dom.client.ClickEvent;
+import com.google.gwt.event.dom.client.ClickHandler;
 import com.google.gwt.user.client.ui.DockLayoutPanel;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
 import org.eclipse.che.ide.api.parts.PartStackUIResources;
 import org.eclipse.che.ide.api.parts.base.BaseView;
+import org.eclipse.che.ide.api.parts.base.ToolButton;
 import org.eclipse.che.ide.api.data.tree.Node;
 import org.eclipse.che.ide.api.data.tree.NodeInterceptor;
 import org.eclipse.che.ide.ext.java.client.JavaLocalizationConstant;
 import org.eclipse.che.ide.ext.java.client.search.node.NodeFactory;
 import org.eclipse.che.ide.ext.java.shared.dto.search.FindUsagesResponse;
+import org.eclipse.che.ide.ui.FontAwesome;
+import org.eclipse.che.ide.ui.Tooltip;
 import org.eclipse.che.ide.ui.smartTree.NodeLoader;
 import org.eclipse.che.ide.ui.smartTree.NodeStorage;
 import org.eclipse.che.ide.ui.smartTree.NodeUniqueKeyProvider;
@@ -30,6 +35,9 @@ import org.eclipse.che.ide.ui.smartTree.Tree;
 import javax.validation.constraints.NotNull;
 import java.util.Collections;
 
+import static org.eclipse.che.ide.ui.menu.PositionController.HorizontalAlign.MIDDLE;
+import static org.eclipse.che.ide.ui.menu.PositionController.VerticalAlign.BOTTOM;
+
 /**
  * Implementation for FindUsages view.
  * Uses tree for presenting search results.
@@ -41,6 +49,7 @@ class FindUsagesViewImpl extends BaseView<FindUsagesView.ActionDelegate> impleme
 
     private final Tree        tree;
     private final NodeFactory nodeFactory;
+    private final ToolButton  cancelButton;
 
     @Inject
     public FindUsagesViewImpl(PartStackUIResources resources, NodeFactory nodeFactory, JavaLocalizationConstant localizationConstant) {
@@ -60,6 +69,18 @@ class FindUsagesViewImpl extends BaseView<FindUsagesView.ActionDelegate> impleme
         panel.add(tree);
         setContentWidget(panel);
         panel.ensureDebugId("findUsages-panel");
+
+        cancelButton = new ToolButton(FontAwesome.BAN);
+        cancelButton.addClickHandler(new ClickHandler() {
+            @Override
+            public void onClick(ClickEvent event) {
+                delegate.onCancelSearchClicked();
+            }
+        });
+        cancelButton.ensureDebugId("findUsages-cancel");
+        Tooltip.create((elemental.dom.Element)cancelButton.getElement(), BOTTOM, MIDDLE, localizationConstant.findUsagesCancelTooltip());
+        addToolButton(cancelButton);
+        cancelButton.setVisible(false);
     }
 
     @Override
@@ -78,4 +99,9 @@ class FindUsagesViewImpl extends BaseView<FindUsagesView.ActionDelegate> impleme
             tree.getSelectionModel().select(tree.getRootNodes().get(0), false);
         }
     }
+
+    @Override
+    public void setSearchRunning(boolean running) {
+        cancelButton.setVisible(running);
+    }
 }
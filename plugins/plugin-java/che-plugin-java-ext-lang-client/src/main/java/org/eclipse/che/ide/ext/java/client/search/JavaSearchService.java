@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.che.ide.ext.java.client.search;
 
+import org.eclipse.che.api.promises.client.Operation;
 import org.eclipse.che.api.promises.client.Promise;
 import org.eclipse.che.ide.ext.java.shared.dto.search.FindUsagesRequest;
 import org.eclipse.che.ide.ext.java.shared.dto.search.FindUsagesResponse;
@@ -29,4 +30,23 @@ public interface JavaSearchService {
      * @return find usages response
      */
     Promise<FindUsagesResponse> findUsages(FindUsagesRequest request);
+
+    /**
+     * Invoke find usage request and receive usages of each file as soon as they are found.
+     *
+     * @param request
+     *          the request parameters, must contain search id
+     * @param partialResults
+     *          receives usages found in each file while search is running
+     * @return find usages response with all usages found
+     */
+    Promise<FindUsagesResponse> findUsages(FindUsagesRequest request, Operation<FindUsagesResponse> partialResults);
+
+    /**
+     * Cancel running find usage request.
+     *
+     * @param searchId
+     *          the search id of the request
+     */
+    Promise<Void> cancelFindUsages(String searchId);
 }
@@ -14,6 +14,7 @@ import com.google.gwt.user.client.rpc.AsyncCallback;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
+import org.eclipse.che.api.promises.client.Operation;
 import org.eclipse.che.api.promises.client.Promise;
 import org.eclipse.che.api.promises.client.callback.AsyncPromiseHelper;
 import org.eclipse.che.ide.api.app.AppContext;
@@ -68,4 +69,16 @@ public class JavaSearchServiceRest implements JavaSearchService {
             }
         });
     }
+
+    /** Partial results are delivered over websocket only, so they aren't received by this implementation. */
+    @Override
+    public Promise<FindUsagesResponse> findUsages(FindUsagesRequest request, Operation<FindUsagesResponse> partialResults) {
+        return findUsages(request);
+    }
+
+    @Override
+    public Promise<Void> cancelFindUsages(String searchId) {
+        return asyncRequestFactory.createDeleteRequest(appContext.getDevMachine().getWsAgentBaseUrl() + pathToService + '/' + searchId)
+                                  .send();
+    }
 }
@@ -15,6 +15,8 @@ import com.google.gwt.user.client.rpc.AsyncCallback;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
+import org.eclipse.che.api.promises.client.Operation;
+import org.eclipse.che.api.promises.client.OperationException;
 import org.eclipse.che.api.promises.client.Promise;
 import org.eclipse.che.api.promises.client.callback.AsyncPromiseHelper;
 import org.eclipse.che.api.promises.client.callback.PromiseHelper;
@@ -25,13 +27,16 @@ import org.eclipse.che.ide.ext.java.shared.dto.search.FindUsagesResponse;
 import org.eclipse.che.ide.rest.DtoUnmarshallerFactory;
 import org.eclipse.che.ide.ui.loaders.request.LoaderFactory;
 import org.eclipse.che.ide.ui.loaders.request.MessageLoader;
+import org.eclipse.che.ide.util.loging.Log;
 import org.eclipse.che.ide.websocket.MessageBuilder;
 import org.eclipse.che.ide.websocket.MessageBus;
 import org.eclipse.che.ide.websocket.MessageBusProvider;
 import org.eclipse.che.ide.websocket.WebSocketException;
 import org.eclipse.che.ide.websocket.rest.RequestCallback;
+import org.eclipse.che.ide.websocket.rest.SubscriptionHandler;
 
 import static org.eclipse.che.ide.MimeType.APPLICATION_JSON;
+import static org.eclipse.che.ide.ext.java.shared.Constants.FIND_USAGES_CHANNEL;
 import static org.eclipse.che.ide.rest.HTTPHeader.ACCEPT;
 import static org.eclipse.che.ide.rest.HTTPHeader.CONTENTTYPE;
 
@@ -64,36 +69,110 @@ public class JavaSearchServiceWS implements JavaSearchService {
 
     @Override
     public Promise<FindUsagesResponse> findUsages(final FindUsagesRequest request) {
+        return findUsages(request, null);
+    }
+
+    @Override
+    public Promise<FindUsagesResponse> findUsages(final FindUsagesRequest request,
+                                                  final Operation<FindUsagesResponse> partialResults) {
         final MessageBus messageBus = provider.getMachineMessageBus();
 
         return PromiseHelper.newPromise(new AsyncPromiseHelper.RequestCall<FindUsagesResponse>() {
             @Override
             public void makeCall(final AsyncCallback<FindUsagesResponse> callback) {
+                final String channel = FIND_USAGES_CHANNEL + request.getSearchId();
+                final SubscriptionHandler<FindUsagesResponse> partialResultsHandler =
+                        partialResults == null ? null : newPartialResultsHandler(partialResults);
                 MessageBuilder builder = new MessageBuilder(RequestBuilder.POST, pathToService + "find/usages");
                 builder.data(dtoFactory.toJson(request))
                        .header(CONTENTTYPE, APPLICATION_JSON)
                        .header(ACCEPT, APPLICATION_JSON);
-                loader.show();
+                // results of streamed search are shown while it runs and it may be cancelled, so the modal loader isn't shown
+                if (partialResultsHandler == null) {
+                    loader.show();
+                }
                 try {
+                    if (partialResultsHandler != null) {
+                        messageBus.subscribe(channel, partialResultsHandler);
+                    }
                     messageBus.send(builder.build(), new RequestCallback<FindUsagesResponse>(
                             unmarshallerFactory.newWSUnmarshaller(FindUsagesResponse.class)) {
                         @Override
                         protected void onSuccess(FindUsagesResponse result) {
                             loader.hide();
+                            unsubscribe(messageBus, channel, partialResultsHandler);
                             callback.onSuccess(result);
                         }
 
                         @Override
                         protected void onFailure(Throwable exception) {
                             loader.hide();
+                            unsubscribe(messageBus, channel, partialResultsHandler);
                             callback.onFailure(exception);
                         }
                     });
                 } catch (WebSocketException e) {
                     loader.hide();
+                    unsubscribe(messageBus, channel, partialResultsHandler);
+                    callback.onFailure(e);
+                }
+            }
+        });
+    }
+
+    @Override
+    public Promise<Void> cancelFindUsages(final String searchId) {
+        final MessageBus messageBus = provider.getMachineMessageBus();
+
+        return PromiseHelper.newPromise(new AsyncPromiseHelper.RequestCall<Void>() {
+            @Override
+            public void makeCall(final AsyncCallback<Void> callback) {
+                MessageBuilder builder = new MessageBuilder(RequestBuilder.DELETE, pathToService + "find/usages/" + searchId);
+                try {
+                    messageBus.send(builder.build(), new RequestCallback<Void>() {
+                        @Override
+                        protected void onSuccess(Void result) {
+                            callback.onSuccess(result);
+                        }
+
+                        @Override
+                        protected void onFailure(Throwable exception) {
+                            callback.onFailure(exception);
+                        }
+                    });
+                } catch (WebSocketException e) {
                     callback.onFailure(e);
                 }
             }
         });
     }
+
+    private SubscriptionHandler<FindUsagesResponse> newPartialResultsHandler(final Operation<FindUsagesResponse> partialResults) {
+        return new SubscriptionHandler<FindUsagesResponse>(unmarshallerFactory.newWSUnmarshaller(FindUsagesResponse.class)) {
+            @Override
+            protected void onMessageReceived(FindUsagesResponse result) {
+                try {
+                    partialResults.apply(result);
+                } catch (OperationException e) {
+                    Log.error(JavaSearchServiceWS.class, e);
+                }
+            }
+
+            @Override
+            protected void onErrorReceived(Throwable exception) {
+                Log.error(JavaSearchServiceWS.class, exception);
+            }
+        };
+    }
+
+    private void unsubscribe(MessageBus messageBus, String channel, SubscriptionHandler<FindUsagesResponse> handler) {
+        if (handler == null || !messageBus.isHandlerSubscribed(handler, channel)) {
+            return;
+        }
+        try {
+            messageBus.unsubscribe(channel, handler);
+        } catch (WebSocketException e) {
+            Log.error(JavaSearchServiceWS.class, e);
+        }
+    }
 }
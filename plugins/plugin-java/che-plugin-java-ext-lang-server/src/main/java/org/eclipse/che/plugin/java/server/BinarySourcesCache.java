@@ -0,0 +1,305 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.java.server;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Collections.singletonList;
+import static java.util.Comparator.comparingLong;
+
+/**
+ * Keeps sources of binary classes, either read from the attached sources or generated from bytecode,
+ * so they are not looked up or regenerated each time a library class is opened in any project of the workspace.
+ * <p/>
+ * Sources are keyed by the location and modification date of the library and by the fully qualified name of the class,
+ * so sources of an updated library are never served from the cache. The least recently used sources are moved from
+ * memory to disk when total size of the sources in memory exceeds {@link #MEMORY_BUDGET}, the oldest spilled sources
+ * are deleted when they take more than {@link #DISK_BUDGET} bytes on disk. Disk is never accessed under the cache lock.
+ */
+@Singleton
+public class BinarySourcesCache {
+    private static final Logger LOG = LoggerFactory.getLogger(BinarySourcesCache.class);
+
+    /** Max total number of characters of the sources kept in memory. */
+    static final long MEMORY_BUDGET = 4 * 1024 * 1024;
+    /** Max total number of bytes of the sources spilled to disk. */
+    static final long DISK_BUDGET   = 256 * 1024 * 1024;
+
+    private static final String TMP_SUFFIX = ".tmp";
+
+    private final Path                          spillDir;
+    private final long                          memoryBudget;
+    private final long                          diskBudget;
+    private final LinkedHashMap<String, Source> sources;
+    private final LinkedHashMap<String, Long>   spilled;
+
+    private long size;
+    private long spilledSize;
+
+    @Inject
+    public BinarySourcesCache(@Named("che.jdt.sources.cache.dir") String spillDir) {
+        this(Paths.get(spillDir), MEMORY_BUDGET, DISK_BUDGET);
+    }
+
+    BinarySourcesCache(Path spillDir, long memoryBudget, long diskBudget) {
+        this.spillDir = spillDir;
+        this.memoryBudget = memoryBudget;
+        this.diskBudget = diskBudget;
+        this.sources = new LinkedHashMap<>(64, 0.75f, true);
+        this.spilled = new LinkedHashMap<>();
+        loadSpilled();
+    }
+
+    /** Returns cached sources of the binary type or {@code null} if there are no such sources. */
+    public Source get(IType type) throws JavaModelException {
+        final String key = key(type);
+        synchronized (this) {
+            final Source source = sources.get(key);
+            if (source != null || !unspill(key)) {
+                return source;
+            }
+        }
+        // sources are kept in memory again, so the file isn't needed anymore
+        final Source source = readSpilled(key);
+        delete(spillFile(key));
+        if (source != null) {
+            cache(key, source);
+        }
+        return source;
+    }
+
+    /**
+     * Caches sources of the binary type.
+     *
+     * @param type
+     *         binary type
+     * @param content
+     *         sources of the type
+     * @param generated
+     *         whether sources are generated from bytecode
+     */
+    public void put(IType type, String content, boolean generated) throws JavaModelException {
+        final String key = key(type);
+        final boolean wasSpilled;
+        synchronized (this) {
+            wasSpilled = unspill(key);
+        }
+        if (wasSpilled) {
+            delete(spillFile(key));
+        }
+        cache(key, new Source(content, generated));
+    }
+
+    /** Keeps sources in memory and spills the least recently used sources which exceed memory budget. */
+    private void cache(String key, Source source) {
+        final Map<String, Source> evicted = new LinkedHashMap<>();
+        synchronized (this) {
+            final Source previous = sources.put(key, source);
+            if (previous != null) {
+                size -= previous.content.length();
+            }
+            size += source.content.length();
+            for (Iterator<Map.Entry<String, Source>> it = sources.entrySet().iterator(); size > memoryBudget && it.hasNext(); ) {
+                final Map.Entry<String, Source> eldest = it.next();
+                if (eldest.getValue() == source) {
+                    // never evict sources which were just added
+                    continue;
+                }
+                evicted.put(eldest.getKey(), eldest.getValue());
+                size -= eldest.getValue().content.length();
+                it.remove();
+            }
+        }
+        evicted.forEach(this::spill);
+    }
+
+    /** Forgets spilled sources, returns {@code true} if there were such sources. */
+    private boolean unspill(String key) {
+        final Long length = spilled.remove(key);
+        if (length == null) {
+            return false;
+        }
+        spilledSize -= length;
+        return true;
+    }
+
+    /** Registers spilled sources and returns files of the oldest spilled sources which exceed disk budget. */
+    private List<Path> addSpilled(String key, long length) {
+        final List<Path> obsolete = new ArrayList<>();
+        final Long previous = spilled.put(key, length);
+        spilledSize += length - (previous == null ? 0 : previous);
+        for (Iterator<Map.Entry<String, Long>> it = spilled.entrySet().iterator(); spilledSize > diskBudget && it.hasNext(); ) {
+            final Map.Entry<String, Long> eldest = it.next();
+            obsolete.add(spillFile(eldest.getKey()));
+            spilledSize -= eldest.getValue();
+            it.remove();
+        }
+        return obsolete;
+    }
+
+    /** Key consists of library path, its modification date and attached sources path, and fully qualified name of the type. */
+    static String key(IType type) throws JavaModelException {
+        final IPackageFragmentRoot root = (IPackageFragmentRoot)type.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+        final IPath path = root.getPath();
+        final File library = root.isExternal() || root.getResource() == null ? path.toFile()
+                                                                               : root.getResource().getLocation().toFile();
+        final IPath sourcesPath = root.getSourceAttachmentPath();
+        return library.getAbsolutePath() + '!' + library.lastModified() + '!' + sourcesPath + '!' + type.getFullyQualifiedName();
+    }
+
+    private Path spillFile(String key) {
+        return spillDir.resolve(UUID.nameUUIDFromBytes(key.getBytes(UTF_8)).toString());
+    }
+
+    private void spill(String key, Source source) {
+        final Path file = spillFile(key);
+        final long length;
+        try {
+            Files.createDirectories(spillDir);
+            // sources of the same type may be spilled concurrently, so the file is replaced only when it is complete
+            final Path tmp = Files.createTempFile(spillDir, null, TMP_SUFFIX);
+            try {
+                try (BufferedWriter writer = Files.newBufferedWriter(tmp, UTF_8)) {
+                    writer.write(key);
+                    writer.write('\n');
+                    writer.write(source.generated ? '1' : '0');
+                    writer.write(source.content);
+                }
+                Files.move(tmp, file, REPLACE_EXISTING, ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+            length = Files.size(file);
+        } catch (IOException e) {
+            LOG.warn("Can't spill sources of {} to disk: {}", key, e.getMessage());
+            return;
+        }
+        final List<Path> obsolete;
+        synchronized (this) {
+            // sources may be cached again while they are spilled
+            obsolete = sources.containsKey(key) ? singletonList(file) : addSpilled(key, length);
+        }
+        obsolete.forEach(this::delete);
+    }
+
+    private Source readSpilled(String key) {
+        try (BufferedReader reader = Files.newBufferedReader(spillFile(key), UTF_8)) {
+            if (!key.equals(reader.readLine())) {
+                // file name collision
+                return null;
+            }
+            final boolean generated = reader.read() == '1';
+            final StringBuilder content = new StringBuilder();
+            final char[] buffer = new char[8192];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                content.append(buffer, 0, read);
+            }
+            return new Source(content.toString(), generated);
+        } catch (IOException e) {
+            LOG.warn("Can't read spilled sources of {}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOG.warn("Can't delete spilled sources {}: {}", file, e.getMessage());
+        }
+    }
+
+    /** Registers sources spilled before restart, the oldest of them go first, and deletes the ones which exceed disk budget. */
+    private void loadSpilled() {
+        if (!Files.isDirectory(spillDir)) {
+            return;
+        }
+        final List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> dir = Files.newDirectoryStream(spillDir)) {
+            dir.forEach(files::add);
+        } catch (IOException e) {
+            LOG.warn("Can't read spilled sources in {}: {}", spillDir, e.getMessage());
+            return;
+        }
+        files.sort(comparingLong(file -> file.toFile().lastModified()));
+        final List<Path> obsolete = new ArrayList<>();
+        for (Path file : files) {
+            final String key = readKey(file);
+            if (key == null || !file.equals(spillFile(key))) {
+                // not completely written or not a spilled sources file at all
+                obsolete.add(file);
+            } else {
+                obsolete.addAll(addSpilled(key, file.toFile().length()));
+            }
+        }
+        obsolete.forEach(this::delete);
+    }
+
+    private static String readKey(Path file) {
+        if (file.getFileName().toString().endsWith(TMP_SUFFIX)) {
+            return null;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, UTF_8)) {
+            return reader.readLine();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /** Sources of a binary type. */
+    public static class Source {
+        private final String  content;
+        private final boolean generated;
+
+        Source(String content, boolean generated) {
+            this.content = content;
+            this.generated = generated;
+        }
+
+        public String getContent() {
+            return content;
+        }
+
+        /** Returns {@code true} if sources are generated from bytecode rather than read from attached sources. */
+        public boolean isGenerated() {
+            return generated;
+        }
+    }
+}
@@ -104,6 +104,20 @@ public class CodeAssist {
     }
 
     public Proposals computeProposals(IJavaProject project, String fqn, int offset, final String content) throws JavaModelException {
+        return computeProposals(project, fqn, offset, content, 0, 0);
+    }
+
+    /**
+     * Computes completion proposals and keeps them in a completion session,
+     * so they can be filtered with {@link #filterProposals(String, String, int, int)} while the user keeps typing.
+     *
+     * @param skipCount
+     *         number of proposals to skip, the following ones are returned
+     * @param pageSize
+     *         max number of proposals in the response, all the following proposals are returned if it is not positive
+     */
+    public Proposals computeProposals(IJavaProject project, String fqn, int offset, final String content, int skipCount, int pageSize)
+            throws JavaModelException {
 
         WorkingCopyOwner copyOwner = new WorkingCopyOwner() {
             @Override
@@ -140,37 +154,39 @@ public class CodeAssist {
 
         Collections.sort(proposals, new RelevanceSorter());
 
-        return convertProposals(offset, compilationUnit, viewer, proposals);
+        return convertProposals(offset, compilationUnit, viewer, proposals, skipCount, pageSize);
+    }
+
+    /**
+     * Filters proposals of the completion session by the text which was typed after the completion was invoked,
+     * so proposals aren't computed from scratch on every keystroke.
+     *
+     * @param sessionId
+     *         id of the completion session
+     * @param prefix
+     *         text typed since the offset the proposals were computed for, the next page of already filtered
+     *         proposals is requested with the same prefix
+     * @param skipCount
+     *         number of matched proposals to skip, the following ones are returned
+     * @param pageSize
+     *         max number of proposals in the response, all the following proposals are returned if it is not positive
+     * @throws IllegalArgumentException
+     *         if completion session doesn't exist or is expired
+     */
+    public Proposals filterProposals(String sessionId, String prefix, int skipCount, int pageSize) {
+        CodeAssistContext context = cache.getIfPresent(sessionId);
+        if (context == null) {
+            throw new IllegalArgumentException("CodeAssist context doesn't exist or time of completion was expired");
+        }
+        return context.filter(sessionId, prefix, skipCount, pageSize);
     }
 
     private Proposals convertProposals(int offset, ICompilationUnit compilationUnit, TextViewer viewer,
-                                       List<ICompletionProposal> proposals) {
-        Proposals result = DtoFactory.getInstance().createDto(Proposals.class);
+                                       List<ICompletionProposal> proposals, int skipCount, int pageSize) {
         String sessionId = UUID.randomUUID().toString();
-        result.setSessionId(sessionId);
-
-        ArrayList<ProposalPresentation> presentations = new ArrayList<>();
-        for (int i = 0; i < proposals.size(); i++) {
-            ProposalPresentation presentation = DtoFactory.getInstance().createDto(ProposalPresentation.class);
-            ICompletionProposal proposal = proposals.get(i);
-            presentation.setIndex(i);
-            presentation.setDisplayString(proposal.getDisplayString());
-            String image = proposal.getImage() == null ? null : proposal.getImage().getImg();
-            presentation.setImage(image);
-            if (proposal instanceof ICompletionProposalExtension4) {
-                presentation.setAutoInsertable(((ICompletionProposalExtension4)proposal).isAutoInsertable());
-            }
-            if (proposal instanceof CheActionAcces) {
-                String actionId = ((CheActionAcces)proposal).getActionId();
-                if (actionId != null) {
-                    presentation.setActionId(actionId);
-                }
-            }
-            presentations.add(presentation);
-        }
-        result.setProposals(presentations);
-        cache.put(sessionId, new CodeAssistContext(viewer, offset, proposals, compilationUnit));
-        return result;
+        CodeAssistContext context = new CodeAssistContext(viewer, offset, proposals, compilationUnit);
+        cache.put(sessionId, context);
+        return context.toProposals(sessionId, skipCount, pageSize);
     }
 
     public ProposalApplyResult applyCompletion(String sessionId, int index, boolean insert) {
@@ -211,7 +227,7 @@ public class CodeAssist {
         AssistContext context = new AssistContext(compilationUnit, offset, 0);
         ArrayList proposals = new ArrayList<>();
         JavaCorrectionProcessor.collectProposals(context, problems, true, true, proposals);
-        return convertProposals(offset, compilationUnit, viewer, proposals);
+        return convertProposals(offset, compilationUnit, viewer, proposals, 0, 0);
     }
 
     public String getJavaDoc(String sessionId, int index) {
@@ -314,6 +330,12 @@ public class CodeAssist {
         private int                       offset;
         private List<ICompletionProposal> proposals;
         private ICompilationUnit          cUnit;
+        /** Text typed after {@link #offset} since the proposals were computed. */
+        private String                    prefix;
+        /** Length of the typed text the replacement of each proposal is adjusted to. */
+        private int[]                     adjustedTo;
+        /** Indexes of the proposals which match the typed text. */
+        private List<Integer>             matched;
 
         public CodeAssistContext(TextViewer viewer, int offset,
                                  List<ICompletionProposal> proposals, ICompilationUnit cUnit) {
@@ -321,6 +343,106 @@ public class CodeAssist {
             this.offset = offset;
             this.proposals = proposals;
             this.cUnit = cUnit;
+            this.prefix = "";
+            this.adjustedTo = new int[proposals.size()];
+            this.matched = new ArrayList<>(proposals.size());
+            for (int i = 0; i < proposals.size(); i++) {
+                matched.add(i);
+            }
+        }
+
+        /**
+         * Puts the typed text into the document and validates proposals against it, the same way as
+         * content assist popup of an editor does while the user is typing. Proposals are validated only when the prefix
+         * is changed, so the following pages of the same prefix are taken from the already matched proposals.
+         */
+        public synchronized Proposals filter(String sessionId, String newPrefix, int skipCount, int pageSize) {
+            if (newPrefix.equals(prefix)) {
+                return toProposals(sessionId, skipCount, pageSize);
+            }
+            IDocument document = viewer.getDocument();
+            try {
+                document.replace(offset, prefix.length(), newPrefix);
+            } catch (BadLocationException e) {
+                throw new IllegalArgumentException("Can't filter completion proposals: " + e.getMessage(), e);
+            }
+            prefix = newPrefix;
+            int newOffset = offset + prefix.length();
+            viewer.setSelectedRange(newOffset, 0);
+            String token = getToken(document, newOffset);
+
+            List<Integer> exactMatches = new ArrayList<>();
+            List<Integer> otherMatches = new ArrayList<>();
+            for (int i = 0; i < proposals.size(); i++) {
+                ICompletionProposal proposal = proposals.get(i);
+                boolean valid;
+                if (proposal instanceof ICompletionProposalExtension2) {
+                    // the event adapts replacement length of the proposal to the text typed since its last validation
+                    DocumentEvent event = new DocumentEvent(document, offset, adjustedTo[i], prefix);
+                    valid = ((ICompletionProposalExtension2)proposal).validate(document, newOffset, event);
+                    if (valid) {
+                        adjustedTo[i] = prefix.length();
+                    }
+                } else {
+                    valid = prefix.isEmpty();
+                }
+                if (valid) {
+                    // proposals which start with the typed identifier as is go first, relevance order is kept within the groups
+                    String displayString = proposal.getDisplayString();
+                    if (!token.isEmpty() && displayString != null && displayString.startsWith(token)) {
+                        exactMatches.add(i);
+                    } else {
+                        otherMatches.add(i);
+                    }
+                }
+            }
+            matched = exactMatches;
+            matched.addAll(otherMatches);
+            return toProposals(sessionId, skipCount, pageSize);
+        }
+
+        /** Returns identifier which ends at the offset. */
+        private String getToken(IDocument document, int end) {
+            try {
+                int start = end;
+                while (start > 0 && Character.isJavaIdentifierPart(document.getChar(start - 1))) {
+                    start--;
+                }
+                return document.get(start, end - start);
+            } catch (BadLocationException e) {
+                return "";
+            }
+        }
+
+        /** Converts {@code pageSize} of the matched proposals which follow the first {@code skipCount} ones to DTOs. */
+        public synchronized Proposals toProposals(String sessionId, int skipCount, int pageSize) {
+            Proposals result = DtoFactory.getInstance().createDto(Proposals.class);
+            result.setSessionId(sessionId);
+            result.setTotal(matched.size());
+
+            int from = Math.min(Math.max(skipCount, 0), matched.size());
+            int to = pageSize > 0 ? Math.min(from + pageSize, matched.size()) : matched.size();
+            ArrayList<ProposalPresentation> presentations = new ArrayList<>(to - from);
+            for (int index : matched.subList(from, to)) {
+                ProposalPresentation presentation = DtoFactory.getInstance().createDto(ProposalPresentation.class);
+                ICompletionProposal proposal = proposals.get(index);
+                presentation.setIndex(index);
+                presentation.setDisplayString(proposal.getDisplayString());
+                String image = proposal.getImage() == null ? null : proposal.getImage().getImg();
+                presentation.setImage(image);
+                if (proposal instanceof ICompletionProposalExtension4) {
+                    presentation.setAutoInsertable(((ICompletionProposalExtension4)proposal).isAutoInsertable());
+                }
+                if (proposal instanceof CheActionAcces) {
+                    String actionId = ((CheActionAcces)proposal).getActionId();
+                    if (actionId != null) {
+                        presentation.setActionId(actionId);
+                    }
+                }
+                presentations.add(presentation);
+            }
+            result.setProposals(presentations);
+            return result;
         }
 
         public void clean() {
@@ -338,7 +460,7 @@ public class CodeAssist {
             }
         }
 
-        public ProposalApplyResult apply(int index, boolean insert) {
+        public synchronized ProposalApplyResult apply(int index, boolean insert) {
             IDocument document = viewer.getDocument();
             final List<Change> changes = new ArrayList<>();
             document.addDocumentListener(new IDocumentListener() {
@@ -364,10 +486,10 @@ public class CodeAssist {
                 }
                 if (completionProposal instanceof ICompletionProposalExtension2) {
                     ICompletionProposalExtension2 completionProposalExtension2 = (ICompletionProposalExtension2)completionProposal;
-                    completionProposalExtension2.apply(viewer, trigger, stateMask, offset);
+                    completionProposalExtension2.apply(viewer, trigger, stateMask, offset + prefix.length());
                 } else if (completionProposal instanceof ICompletionProposalExtension) {
                     ICompletionProposalExtension completionProposalExtension = (ICompletionProposalExtension)completionProposal;
-                    completionProposalExtension.apply(document, trigger, offset);
+                    completionProposalExtension.apply(document, trigger, offset + prefix.length());
                 } else {
                     completionProposal.apply(document);
                 }
@@ -132,10 +132,12 @@ public class JavaNavigation {
     private              Gson                 gson          = new GsonBuilder().disableHtmlEscaping().serializeNulls().create();
     private              boolean              fFoldPackages = true;
     private SourcesFromBytecodeGenerator sourcesGenerator;
+    private BinarySourcesCache           sourcesCache;
 
     @Inject
-    public JavaNavigation(SourcesFromBytecodeGenerator sourcesGenerator) {
+    public JavaNavigation(SourcesFromBytecodeGenerator sourcesGenerator, BinarySourcesCache sourcesCache) {
         this.sourcesGenerator = sourcesGenerator;
+        this.sourcesCache = sourcesCache;
     }
 
     /**
@@ -727,13 +729,22 @@ public class JavaNavigation {
         IType type = project.findType(path);
         if (type != null) {
             if (type.isBinary()) {
+                BinarySourcesCache.Source cached = sourcesCache.get(type);
+                if (cached != null) {
+                    return createContent(cached.getContent(), cached.isGenerated());
+                }
                 IClassFile classFile = type.getClassFile();
-                if (classFile.getSourceRange() != null) {
-                    return createContent(classFile.getSource(), false);
+                String source;
+                boolean generated = classFile.getSourceRange() == null;
+                if (generated) {
+                    source = sourcesGenerator.generateSource(classFile.getType());
                 } else {
-
-                    return createContent(sourcesGenerator.generateSource(classFile.getType()), true);
+                    source = classFile.getSource();
+                }
+                if (source != null) {
+                    sourcesCache.put(type, source, generated);
                 }
+                return createContent(source, generated);
             } else {
                 return createContent(type.getCompilationUnit().getSource(), false);
             }
@@ -70,5 +70,12 @@ public class JdtGuiceModule extends AbstractModule {
         return Paths.get(System.getProperty("user.home"), wsMetadata, "index").toString();
     }
 
+    @Provides
+    @Named("che.jdt.sources.cache.dir")
+    @Singleton
+    protected String provideSourcesCache(@Named("che.workspace.metadata") String wsMetadata) {
+        return Paths.get(System.getProperty("user.home"), wsMetadata, "sources").toString();
+    }
+
 
 }
@@ -453,6 +453,8 @@ public class RefactoringManager {
 
     /**
      * Make reindex for the project.
+     * Saved index of the project is reused, so only sources modified since it was saved are indexed,
+     * as well as libraries which don't have index for their current content.
      *
      * @param javaProject
      *         java project
@@ -63,12 +63,38 @@ public class CodeAssistService {
     @Produces("application/json")
     public Proposals computeCompletionProposals(@QueryParam("projectpath") String projectPath,
                                                 @QueryParam("fqn") String fqn,
-                                                @QueryParam("offset") int offset, String content) throws JavaModelException {
+                                                @QueryParam("offset") int offset,
+                                                @DefaultValue("0") @QueryParam("skipcount") int skipCount,
+                                                @DefaultValue("0") @QueryParam("pagesize") int pageSize,
+                                                String content) throws JavaModelException {
         IJavaProject javaProject = model.getJavaProject(projectPath);
-        return codeAssist.computeProposals(javaProject, fqn, offset, content);
+        return codeAssist.computeProposals(javaProject, fqn, offset, content, skipCount, pageSize);
 
     }
 
+    /**
+     * Filters proposals of the completion session instead of computing them again.
+     *
+     * @param sessionId
+     *         id of the completion session
+     * @param prefix
+     *         text typed since the offset the proposals were computed for
+     * @param skipCount
+     *         number of matched proposals to skip
+     * @param pageSize
+     *         max number of proposals in the response, all the following proposals are returned if it is not positive
+     * @return matched proposals and their total number
+     */
+    @GET
+    @Path("filter/completion")
+    @Produces("application/json")
+    public Proposals filterCompletionProposals(@QueryParam("sessionid") String sessionId,
+                                               @DefaultValue("") @QueryParam("prefix") String prefix,
+                                               @DefaultValue("0") @QueryParam("skipcount") int skipCount,
+                                               @DefaultValue("0") @QueryParam("pagesize") int pageSize) {
+        return codeAssist.filterProposals(sessionId, prefix, skipCount, pageSize);
+    }
+
     @GET
     @Path("apply/completion")
     @Produces("application/json")
@@ -13,6 +13,8 @@ package org.eclipse.che.plugin.java.server.rest;
 
 import com.google.inject.Inject;
 
+import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.dto.server.DtoFactory;
 import org.eclipse.che.ide.ext.java.shared.dto.search.FindUsagesRequest;
 import org.eclipse.che.ide.ext.java.shared.dto.search.FindUsagesResponse;
 import org.eclipse.che.plugin.java.server.search.SearchException;
@@ -20,13 +22,22 @@ import org.eclipse.che.plugin.java.server.search.SearchManager;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.internal.core.JavaModel;
 import org.eclipse.jdt.internal.core.JavaModelManager;
+import org.everrest.websockets.WSConnectionContext;
+import org.everrest.websockets.message.ChannelBroadcastMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import javax.websocket.EncodeException;
 import javax.ws.rs.Consumes;
+import javax.ws.rs.DELETE;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import java.io.IOException;
 
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
+import static org.eclipse.che.ide.ext.java.shared.Constants.FIND_USAGES_CHANNEL;
 
 /**
  * REST service for all java project related searches.
@@ -35,6 +46,7 @@ import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
  */
 @Path("java/search")
 public class SearchService {
+    private static final Logger LOG = LoggerFactory.getLogger(SearchService.class);
 
     @Inject
     private SearchManager manager;
@@ -46,6 +58,30 @@ public class SearchService {
     public FindUsagesResponse findUsages(FindUsagesRequest request) throws SearchException {
         JavaModel javaModel = JavaModelManager.getJavaModelManager().getJavaModel();
         IJavaProject javaProject = javaModel.getJavaProject(request.getProjectPath());
-        return manager.findUsage(javaProject, request.getFQN(), request.getOffset());
+        String searchId = request.getSearchId();
+        if (searchId == null) {
+            return manager.findUsage(javaProject, request.getFQN(), request.getOffset());
+        }
+        return manager.findUsage(javaProject, request.getFQN(), request.getOffset(), searchId,
+                                 partialResponse -> sendPartialResponse(searchId, partialResponse));
+    }
+
+    @DELETE
+    @Path("find/usages/{searchId}")
+    public void cancelFindUsages(@PathParam("searchId") String searchId) throws NotFoundException {
+        if (!manager.cancel(searchId)) {
+            throw new NotFoundException("Search " + searchId + " is not running");
+        }
+    }
+
+    private void sendPartialResponse(String searchId, FindUsagesResponse response) {
+        try {
+            ChannelBroadcastMessage message = new ChannelBroadcastMessage();
+            message.setChannel(FIND_USAGES_CHANNEL + searchId);
+            message.setBody(DtoFactory.getInstance().toJson(response));
+            WSConnectionContext.sendMessage(message);
+        } catch (EncodeException | IOException e) {
+            LOG.error("Can't send partial find usages results:", e);
+        }
     }
 }
@@ -17,6 +17,10 @@ import org.eclipse.che.dto.server.DtoFactory;
 import org.eclipse.che.ide.ext.java.shared.dto.Region;
 import org.eclipse.che.ide.ext.java.shared.dto.model.JavaProject;
 import org.eclipse.che.ide.ext.java.shared.dto.search.FindUsagesResponse;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.jdt.core.IBuffer;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IField;
@@ -30,8 +34,10 @@ import org.eclipse.jdt.core.IPackageDeclaration;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeParameter;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
 import org.eclipse.jdt.internal.core.DefaultWorkingCopyOwner;
 import org.eclipse.jdt.internal.core.DocumentAdapter;
 import org.eclipse.jdt.internal.ui.search.JavaSearchQuery;
@@ -43,16 +49,24 @@ import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.Document;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IRegion;
-import org.eclipse.search.NewSearchUI;
-import org.eclipse.search.ui.ISearchResult;
+import org.eclipse.search.ui.ISearchResultListener;
+import org.eclipse.search.ui.SearchResultEvent;
 import org.eclipse.search.ui.text.Match;
+import org.eclipse.search.ui.text.MatchEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
 
 /**
  * Performs all Java related search.
@@ -73,8 +87,26 @@ public class SearchManager {
                                                                         ILocalVariable.class,
                                                                         ITypeParameter.class};
 
+    private final ConcurrentMap<String, IProgressMonitor> runningSearches = new ConcurrentHashMap<>();
 
     public FindUsagesResponse findUsage(IJavaProject javaProject, String fqn, int offset) throws SearchException {
+        return findUsage(javaProject, fqn, offset, null, null);
+    }
+
+    /**
+     * Finds usages of the element at the given offset of the type.
+     *
+     * @param searchId
+     *         id of the search which may be used to {@link #cancel(String) cancel} it, may be {@code null}
+     * @param partialResults
+     *         receives usages found in each compilation unit as soon as the unit is searched, may be {@code null}
+     * @return all usages found, or usages found before the search is cancelled
+     */
+    public FindUsagesResponse findUsage(IJavaProject javaProject,
+                                        String fqn,
+                                        int offset,
+                                        String searchId,
+                                        Consumer<FindUsagesResponse> partialResults) throws SearchException {
         try {
             ICompilationUnit compilationUnit;
             IType type = javaProject.findType(fqn);
@@ -93,7 +125,7 @@ public class SearchManager {
             if (elements != null && elements.length == 1) {
                 IJavaElement element = elements[0];
                 if (isTypeValid(element, TYPES_FOR_FIND_USAGE)) {
-                    return performFindUsageSearch(element);
+                    return performFindUsageSearch(element, searchId, partialResults);
                 } else {
                     throw new SearchException("Find usage can't search for element: " + element.getElementName());
                 }
@@ -112,20 +144,88 @@ public class SearchManager {
         }
     }
 
-    private FindUsagesResponse performFindUsageSearch(IJavaElement element) throws JavaModelException, BadLocationException {
+    /**
+     * Cancels the running search with the given id.
+     *
+     * @return {@code true} if the search was running
+     */
+    public boolean cancel(String searchId) {
+        IProgressMonitor monitor = runningSearches.get(searchId);
+        if (monitor == null) {
+            return false;
+        }
+        monitor.setCanceled(true);
+        return true;
+    }
+
+    private FindUsagesResponse performFindUsageSearch(IJavaElement element,
+                                                      String searchId,
+                                                      Consumer<FindUsagesResponse> partialResults)
+            throws JavaModelException, BadLocationException {
         JavaSearchScopeFactory factory = JavaSearchScopeFactory.getInstance();
         boolean isInsideJRE = factory.isInsideJRE(element);
         JavaSearchQuery
                 query = new JavaSearchQuery(new ElementQuerySpecification(element, IJavaSearchConstants.REFERENCES,
-                                                                          factory.createWorkspaceScope(isInsideJRE),
-                                                                          "workspace scope"));
-        NewSearchUI.runQueryInForeground(null, query);
-        ISearchResult result = query.getSearchResult();
-        JavaSearchResult javaResult = ((JavaSearchResult)result);
+                                                                          createDependentProjectsScope(element, isInsideJRE),
+                                                                          "dependent projects scope"));
+        JavaSearchResult javaResult = (JavaSearchResult)query.getSearchResult();
+        String label = JavaElementLabels.getElementLabel(element, JavaElementLabels.ALL_DEFAULT);
+        PartialResultsSender sender = null;
+        if (partialResults != null) {
+            sender = new PartialResultsSender(javaResult, label, partialResults);
+            javaResult.addListener(sender);
+        }
+        IProgressMonitor monitor = new NullProgressMonitor();
+        if (searchId != null) {
+            runningSearches.put(searchId, monitor);
+        }
+        try {
+            // query isn't run through NewSearchUI, so it isn't kept by the search manager after it's finished
+            query.run(monitor);
+        } catch (OperationCanceledException e) {
+            // return usages found so far
+        } finally {
+            if (searchId != null) {
+                runningSearches.remove(searchId, monitor);
+            }
+            if (sender != null) {
+                javaResult.removeListener(sender);
+                sender.flush();
+            }
+        }
+        return toResponse(javaResult, Arrays.asList(javaResult.getElements()), label);
+    }
+
+    /**
+     * Creates scope of the projects which may reference the element: project of the element itself and
+     * projects which have the element on the classpath, either as project dependency or as library.
+     * Falls back to the workspace scope when projects can't be resolved.
+     */
+    private IJavaSearchScope createDependentProjectsScope(IJavaElement element, boolean includeJRE) {
+        JavaSearchScopeFactory factory = JavaSearchScopeFactory.getInstance();
+        try {
+            IJavaProject elementProject = element.getJavaProject();
+            List<IJavaElement> projects = new ArrayList<>();
+            for (IJavaProject project : JavaCore.create(ResourcesPlugin.getWorkspace().getRoot()).getJavaProjects()) {
+                if (project.equals(elementProject) || project.isOnClasspath(element)) {
+                    projects.add(project);
+                }
+            }
+            if (!projects.isEmpty()) {
+                return factory.createJavaSearchScope(projects.toArray(new IJavaElement[projects.size()]), includeJRE);
+            }
+        } catch (JavaModelException e) {
+            LOG.warn("Can't resolve projects which depend on {}: {}", element.getElementName(), e.getMessage());
+        }
+        return factory.createWorkspaceScope(includeJRE);
+    }
+
+    private FindUsagesResponse toResponse(JavaSearchResult javaResult, Collection<?> elements, String label)
+            throws JavaModelException, BadLocationException {
         FindUsagesResponse response = DtoFactory.newDto(FindUsagesResponse.class);
         Map<String, List<org.eclipse.che.ide.ext.java.shared.dto.search.Match>> mapMaches = new HashMap<>();
         JavaElementToDtoConverter converter = new JavaElementToDtoConverter(javaResult);
-        for (Object o : javaResult.getElements()) {
+        for (Object o : elements) {
             IJavaElement javaElement = (IJavaElement)o;
             IDocument document = null;
             if (javaElement instanceof IMember) {
@@ -169,7 +269,7 @@ public class SearchManager {
         List<JavaProject> projects = converter.getProjects();
         response.setProjects(projects);
         response.setMatches(mapMaches);
-        response.setSearchElementLabel(JavaElementLabels.getElementLabel(element, JavaElementLabels.ALL_DEFAULT));
+        response.setSearchElementLabel(label);
         return response;
     }
 
@@ -208,4 +308,54 @@ public class SearchManager {
             return false;
         }
     }
+
+    /**
+     * Sends usages to the consumer as soon as all usages of a compilation unit or class file are found.
+     * Search engine reports matches file by file, so usages of a file are complete when a match from another file is reported.
+     */
+    private class PartialResultsSender implements ISearchResultListener {
+        private final JavaSearchResult             result;
+        private final String                       label;
+        private final Consumer<FindUsagesResponse> consumer;
+        private final Set<Object>                  elements;
+
+        private Object openable;
+
+        PartialResultsSender(JavaSearchResult result, String label, Consumer<FindUsagesResponse> consumer) {
+            this.result = result;
+            this.label = label;
+            this.consumer = consumer;
+            this.elements = new LinkedHashSet<>();
+        }
+
+        @Override
+        public void searchResultChanged(SearchResultEvent event) {
+            if (!(event instanceof MatchEvent) || ((MatchEvent)event).getKind() != MatchEvent.ADDED) {
+                return;
+            }
+            for (Match match : ((MatchEvent)event).getMatches()) {
+                if (!(match.getElement() instanceof IJavaElement)) {
+                    continue;
+                }
+                Object matchOpenable = ((IJavaElement)match.getElement()).getOpenable();
+                if (openable != null && !openable.equals(matchOpenable)) {
+                    flush();
+                }
+                openable = matchOpenable;
+                elements.add(match.getElement());
+            }
+        }
+
+        void flush() {
+            if (elements.isEmpty()) {
+                return;
+            }
+            try {
+                consumer.accept(toResponse(result, elements, label));
+            } catch (JavaModelException | BadLocationException e) {
+                LOG.warn("Can't send partial find usages results: {}", e.getMessage());
+            }
+            elements.clear();
+        }
+    }
 }
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.java.server;
+
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link BinarySourcesCache}.
+ */
+public class BinarySourcesCacheTest {
+    private static final long MEMORY_BUDGET = 10;
+    // enough for a single spilled source
+    private static final long DISK_BUDGET   = 60;
+
+    private final IType typeA = type("a.A");
+    private final IType typeB = type("b.B");
+    private final IType typeC = type("c.C");
+
+    private java.nio.file.Path spillDir;
+    private BinarySourcesCache cache;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        spillDir = Files.createTempDirectory("sources");
+        cache = new BinarySourcesCache(spillDir, MEMORY_BUDGET, DISK_BUDGET);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        IoUtil.deleteRecursive(spillDir.toFile());
+    }
+
+    @Test
+    public void shouldReturnCachedSources() throws Exception {
+        cache.put(typeA, "class A", true);
+
+        final BinarySourcesCache.Source source = cache.get(typeA);
+
+        assertNotNull(source);
+        assertEquals(source.getContent(), "class A");
+        assertTrue(source.isGenerated());
+        assertNull(cache.get(typeB));
+        assertEquals(spilledFiles(), 0);
+    }
+
+    @Test
+    public void shouldSpillLeastRecentlyUsedSourcesAndReadThemBack() throws Exception {
+        cache.put(typeA, "class A", false);
+        cache.put(typeB, "class B", false);
+
+        assertEquals(spilledFiles(), 1);
+
+        final BinarySourcesCache.Source source = cache.get(typeA);
+
+        assertNotNull(source);
+        assertEquals(source.getContent(), "class A");
+        assertFalse(source.isGenerated());
+        // A is in memory again and B is spilled instead
+        assertEquals(spilledFiles(), 1);
+        assertEquals(cache.get(typeB).getContent(), "class B");
+    }
+
+    @Test
+    public void shouldDeleteSpilledSourcesEvictedFromDisk() throws Exception {
+        cache.put(typeA, "class A", false);
+        cache.put(typeB, "class B", false);
+        cache.put(typeC, "class C", false);
+
+        assertEquals(spilledFiles(), 1);
+        assertNull(cache.get(typeA));
+        assertEquals(cache.get(typeB).getContent(), "class B");
+    }
+
+    @Test
+    public void shouldDeleteSpilledSourcesWhenTheyAreOverwritten() throws Exception {
+        cache.put(typeA, "class A", true);
+        cache.put(typeB, "class B", false);
+
+        cache.put(typeA, "class A2", false);
+
+        // only B is spilled, sources of A are replaced
+        assertEquals(spilledFiles(), 1);
+        assertEquals(cache.get(typeA).getContent(), "class A2");
+    }
+
+    @Test
+    public void shouldReadSourcesSpilledBeforeRestart() throws Exception {
+        cache.put(typeA, "class A", true);
+        cache.put(typeB, "class B", false);
+
+        final BinarySourcesCache restarted = new BinarySourcesCache(spillDir, MEMORY_BUDGET, DISK_BUDGET);
+
+        assertEquals(restarted.get(typeA).getContent(), "class A");
+        assertNull(restarted.get(typeB));
+    }
+
+    private int spilledFiles() {
+        final File[] files = spillDir.toFile().listFiles();
+        return files == null ? 0 : files.length;
+    }
+
+    private static IType type(String name) {
+        final IPackageFragmentRoot root = mock(IPackageFragmentRoot.class);
+        when(root.getPath()).thenReturn(new Path("/libs/library.jar"));
+        when(root.isExternal()).thenReturn(true);
+        final IType type = mock(IType.class);
+        when(type.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT)).thenReturn(root);
+        when(type.getFullyQualifiedName()).thenReturn(name);
+        return type;
+    }
+}
@@ -11,10 +11,14 @@
 package org.eclipse.che.plugin.java.server.che;
 
 import org.eclipse.che.ide.ext.java.shared.OpenDeclarationDescriptor;
+import org.eclipse.che.plugin.java.server.BinarySourcesCache;
 import org.eclipse.che.plugin.java.server.JavaNavigation;
 import org.eclipse.che.plugin.java.server.SourcesFromBytecodeGenerator;
+import org.junit.Before;
 import org.junit.Ignore;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import static org.fest.assertions.Assertions.assertThat;
 
@@ -25,7 +29,16 @@ import static org.fest.assertions.Assertions.assertThat;
 @Ignore
 public class FindDeclarationTest extends BaseTest {
 
-    private JavaNavigation navigation = new JavaNavigation(new SourcesFromBytecodeGenerator());
+    @Rule
+    public TemporaryFolder sourcesCacheDir = new TemporaryFolder();
+
+    private JavaNavigation navigation;
+
+    @Before
+    public void setUpNavigation() throws Exception {
+        navigation = new JavaNavigation(new SourcesFromBytecodeGenerator(),
+                                        new BinarySourcesCache(sourcesCacheDir.getRoot().getAbsolutePath()));
+    }
 
     @Test
     public void testFindClassIsNotNullOrEmpty() throws Exception {
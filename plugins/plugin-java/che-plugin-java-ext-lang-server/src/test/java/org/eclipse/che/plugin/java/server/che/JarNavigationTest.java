@@ -15,11 +15,15 @@ import org.eclipse.che.ide.ext.java.shared.JarEntry;
 import org.eclipse.che.ide.ext.java.shared.dto.ClassContent;
 import org.eclipse.che.ide.ext.java.shared.dto.model.JavaProject;
 import org.eclipse.che.ide.ext.java.shared.dto.model.PackageFragmentRoot;
+import org.eclipse.che.plugin.java.server.BinarySourcesCache;
 import org.eclipse.che.plugin.java.server.JavaNavigation;
 import org.eclipse.che.plugin.java.server.SourcesFromBytecodeGenerator;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.junit.Before;
 import org.junit.Ignore;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
 import java.util.List;
@@ -33,7 +37,16 @@ import static org.fest.assertions.Assertions.assertThat;
 @Ignore
 public class JarNavigationTest extends BaseTest {
 
-    private final JavaNavigation navigation = new JavaNavigation(new SourcesFromBytecodeGenerator());
+    @Rule
+    public TemporaryFolder sourcesCacheDir = new TemporaryFolder();
+
+    private JavaNavigation navigation;
+
+    @Before
+    public void setUpNavigation() throws Exception {
+        navigation = new JavaNavigation(new SourcesFromBytecodeGenerator(),
+                                        new BinarySourcesCache(sourcesCacheDir.getRoot().getAbsolutePath()));
+    }
 
     @Test
     public void testJars() throws Exception {
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.java.server.jdt;
+
+import org.eclipse.che.commons.env.EnvironmentContext;
+import org.eclipse.che.commons.subject.SubjectImpl;
+import org.eclipse.che.ide.ext.java.shared.dto.Change;
+import org.eclipse.che.ide.ext.java.shared.dto.ProposalApplyResult;
+import org.eclipse.che.ide.ext.java.shared.dto.ProposalPresentation;
+import org.eclipse.che.ide.ext.java.shared.dto.Proposals;
+import org.eclipse.che.plugin.java.server.CodeAssist;
+import org.eclipse.che.plugin.java.server.jdt.quickfix.QuickFixTest;
+import org.eclipse.che.plugin.java.server.jdt.testplugin.Java18ProjectTestSetup;
+import org.eclipse.che.plugin.java.server.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.che.plugin.java.server.jdt.testplugin.ProjectTestSetup;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests filtering of the proposals of a completion session by the typed prefix.
+ */
+public class CodeAssistTest extends QuickFixTest {
+
+    private IJavaProject         fJProject1;
+    private IPackageFragmentRoot fSourceFolder;
+    private CodeAssist           codeAssist;
+    private String               content;
+    private int                  offset;
+
+    public CodeAssistTest() {
+        super(new Java18ProjectTestSetup());
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        EnvironmentContext customEnvironment = mock(EnvironmentContext.class);
+        doReturn("1q2w3e").when(customEnvironment).getWorkspaceId();
+        doReturn(new SubjectImpl("dev", "", "", false)).when(customEnvironment).getSubject();
+        EnvironmentContext.setCurrent(customEnvironment);
+        fJProject1 = Java18ProjectTestSetup.getProject();
+        fSourceFolder = JavaProjectHelper.addSourceContainer(fJProject1, "src");
+        codeAssist = new CodeAssist();
+
+        StringBuilder buf = new StringBuilder();
+        buf.append("package test1;\n");
+        buf.append("public class E {\n");
+        buf.append("    public void foo(int i) {}\n");
+        buf.append("    public void fooBar() {}\n");
+        buf.append("    public void FOOd() {}\n");
+        buf.append("    public void bar() {}\n");
+        buf.append("    public void test() {\n");
+        buf.append("        this.\n");
+        buf.append("    }\n");
+        buf.append("}\n");
+        content = buf.toString();
+        offset = content.indexOf("this.") + "this.".length();
+        IPackageFragment pack1 = fSourceFolder.createPackageFragment("test1", false, null);
+        pack1.createCompilationUnit("E.java", content, false, null);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        super.tearDown();
+        JavaProjectHelper.clear(fJProject1, ProjectTestSetup.getDefaultClasspath());
+    }
+
+    @Test
+    public void shouldFilterProposalsByTypedPrefix() throws Exception {
+        Proposals all = codeAssist.computeProposals(fJProject1, "test1.E", offset, content);
+        assertThat(all.getTotal()).isGreaterThan(3);
+
+        Proposals filtered = codeAssist.filterProposals(all.getSessionId(), "foo", 0, 0);
+
+        List<String> displayStrings = displayStrings(filtered);
+        assertThat(displayStrings).hasSize(3);
+        assertThat(filtered.getTotal()).isEqualTo(3);
+        // proposal which doesn't start with the typed identifier as is goes last
+        assertThat(displayStrings.get(2)).startsWith("FOOd");
+    }
+
+    @Test
+    public void shouldRevalidateProposalsWhenPrefixIsShortened() throws Exception {
+        Proposals all = codeAssist.computeProposals(fJProject1, "test1.E", offset, content);
+
+        assertThat(codeAssist.filterProposals(all.getSessionId(), "fo", 0, 0).getTotal()).isEqualTo(3);
+        List<String> narrowed = displayStrings(codeAssist.filterProposals(all.getSessionId(), "fooB", 0, 0));
+        assertThat(narrowed).hasSize(1);
+        assertThat(narrowed.get(0)).startsWith("fooBar");
+        assertThat(codeAssist.filterProposals(all.getSessionId(), "foo", 0, 0).getTotal()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldReturnPagesOfFilteredProposals() throws Exception {
+        Proposals all = codeAssist.computeProposals(fJProject1, "test1.E", offset, content);
+        List<String> filtered = displayStrings(codeAssist.filterProposals(all.getSessionId(), "foo", 0, 0));
+
+        Proposals first = codeAssist.filterProposals(all.getSessionId(), "foo", 0, 2);
+        Proposals second = codeAssist.filterProposals(all.getSessionId(), "foo", 2, 2);
+
+        assertThat(first.getTotal()).isEqualTo(3);
+        assertThat(second.getTotal()).isEqualTo(3);
+        assertThat(displayStrings(first)).isEqualTo(filtered.subList(0, 2));
+        assertThat(displayStrings(second)).isEqualTo(filtered.subList(2, 3));
+    }
+
+    @Test
+    public void shouldApplyFilteredProposalAfterTypedPrefix() throws Exception {
+        Proposals all = codeAssist.computeProposals(fJProject1, "test1.E", offset, content);
+        codeAssist.filterProposals(all.getSessionId(), "fo", 0, 0);
+        Proposals filtered = codeAssist.filterProposals(all.getSessionId(), "fooB", 0, 0);
+        assertThat(filtered.getProposals()).hasSize(1);
+
+        ProposalApplyResult result = codeAssist.applyCompletion(all.getSessionId(), filtered.getProposals().get(0).getIndex(), true);
+
+        StringBuilder document = new StringBuilder(content).insert(offset, "fooB");
+        for (Change change : result.getChanges()) {
+            document.replace(change.getOffset(), change.getOffset() + change.getLength(), change.getText());
+        }
+        assertThat(document.toString()).contains("        this.fooBar();\n");
+    }
+
+    private static List<String> displayStrings(Proposals proposals) {
+        List<String> result = new ArrayList<>();
+        for (ProposalPresentation proposal : proposals.getProposals()) {
+            result.add(proposal.getDisplayString());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.java.server.jdt;
+
+import org.eclipse.che.jdt.javaeditor.JavaReconciler;
+import org.eclipse.che.jdt.javaeditor.SemanticHighlightingReconciler;
+import org.eclipse.che.plugin.java.server.che.BaseTest;
+import org.eclipse.che.plugin.java.server.jdt.search.JUnitSourceSetup;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.internal.core.JavaProject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class JavaReconcilerTest extends BaseTest {
+    private final JUnitSourceSetup setup;
+
+    private JavaReconciler reconciler;
+
+    public JavaReconcilerTest() {
+        setup = new JUnitSourceSetup();
+    }
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        setup.setUp();
+        reconciler = new JavaReconciler(new SemanticHighlightingReconciler());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        setup.tearDown();
+    }
+
+    @Test
+    public void shouldReconcileEditWhichKeepsSizeAndModificationDateOfFile() throws Exception {
+        IJavaProject javaProject = JUnitSourceSetup.getProject();
+        IPackageFragmentRoot root = ((JavaProject)javaProject).getPackageFragmentRoot(new Path(JUnitSourceSetup.SRC_CONTAINER));
+        IPackageFragment packageFragment = root.createPackageFragment("che", true, null);
+        ICompilationUnit unit = packageFragment.createCompilationUnit("A.java", "package che;\npublic class A{ int a = b; }\n", true, null);
+
+        assertThat(reconciler.reconcile(javaProject, "che.A").getProblems()).hasSize(1);
+
+        File file = unit.getResource().getLocation().toFile();
+        long modified = file.lastModified();
+        Files.write(file.toPath(), "package che;\npublic class A{ int a = 1; }\n".getBytes());
+        file.setLastModified(modified);
+
+        assertThat(reconciler.reconcile(javaProject, "che.A").getProblems()).isEmpty();
+    }
+}
@@ -32,7 +32,10 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Evgen Vidolob
@@ -171,4 +174,33 @@ public class FindReferencesTest extends BaseTest {
         Assertions.assertThat(compilationUnit.getTypes()).hasSize(2);
 
     }
+
+    @Test
+    public void testSearchManagerSendsUsagesOfEachCompilationUnit() throws Exception {
+        IJavaProject aProject = JUnitSourceSetup.getProject();
+        IPackageFragmentRoot root = ((JavaProject)aProject).getPackageFragmentRoot(new Path(JUnitSourceSetup.SRC_CONTAINER));
+        IPackageFragment packageFragment = root.createPackageFragment("che", true, null);
+        packageFragment.createCompilationUnit("A.java", "package che;\npublic class A{}\n", true, null);
+        packageFragment.createCompilationUnit("B.java", "package che;\npublic class B{\n   private A a = null;\n}\n", true, null);
+        packageFragment.createCompilationUnit("C.java", "package che;\npublic class C extends A{\n   A c(A a){ return a; }\n}\n",
+                                              true, null);
+
+        SearchManager manager = new SearchManager();
+        List<FindUsagesResponse> partialResponses = new ArrayList<>();
+        FindUsagesResponse response = manager.findUsage(aProject, "che.A", 26, "search", partialResponses::add);
+
+        Assertions.assertThat(partialResponses).hasSize(2);
+        Map<String, List<org.eclipse.che.ide.ext.java.shared.dto.search.Match>> partialMatches = new HashMap<>();
+        for (FindUsagesResponse partialResponse : partialResponses) {
+            Assertions.assertThat(partialResponse.getSearchElementLabel()).isEqualTo("A");
+            CompilationUnit compilationUnit = partialResponse.getProjects().get(0).getPackageFragmentRoots().get(0)
+                                                             .getPackageFragments().get(0).getCompilationUnits().get(0);
+            Assertions.assertThat(partialResponse.getProjects().get(0).getPackageFragmentRoots().get(0).getPackageFragments().get(0)
+                                                 .getCompilationUnits()).hasSize(1);
+            Assertions.assertThat(compilationUnit.getElementName()).isIn("B.java", "C.java");
+            partialMatches.putAll(partialResponse.getMatches());
+        }
+        Assertions.assertThat(partialMatches).isEqualTo(response.getMatches());
+        Assertions.assertThat(manager.cancel("search")).isFalse();
+    }
 }
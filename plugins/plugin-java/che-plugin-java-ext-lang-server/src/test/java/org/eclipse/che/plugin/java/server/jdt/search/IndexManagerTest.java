@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.java.server.jdt.search;
+
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.internal.core.index.Index;
+import org.eclipse.jdt.internal.core.index.IndexLocation;
+import org.eclipse.jdt.internal.core.search.indexing.IndexManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.file.Files;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.fest.assertions.Assertions.assertThat;
+
+/**
+ * Tests of index locations of library archives computed by {@link IndexManager}.
+ */
+public class IndexManagerTest {
+    private File indexes;
+    private File libraries;
+
+    @Before
+    public void setUp() throws Exception {
+        indexes = Files.createTempDirectory("indexes").toFile();
+        libraries = Files.createTempDirectory("libraries").toFile();
+    }
+
+    @After
+    public void tearDown() {
+        IoUtil.deleteRecursive(indexes);
+        IoUtil.deleteRecursive(libraries);
+    }
+
+    @Test
+    public void identicalLibrariesShouldResolveToTheSameIndexFile() throws Exception {
+        IPath first = library("first/lib.jar", "content");
+        IPath second = library("second/lib.jar", "content");
+
+        IndexLocation firstLocation = new IndexManager(indexes.getPath()).computeIndexLocation(first);
+        IndexLocation secondLocation = new IndexManager(indexes.getPath()).computeIndexLocation(second);
+
+        assertThat(secondLocation).isEqualTo(firstLocation);
+    }
+
+    @Test
+    public void identicalLibrariesShouldHaveSeparateIndexesInOneManager() throws Exception {
+        IndexManager manager = new IndexManager(indexes.getPath());
+        IPath first = library("first/lib.jar", "content");
+        IPath second = library("second/lib.jar", "content");
+
+        IndexLocation firstLocation = manager.computeIndexLocation(first);
+        IndexLocation secondLocation = manager.computeIndexLocation(second);
+
+        assertThat(secondLocation).isNotEqualTo(firstLocation);
+        assertThat(manager.computeIndexLocation(first)).isEqualTo(firstLocation);
+    }
+
+    @Test
+    public void changedLibraryShouldResolveToNewIndexFileAndOldOneShouldBeDeleted() throws Exception {
+        IndexManager manager = new IndexManager(indexes.getPath());
+        IPath jar = library("lib.jar", "content");
+        IndexLocation oldLocation = manager.computeIndexLocation(jar);
+        manager.ensureIndexExists(oldLocation, jar);
+        manager.saveIndex(manager.getIndex(oldLocation));
+        assertThat(oldLocation.exists()).isTrue();
+
+        library("lib.jar", "changed content");
+        assertThat(jar.toFile().setLastModified(jar.toFile().lastModified() + 2000)).isTrue();
+        IndexLocation newLocation = manager.computeIndexLocation(jar);
+
+        assertThat(newLocation).isNotEqualTo(oldLocation);
+        assertThat(oldLocation.exists()).isFalse();
+    }
+
+    @Test
+    public void unchangedLibraryShouldNotBeReindexedAfterRestart() throws Exception {
+        IPath jar = library("lib.jar", "content");
+        IndexManager manager = new IndexManager(indexes.getPath());
+        IndexLocation location = manager.computeIndexLocation(jar);
+        manager.ensureIndexExists(location, jar);
+        manager.saveIndex(manager.getIndex(location));
+
+        IndexManager restarted = new IndexManager(indexes.getPath());
+        Index index = restarted.getIndex(jar, true, false);
+
+        assertThat(index).isNotNull();
+        assertThat(index.getIndexLocation()).isEqualTo(location);
+        assertThat(restarted.awaitingJobsCount()).isEqualTo(0);
+    }
+
+    private IPath library(String name, String content) throws Exception {
+        File jar = new File(libraries, name);
+        jar.getParentFile().mkdirs();
+        try (ZipOutputStream zip = new ZipOutputStream(new FileOutputStream(jar))) {
+            ZipEntry entry = new ZipEntry("readme.txt");
+            // fixed time keeps archives of the same content identical
+            entry.setTime(0);
+            zip.putNextEntry(entry);
+            zip.write(content.getBytes(UTF_8));
+            zip.closeEntry();
+        }
+        return new Path(jar.getPath());
+    }
+}
@@ -28,6 +28,9 @@ public final class Constants {
 
     public static String JAVAC                       = "javac";
 
+    /** Prefix of the websocket channel which receives partial find usages results, followed by id of the search. */
+    public static String FIND_USAGES_CHANNEL         = "java:find-usages:";
+
     private Constants() {
         throw new UnsupportedOperationException("Unused constructor.");
     }
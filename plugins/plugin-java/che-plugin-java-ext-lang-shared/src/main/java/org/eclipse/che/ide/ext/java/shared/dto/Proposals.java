@@ -27,4 +27,9 @@ public interface Proposals {
 
     void setProposals(List<ProposalPresentation> proposals);
 
+    /** Returns number of all the matched proposals, {@link #getProposals()} may contain only the first of them. */
+    int getTotal();
+
+    void setTotal(int total);
+
 }
@@ -46,4 +46,18 @@ public interface FindUsagesRequest {
      * @param offset the cursor position in file
      */
     void setOffset(int offset);
+
+    /**
+     * @return the id of the search, used to stream partial results and to cancel the search,
+     *         or {@code null} if results are returned only at once
+     */
+    String getSearchId();
+
+    /**
+     * Set search id. When it's set partial results are sent to the
+     * {@link org.eclipse.che.ide.ext.java.shared.Constants#FIND_USAGES_CHANNEL} channel followed by the id,
+     * a chunk per compilation unit, while search is running.
+     * @param searchId the id of the search
+     */
+    void setSearchId(String searchId);
 }
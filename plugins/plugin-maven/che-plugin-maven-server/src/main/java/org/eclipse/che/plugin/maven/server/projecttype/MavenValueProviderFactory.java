@@ -10,12 +10,16 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.maven.server.projecttype;
 
+import com.google.inject.Inject;
+
 import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.project.server.FileEntry;
 import org.eclipse.che.api.project.server.FolderEntry;
+import org.eclipse.che.api.project.server.VirtualFileEntry;
 import org.eclipse.che.api.project.server.type.ReadonlyValueProvider;
 import org.eclipse.che.api.project.server.type.ValueProvider;
+import org.eclipse.che.api.project.server.type.ValueProviderCache;
 import org.eclipse.che.api.project.server.type.ValueProviderFactory;
 import org.eclipse.che.api.project.server.type.ValueStorageException;
 import org.eclipse.che.commons.xml.XMLTreeException;
@@ -26,9 +30,12 @@ import org.eclipse.che.ide.maven.tools.Resource;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+import static java.util.Collections.unmodifiableList;
 import static org.eclipse.che.ide.ext.java.shared.Constants.SOURCE_FOLDER;
 import static org.eclipse.che.plugin.maven.shared.MavenAttributes.ARTIFACT_ID;
 import static org.eclipse.che.plugin.maven.shared.MavenAttributes.DEFAULT_RESOURCES_FOLDER;
@@ -49,6 +56,15 @@ import static org.eclipse.che.plugin.maven.shared.MavenAttributes.VERSION;
  */
 public class MavenValueProviderFactory implements ValueProviderFactory {
 
+    private static final String ATTRIBUTES_CACHE_KEY = "maven.attributes";
+
+    private final ValueProviderCache cache;
+
+    @Inject
+    public MavenValueProviderFactory(ValueProviderCache cache) {
+        this.cache = cache;
+    }
+
     protected Model readModel(FolderEntry projectFolder) throws ValueStorageException, ServerException, ForbiddenException, IOException {
         FileEntry pomFile = (FileEntry)projectFolder.getChild("pom.xml");
         if (pomFile == null) {
@@ -77,47 +93,56 @@ public class MavenValueProviderFactory implements ValueProviderFactory {
         @Override
         public List<String> getValues(String attributeName) throws ValueStorageException {
             try {
-                String value = "";
-                final Model model = readModel(projectFolder);
-                if (attributeName.equals(ARTIFACT_ID)) {
-                    value = model.getArtifactId();
-                } else if (attributeName.equals(GROUP_ID)) {
-                    value = model.getGroupId();
-                } else if (attributeName.equals(PACKAGING)) {
-                    final String packaging = model.getPackaging();
-                    value = packaging == null ? "" : packaging;
-                } else if (attributeName.equals(VERSION)) {
-                    value = model.getVersion();
-                } else if (attributeName.equals(PARENT_ARTIFACT_ID) && model.getParent() != null) {
-                    value = model.getParent().getArtifactId();
-                } else if (attributeName.equals(PARENT_GROUP_ID) && model.getParent() != null) {
-                    value = model.getParent().getGroupId();
-                } else if (attributeName.equals(PARENT_VERSION) && model.getParent() != null) {
-                    value = model.getParent().getVersion();
-                } else if (attributeName.equals(SOURCE_FOLDER)) {
-                    Build build = model.getBuild();
-                    if (build != null && build.getSourceDirectory() != null) {
-                        value = build.getSourceDirectory();
-                    } else {
-                        value = DEFAULT_SOURCE_FOLDER;
-                    }
-                } else if (attributeName.equals(TEST_SOURCE_FOLDER)) {
-                    Build build = model.getBuild();
-                    if (build != null && build.getTestSourceDirectory() != null) {
-                        value = build.getTestSourceDirectory();
-                    } else {
-                        value = DEFAULT_TEST_SOURCE_FOLDER;
-                    }
-                } else if (attributeName.equals(RESOURCE_FOLDER)) {
-                    Build build = model.getBuild();
-                    if (build != null && build.getResources() != null) {
-                        return build.getResources().stream().map(Resource::getDirectory).collect(Collectors.toList());
-                    } else {
-                        return Arrays.asList(DEFAULT_RESOURCES_FOLDER, DEFAULT_TEST_RESOURCES_FOLDER);
-                    }
+                final VirtualFileEntry pomFile = projectFolder.getChild("pom.xml");
+                final Map<String, List<String>> attributes;
+                if (pomFile == null || !pomFile.isFile()) {
+                    attributes = readAttributes();
+                } else {
+                    // all the attributes are read at once, so the pom.xml is parsed once per its modification
+                    attributes = cache.get(ATTRIBUTES_CACHE_KEY, (FileEntry)pomFile, file -> readAttributes());
                 }
+                final List<String> values = attributes.get(attributeName);
+                return values == null ? Collections.singletonList("") : values;
+            } catch (ServerException | ForbiddenException e) {
+                throwReadException(e);
+            }
+            return null;
+        }
 
-                return Collections.singletonList(value);
+        private Map<String, List<String>> readAttributes() throws ValueStorageException {
+            try {
+                final Model model = readModel(projectFolder);
+                final Map<String, List<String>> attributes = new HashMap<>();
+                attributes.put(ARTIFACT_ID, singleValue(model.getArtifactId()));
+                attributes.put(GROUP_ID, singleValue(model.getGroupId()));
+                attributes.put(PACKAGING, singleValue(model.getPackaging() == null ? "" : model.getPackaging()));
+                attributes.put(VERSION, singleValue(model.getVersion()));
+                if (model.getParent() != null) {
+                    attributes.put(PARENT_ARTIFACT_ID, singleValue(model.getParent().getArtifactId()));
+                    attributes.put(PARENT_GROUP_ID, singleValue(model.getParent().getGroupId()));
+                    attributes.put(PARENT_VERSION, singleValue(model.getParent().getVersion()));
+                }
+                final Build build = model.getBuild();
+                if (build != null && build.getSourceDirectory() != null) {
+                    attributes.put(SOURCE_FOLDER, singleValue(build.getSourceDirectory()));
+                } else {
+                    attributes.put(SOURCE_FOLDER, singleValue(DEFAULT_SOURCE_FOLDER));
+                }
+                if (build != null && build.getTestSourceDirectory() != null) {
+                    attributes.put(TEST_SOURCE_FOLDER, singleValue(build.getTestSourceDirectory()));
+                } else {
+                    attributes.put(TEST_SOURCE_FOLDER, singleValue(DEFAULT_TEST_SOURCE_FOLDER));
+                }
+                if (build != null && build.getResources() != null) {
+                    attributes.put(RESOURCE_FOLDER, unmodifiableList(build.getResources()
+                                                                          .stream()
+                                                                          .map(Resource::getDirectory)
+                                                                          .collect(Collectors.toList())));
+                } else {
+                    attributes.put(RESOURCE_FOLDER, unmodifiableList(Arrays.asList(DEFAULT_RESOURCES_FOLDER,
+                                                                                   DEFAULT_TEST_RESOURCES_FOLDER)));
+                }
+                return attributes;
             } catch (ServerException | ForbiddenException | IOException e) {
                 throwReadException(e);
             } catch (XMLTreeException e) {
@@ -125,5 +150,9 @@ public class MavenValueProviderFactory implements ValueProviderFactory {
             }
             return null;
         }
+
+        private List<String> singleValue(String value) {
+            return Collections.singletonList(value);
+        }
     }
 }
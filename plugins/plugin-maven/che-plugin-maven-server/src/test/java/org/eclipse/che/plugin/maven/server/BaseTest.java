@@ -25,6 +25,7 @@ import org.eclipse.che.api.project.server.handlers.ProjectHandlerRegistry;
 import org.eclipse.che.api.project.server.importer.ProjectImporterRegistry;
 import org.eclipse.che.api.project.server.type.ProjectTypeDef;
 import org.eclipse.che.api.project.server.type.ProjectTypeRegistry;
+import org.eclipse.che.api.project.server.type.ValueProviderCache;
 import org.eclipse.che.api.vfs.impl.file.DefaultFileWatcherNotificationHandler;
 import org.eclipse.che.api.vfs.impl.file.FileTreeWatcher;
 import org.eclipse.che.api.vfs.impl.file.FileWatcherNotificationHandler;
@@ -132,7 +133,7 @@ public abstract class BaseTest {
         projectTypeRegistry = new ProjectTypeRegistry(new HashSet<>());
         projectTypeRegistry.registerProjectType(new TestProjectType());
         projectTypeRegistry.registerProjectType(new JavaProjectType(new JavaValueProviderFactory()));
-        projectTypeRegistry.registerProjectType(new MavenProjectType(new MavenValueProviderFactory()));
+        projectTypeRegistry.registerProjectType(new MavenProjectType(new MavenValueProviderFactory(new ValueProviderCache(eventService))));
 
         projectHandlerRegistry = new ProjectHandlerRegistry(new HashSet<>());
 
@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.maven.server.projecttype;
 
+import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.core.rest.HttpJsonRequest;
 import org.eclipse.che.api.core.rest.HttpJsonRequestFactory;
 import org.eclipse.che.api.core.rest.HttpJsonResponse;
@@ -20,6 +21,7 @@ import org.eclipse.che.api.project.server.VirtualFileEntry;
 import org.eclipse.che.api.project.server.handlers.ProjectHandler;
 import org.eclipse.che.api.project.server.type.ProjectTypeDef;
 import org.eclipse.che.api.project.server.type.ProjectTypeRegistry;
+import org.eclipse.che.api.project.server.type.ValueProviderCache;
 import org.eclipse.che.api.workspace.shared.dto.ProjectConfigDto;
 import org.eclipse.che.api.workspace.shared.dto.WorkspaceConfigDto;
 import org.eclipse.che.api.workspace.shared.dto.WorkspaceDto;
@@ -68,7 +70,7 @@ public class MavenProjectTypeTest {
         MockitoAnnotations.initMocks(this);
         Set<ProjectTypeDef> projTypes = new HashSet<>();
         projTypes.add(new JavaProjectType(new JavaValueProviderFactory()));
-        projTypes.add(new MavenProjectType(new MavenValueProviderFactory()));
+        projTypes.add(new MavenProjectType(new MavenValueProviderFactory(new ValueProviderCache(new EventService()))));
 
         ptRegistry = new ProjectTypeRegistry(projTypes);
 
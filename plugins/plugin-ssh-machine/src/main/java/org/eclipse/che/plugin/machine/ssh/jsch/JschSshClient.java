@@ -18,6 +18,8 @@ import com.jcraft.jsch.JSchException;
 import com.jcraft.jsch.Session;
 import com.jcraft.jsch.SftpException;
 
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.eclipse.che.api.core.util.ListLineConsumer;
 import org.eclipse.che.api.machine.server.exception.MachineException;
 import org.eclipse.che.commons.lang.IoUtil;
@@ -26,29 +28,43 @@ import org.eclipse.che.plugin.machine.ssh.SshMachineRecipe;
 
 import javax.inject.Inject;
 import javax.inject.Named;
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Map;
 
 import static java.lang.String.format;
 
 /**
  * Client for communication with ssh machine using ssh protocol.
+ * <p/>
+ * Client keeps single ssh session which is checked with keepalive messages and reopened on demand when it is lost.
+ * SFTP channels are reused between copying operations, folders are copied as tar archive streamed over single
+ * exec channel, SFTP is used for folders only when tar is not available on ssh machine.
  *
  * @author Alexander Garagatyi
  */
 // todo think about replacement JSch with Apace SSHD
 // todo tests for ssh library that ensures that it works as expected
 public class JschSshClient implements SshClient {
+    /** Max number of SFTP channels which are kept open for reuse. */
+    private static final int MAX_IDLE_SFTP_CHANNELS = 4;
+    /** Number of unanswered keepalive messages after which session is considered lost. */
+    private static final int SERVER_ALIVE_COUNT_MAX = 3;
+    private static final int TAR_BUFFER_SIZE        = 64 * 1024;
+
     private final JSch                jsch;
     private final JschUserInfoImpl    user;
     private final String              host;
@@ -56,16 +72,24 @@ public class JschSshClient implements SshClient {
     private final String              username;
     private final Map<String, String> envVars;
     private final int                 connectionTimeout;
+    private final int                 serverAliveInterval;
+    private final Deque<ChannelSftp>  idleSftpChannels;
 
     private Session session;
+    private boolean stopped;
+    /** Whether tar is available on ssh machine, {@code null} until it is checked. */
+    private Boolean tarAvailable;
 
     @Inject
     public JschSshClient(@Assisted SshMachineRecipe sshMachineRecipe,
                          @Assisted Map<String, String> envVars,
                          JSch jsch,
-                         @Named("machine.ssh.connection_timeout_ms") int connectionTimeoutMs) {
+                         @Named("machine.ssh.connection_timeout_ms") int connectionTimeoutMs,
+                         @Named("machine.ssh.server_alive_interval_ms") int serverAliveIntervalMs) {
         this.envVars = envVars;
         this.connectionTimeout = connectionTimeoutMs;
+        this.serverAliveInterval = serverAliveIntervalMs;
+        this.idleSftpChannels = new ArrayDeque<>();
         this.user = JschUserInfoImpl.builder()
                                     .password(sshMachineRecipe.getPassword())
                                     .promptPassword(true)
@@ -87,12 +111,8 @@ public class JschSshClient implements SshClient {
     @Override
     public void start() throws MachineException {
         try {
-            session = jsch.getSession(username, host, port);
-            session.setUserInfo(user);
             // todo remember parent pid of shell to be able to kill all processes on client stop
-            if (!session.isConnected()) {
-                session.connect(connectionTimeout);
-            }
+            getSession();
         } catch (JSchException e) {
             throw new MachineException("Ssh machine creation failed because ssh of machine is inaccessible. Error: " +
                                        e.getLocalizedMessage());
@@ -109,14 +129,21 @@ public class JschSshClient implements SshClient {
 //     todo process output
 
     @Override
-    public void stop() throws MachineException {
-        session.disconnect();
+    public synchronized void stop() throws MachineException {
+        stopped = true;
+        ChannelSftp sftp;
+        while ((sftp = idleSftpChannels.poll()) != null) {
+            sftp.disconnect();
+        }
+        if (session != null) {
+            session.disconnect();
+        }
     }
 
     @Override
     public JschSshProcess createProcess(String commandLine) throws MachineException {
         try {
-            ChannelExec exec = (ChannelExec)session.openChannel("exec");
+            ChannelExec exec = (ChannelExec)getSession().openChannel("exec");
             exec.setCommand(commandLine);
             envVars.entrySet()
                    .stream()
@@ -157,25 +184,49 @@ public class JschSshClient implements SshClient {
         // not normalized paths don't work
         final String targetAbsolutePath = getAbsolutePath(targetFolder);
 
-        // copy files
+        try {
+            if (isTarAvailable()) {
+                copyAsTar(Paths.get(sourceFolder), targetAbsolutePath);
+                return;
+            }
+        } catch (JSchException | IOException e) {
+            throw new MachineException("Copying failed. Error: " + e.getLocalizedMessage());
+        }
+
+        // tar is not available on ssh machine, copy files one by one
         ChannelSftp sftp = null;
         try {
-            sftp = (ChannelSftp)session.openChannel("sftp");
-            sftp.connect(connectionTimeout);
+            sftp = acquireSftp();
 
             final ChannelSftp finalSftp = sftp;
-            Files.walkFileTree(Paths.get(sourceFolder), new SimpleFileVisitor<Path>() {
+            final Path source = Paths.get(sourceFolder);
+            Files.walkFileTree(source, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                    if (!dir.equals(source)) {
+                        final String target = targetAbsolutePath + '/' + relativePath(source, dir);
+                        try {
+                            finalSftp.mkdir(target);
+                        } catch (SftpException e) {
+                            if (e.id != ChannelSftp.SSH_FX_FAILURE) {
+                                throw new IOException(format("Sftp creation of folder %s failed. Error: %s",
+                                                             target,
+                                                             e.getLocalizedMessage()));
+                            }
+                            // folder already exists
+                        }
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
                 @Override
                 public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
-                    try {
-                        if (!attrs.isDirectory()) {
-                            copyFile(file.toString(),
-                                     Paths.get(targetAbsolutePath, file.getFileName().toString()).toString(), finalSftp);
-                        } else {
-                            finalSftp.mkdir(file.normalize().toString());
+                    if (attrs.isRegularFile()) {
+                        try {
+                            copyFile(file.toString(), targetAbsolutePath + '/' + relativePath(source, file), finalSftp);
+                        } catch (MachineException e) {
+                            throw new IOException(format("Sftp copying of file %s failed. Error: %s", file, e.getLocalizedMessage()));
                         }
-                    } catch (MachineException | SftpException e) {
-                        throw new IOException(format("Sftp copying of file %s failed. Error: %s", file, e.getLocalizedMessage()));
                     }
                     return FileVisitResult.CONTINUE;
                 }
@@ -184,23 +235,107 @@ public class JschSshClient implements SshClient {
             throw new MachineException("Copying failed. Error: " + e.getLocalizedMessage());
         } finally {
             if (sftp != null) {
-                sftp.disconnect();
+                releaseSftp(sftp);
             }
         }
     }
 
+    /** Checks whether tar is available on ssh machine, the check is performed once per client. */
+    private boolean isTarAvailable() throws JSchException, IOException {
+        synchronized (this) {
+            if (tarAvailable != null) {
+                return tarAvailable;
+            }
+        }
+        final boolean available = execAndGetCode("command -v tar") == 0;
+        synchronized (this) {
+            tarAvailable = available;
+        }
+        return available;
+    }
+
+    /**
+     * Streams content of the source folder as tar archive to {@code tar -x} on ssh machine, so the whole tree
+     * is copied over single exec channel.
+     */
+    private void copyAsTar(Path sourceFolder, String targetFolder) throws JSchException, IOException, MachineException {
+        ChannelExec exec = (ChannelExec)getSession().openChannel("exec");
+        exec.setCommand("tar -C " + quote(targetFolder) + " -xof -");
+
+        final String error;
+        try (InputStream erStream = exec.getErrStream()) {
+            OutputStream tarStream = exec.getOutputStream();
+            exec.connect(connectionTimeout);
+
+            // closing of tar stream sends EOF to the remote side
+            try (TarArchiveOutputStream tarOut = new TarArchiveOutputStream(new BufferedOutputStream(tarStream, TAR_BUFFER_SIZE))) {
+                tarOut.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+                addToTar(tarOut, sourceFolder);
+            }
+            // read stream to wait until command finishes its work
+            error = IoUtil.readStream(erStream);
+        } finally {
+            exec.disconnect();
+        }
+
+        final int exitCode = exec.getExitStatus();
+        if (exitCode != 0) {
+            throw new MachineException(format("Tar copying to folder %s failed. Exit code: %s. Error: %s", targetFolder, exitCode, error));
+        }
+    }
+
+    /** Writes content of the source folder to the tar stream, entries are named relatively to the source folder. */
+    static void addToTar(TarArchiveOutputStream tarOut, Path sourceFolder) throws IOException {
+        Files.walkFileTree(sourceFolder, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                if (!dir.equals(sourceFolder)) {
+                    final TarArchiveEntry entry = new TarArchiveEntry(relativePath(sourceFolder, dir) + '/');
+                    entry.setMode(TarArchiveEntry.DEFAULT_DIR_MODE);
+                    entry.setModTime(attrs.lastModifiedTime().toMillis());
+                    tarOut.putArchiveEntry(entry);
+                    tarOut.closeArchiveEntry();
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                if (attrs.isRegularFile()) {
+                    final TarArchiveEntry entry = new TarArchiveEntry(relativePath(sourceFolder, file));
+                    // same permissions which are applied by sftp copying
+                    entry.setMode(Files.isExecutable(file) ? 0755 : 0644);
+                    entry.setSize(attrs.size());
+                    entry.setModTime(attrs.lastModifiedTime().toMillis());
+                    tarOut.putArchiveEntry(entry);
+                    Files.copy(file, tarOut);
+                    tarOut.closeArchiveEntry();
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private static String relativePath(Path parent, Path child) {
+        return parent.relativize(child).toString().replace(File.separatorChar, '/');
+    }
+
+    /** Quotes the argument of shell command, so it is passed to the command as is. */
+    static String quote(String argument) {
+        return '\'' + argument.replace("'", "'\\''") + '\'';
+    }
+
     private void copyFile(String sourcePath, String targetPath) throws MachineException {
         ChannelSftp sftp = null;
         try {
-            sftp = (ChannelSftp)session.openChannel("sftp");
-            sftp.connect(connectionTimeout);
+            sftp = acquireSftp();
             String absoluteTargetPath = getAbsolutePath(targetPath);
             copyFile(sourcePath, absoluteTargetPath, sftp);
         } catch (JSchException e) {
             throw new MachineException("Sftp copying failed. Error: " + e.getLocalizedMessage());
         } finally {
             if (sftp != null) {
-                sftp.disconnect();
+                releaseSftp(sftp);
             }
         }
     }
@@ -237,8 +372,51 @@ public class JschSshClient implements SshClient {
         }
     }
 
+    /** Returns connected session, session is opened if it wasn't opened yet or if it was lost. */
+    private synchronized Session getSession() throws JSchException {
+        if (stopped) {
+            throw new JSchException("Ssh client is stopped");
+        }
+        if (session == null || !session.isConnected()) {
+            // channels of the lost session are not usable anymore
+            idleSftpChannels.clear();
+            Session newSession = jsch.getSession(username, host, port);
+            newSession.setUserInfo(user);
+            newSession.setServerAliveInterval(serverAliveInterval);
+            newSession.setServerAliveCountMax(SERVER_ALIVE_COUNT_MAX);
+            newSession.connect(connectionTimeout);
+            session = newSession;
+        }
+        return session;
+    }
+
+    /** Returns connected SFTP channel, the channel should be returned with {@link #releaseSftp(ChannelSftp)} after use. */
+    private ChannelSftp acquireSftp() throws JSchException {
+        synchronized (this) {
+            ChannelSftp sftp;
+            while ((sftp = idleSftpChannels.poll()) != null) {
+                if (sftp.isConnected()) {
+                    return sftp;
+                }
+            }
+        }
+        ChannelSftp sftp = (ChannelSftp)getSession().openChannel("sftp");
+        sftp.connect(connectionTimeout);
+        return sftp;
+    }
+
+    private void releaseSftp(ChannelSftp sftp) {
+        synchronized (this) {
+            if (!stopped && sftp.isConnected() && idleSftpChannels.size() < MAX_IDLE_SFTP_CHANNELS) {
+                idleSftpChannels.push(sftp);
+                return;
+            }
+        }
+        sftp.disconnect();
+    }
+
     private int execAndGetCode(String command) throws JSchException, IOException {
-        ChannelExec exec = (ChannelExec)session.openChannel("exec");
+        ChannelExec exec = (ChannelExec)getSession().openChannel("exec");
         exec.setCommand(command);
 
         try (InputStream inStream = exec.getInputStream();
@@ -257,7 +435,7 @@ public class JschSshClient implements SshClient {
     }
 
     private String execAndGetOutput(String command) throws JSchException, MachineException, IOException {
-        ChannelExec exec = (ChannelExec)session.openChannel("exec");
+        ChannelExec exec = (ChannelExec)getSession().openChannel("exec");
         exec.setCommand(command);
 
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(exec.getInputStream()));
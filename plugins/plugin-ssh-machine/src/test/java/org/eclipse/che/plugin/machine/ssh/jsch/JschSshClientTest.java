@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.machine.ssh.jsch;
+
+import com.jcraft.jsch.ChannelExec;
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.JSch;
+import com.jcraft.jsch.Session;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.che.plugin.machine.ssh.SshMachineRecipe;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests of copying of folders by {@link JschSshClient}.
+ */
+@Listeners(MockitoTestNGListener.class)
+public class JschSshClientTest {
+    private static final String TARGET_ABSOLUTE_PATH = "/home/user/user's projects";
+
+    @Mock
+    private JSch        jsch;
+    @Mock
+    private Session     session;
+    @Mock
+    private ChannelSftp sftp;
+
+    private List<String>          commands;
+    private ByteArrayOutputStream tarOutput;
+    private int                   tarCheckExitCode;
+    private Path                  sourceFolder;
+    private JschSshClient         sshClient;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        commands = new ArrayList<>();
+        tarOutput = new ByteArrayOutputStream();
+        sourceFolder = Files.createTempDirectory("ssh-copy");
+        Files.createDirectories(sourceFolder.resolve("src"));
+        Files.write(sourceFolder.resolve("src/readme.txt"), "content".getBytes(UTF_8));
+        Files.write(sourceFolder.resolve("src/run.sh"), "#!/bin/sh".getBytes(UTF_8));
+        assertTrue(sourceFolder.resolve("src/run.sh").toFile().setExecutable(true));
+
+        when(jsch.getSession("user", "host", 22)).thenReturn(session);
+        when(session.isConnected()).thenReturn(true);
+        when(session.openChannel("exec")).thenAnswer(invocation -> mockExec());
+        when(session.openChannel("sftp")).thenReturn(sftp);
+        when(sftp.isConnected()).thenReturn(true);
+
+        sshClient = new JschSshClient(new SshMachineRecipe("host", 22, "user", "password"), emptyMap(), jsch, 1000, 1000);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        IoUtil.deleteRecursive(sourceFolder.toFile());
+    }
+
+    @Test
+    public void shouldWriteFolderContentToTarRelativelyToTheFolder() throws Exception {
+        final ByteArrayOutputStream tar = new ByteArrayOutputStream();
+        try (TarArchiveOutputStream tarOut = new TarArchiveOutputStream(tar)) {
+            JschSshClient.addToTar(tarOut, sourceFolder);
+        }
+
+        final Map<String, TarArchiveEntry> entries = new HashMap<>();
+        final Map<String, String> contents = new HashMap<>();
+        try (TarArchiveInputStream tarIn = new TarArchiveInputStream(new ByteArrayInputStream(tar.toByteArray()))) {
+            TarArchiveEntry entry;
+            while ((entry = tarIn.getNextTarEntry()) != null) {
+                entries.put(entry.getName(), entry);
+                contents.put(entry.getName(), IoUtil.readStream(tarIn));
+            }
+        }
+
+        assertEquals(entries.keySet(), asSet("src/", "src/readme.txt", "src/run.sh"));
+        assertTrue(entries.get("src/").isDirectory());
+        assertEquals(entries.get("src/readme.txt").getMode(), 0644);
+        assertEquals(entries.get("src/run.sh").getMode(), 0755);
+        assertEquals(contents.get("src/readme.txt"), "content");
+    }
+
+    @Test
+    public void shouldCopyFolderAsTarToQuotedAbsolutePathWhenTarIsAvailable() throws Exception {
+        tarCheckExitCode = 0;
+
+        sshClient.copy(sourceFolder.toString(), "projects");
+
+        assertEquals(commands, asList("mkdir -p projects",
+                                      "cd projects; pwd",
+                                      "command -v tar",
+                                      "tar -C '/home/user/user'\\''s projects' -xof -"));
+        assertTrue(tarOutput.size() > 0);
+        verify(session, never()).openChannel("sftp");
+    }
+
+    @Test
+    public void shouldCopyFolderBySftpWhenTarIsNotAvailable() throws Exception {
+        tarCheckExitCode = 1;
+
+        sshClient.copy(sourceFolder.toString(), "projects");
+
+        assertFalse(commands.stream().anyMatch(command -> command.startsWith("tar ")));
+        verify(sftp).mkdir(TARGET_ABSOLUTE_PATH + "/src");
+        verify(sftp).put(sourceFolder.resolve("src/readme.txt").toString(), TARGET_ABSOLUTE_PATH + "/src/readme.txt");
+        verify(sftp).put(sourceFolder.resolve("src/run.sh").toString(), TARGET_ABSOLUTE_PATH + "/src/run.sh");
+    }
+
+    @Test
+    public void shouldCheckTarAvailabilityOnce() throws Exception {
+        tarCheckExitCode = 1;
+
+        sshClient.copy(sourceFolder.toString(), "projects");
+        sshClient.copy(sourceFolder.toString(), "projects");
+
+        assertEquals(commands.stream().filter("command -v tar"::equals).count(), 1);
+    }
+
+    private ChannelExec mockExec() throws Exception {
+        final ChannelExec exec = mock(ChannelExec.class);
+        final String[] command = new String[1];
+        doAnswer(invocation -> {
+            command[0] = (String)invocation.getArguments()[0];
+            commands.add(command[0]);
+            return null;
+        }).when(exec).setCommand(anyString());
+        when(exec.getInputStream()).thenAnswer(invocation -> output(command[0].endsWith("pwd") ? TARGET_ABSOLUTE_PATH : ""));
+        when(exec.getErrStream()).thenAnswer(invocation -> output(""));
+        when(exec.getOutputStream()).thenReturn(tarOutput);
+        when(exec.getExitStatus()).thenAnswer(invocation -> command[0].startsWith("command -v") ? tarCheckExitCode : 0);
+        return exec;
+    }
+
+    private static InputStream output(String output) {
+        return new ByteArrayInputStream(output.getBytes(UTF_8));
+    }
+
+    private static Set<String> asSet(String... values) {
+        return new HashSet<>(asList(values));
+    }
+}
@@ -856,8 +856,8 @@ public class SubversionApi {
                                          List<String> args,
                                          File projectPath,
                                          List<String> paths) throws IOException, SubversionException {
-        String[] credentials = getCredentialArgs(projectPath.getAbsolutePath());
         String repoUrl = getRepositoryUrl(projectPath.getAbsolutePath());
+        String[] credentials = getCredentialArgs(repoUrl);
         return runCommand(env, args, projectPath, paths, credentials, repoUrl);
     }
 
@@ -931,10 +931,10 @@ public class SubversionApi {
         return result;
     }
 
-    private String[] getCredentialArgs(final String projectPath) throws SubversionException, IOException {
+    private String[] getCredentialArgs(final String repositoryUrl) throws SubversionException, IOException {
         Credentials credentials;
         try {
-            credentials = this.credentialsProvider.getCredentials(getRepositoryUrl(projectPath));
+            credentials = this.credentialsProvider.getCredentials(repositoryUrl);
         } catch (final CredentialsException e) {
             credentials = null;
         }
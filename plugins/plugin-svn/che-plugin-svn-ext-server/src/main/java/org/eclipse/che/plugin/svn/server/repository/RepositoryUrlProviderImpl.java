@@ -12,20 +12,134 @@ package org.eclipse.che.plugin.svn.server.repository;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.inject.Singleton;
 
 import org.eclipse.che.plugin.svn.server.upstream.CommandLineResult;
 import org.eclipse.che.plugin.svn.server.upstream.UpstreamUtils;
 import org.eclipse.che.plugin.svn.server.utils.InfoUtils;
 
-
+/**
+ * Reads repository URLs of working copies with {@code svn info}.
+ * <p/>
+ * URLs of working copy roots are cached and are read again only when {@code .svn/wc.db} of the working copy
+ * is changed, e.g. by switch or relocate. When URL of a working copy is not cached, URLs of the sibling
+ * working copies which are not cached either are read by the same {@code svn info} invocation, so listing
+ * of many Subversion projects forks single process instead of a process per project.
+ */
+@Singleton
 public class RepositoryUrlProviderImpl implements RepositoryUrlProvider {
 
+    static final String WC_DB = ".svn/wc.db";
+
+    private final ConcurrentMap<String, CachedUrl> urls = new ConcurrentHashMap<>();
+
     @Override
     public String getRepositoryUrl(final String projectPath) throws IOException {
-        final File projectPathFile = new File(projectPath);
-        final CommandLineResult clResult = UpstreamUtils.executeCommandLine(null, "svn", new String[]{"info"},
-                                                                            null, -1L, projectPathFile);
-        return InfoUtils.getUrl(clResult.getStdout());
+        final File workingCopy = new File(projectPath).getAbsoluteFile();
+        if (!new File(workingCopy, WC_DB).isFile()) {
+            // not a working copy root, nothing to bind cached URL to
+            return InfoUtils.getUrl(svnInfo(workingCopy, Collections.<String>emptyList()));
+        }
+
+        CachedUrl cached = urls.get(workingCopy.getPath());
+        if (cached == null || !cached.isValid(workingCopy)) {
+            readUrls(workingCopy);
+            cached = urls.get(workingCopy.getPath());
+        }
+        if (cached == null) {
+            // batch output didn't contain URL of the working copy
+            return InfoUtils.getUrl(svnInfo(workingCopy, Collections.<String>emptyList()));
+        }
+        return cached.url;
     }
 
+    /** Reads URLs of the working copy and of its sibling working copies which have no valid cached URLs. */
+    private void readUrls(final File workingCopy) throws IOException {
+        final File parent = workingCopy.getParentFile();
+        final List<File> targets = new ArrayList<>();
+        targets.add(workingCopy);
+        if (parent != null) {
+            final File[] siblings = parent.listFiles();
+            if (siblings != null) {
+                for (final File sibling : siblings) {
+                    if (!sibling.equals(workingCopy) && new File(sibling, WC_DB).isFile()) {
+                        final CachedUrl cached = urls.get(sibling.getPath());
+                        if (cached == null || !cached.isValid(sibling)) {
+                            targets.add(sibling);
+                        }
+                    }
+                }
+            }
+        }
+
+        // remember state of wc.db before reading, so changes made while svn is running aren't missed
+        final Map<String, long[]> states = new HashMap<>();
+        final List<String> paths = new ArrayList<>(targets.size());
+        for (final File target : targets) {
+            final File wcDb = new File(target, WC_DB);
+            states.put(target.getPath(), new long[]{wcDb.lastModified(), wcDb.length()});
+            paths.add(target.getPath());
+        }
+
+        final List<String> output = svnInfo(parent != null ? parent : workingCopy, paths);
+
+        // info of each target is followed by an empty line
+        final List<String> item = new ArrayList<>();
+        for (final String line : output) {
+            if (line.isEmpty()) {
+                cacheUrl(item, states);
+                item.clear();
+            } else {
+                item.add(line);
+            }
+        }
+        cacheUrl(item, states);
+    }
+
+    private void cacheUrl(final List<String> item, final Map<String, long[]> states) {
+        final String path = InfoUtils.getPath(item);
+        final String url = InfoUtils.getUrl(item);
+        final long[] state = path == null ? null : states.get(path);
+        if (state != null && url != null) {
+            urls.put(path, new CachedUrl(url, state[0], state[1]));
+        }
+    }
+
+    /**
+     * Runs {@code svn info} for the given targets in the given directory and returns its standard output.
+     * Failures of single targets are reported by svn as warnings, info of the other targets is printed anyway.
+     */
+    List<String> svnInfo(final File workingDirectory, final List<String> targets) throws IOException {
+        final List<String> args = new ArrayList<>(targets.size() + 1);
+        args.add("info");
+        args.addAll(targets);
+        final CommandLineResult clResult = UpstreamUtils.executeCommandLine(null, "svn", args.toArray(new String[args.size()]),
+                                                                            null, -1L, workingDirectory);
+        return clResult.getStdout();
+    }
+
+    private static final class CachedUrl {
+        private final String url;
+        private final long   modified;
+        private final long   length;
+
+        private CachedUrl(final String url, final long modified, final long length) {
+            this.url = url;
+            this.modified = modified;
+            this.length = length;
+        }
+
+        private boolean isValid(final File workingCopy) {
+            final File wcDb = new File(workingCopy, WC_DB);
+            return wcDb.lastModified() == modified && wcDb.length() == length;
+        }
+    }
 }
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.svn.server.repository;
+
+import org.eclipse.che.commons.lang.IoUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit tests for {@link RepositoryUrlProviderImpl}.
+ */
+public class RepositoryUrlProviderImplTest {
+
+    private static final int PROJECTS = 50;
+
+    private File                      root;
+    private List<List<String>>        invocations;
+    private RepositoryUrlProviderImpl provider;
+
+    @Before
+    public void setUp() throws Exception {
+        root = Files.createTempDirectory("svn-projects").toFile();
+        for (int i = 0; i < PROJECTS; i++) {
+            createWorkingCopy("project" + i);
+        }
+        invocations = new ArrayList<>();
+        provider = new RepositoryUrlProviderImpl() {
+            @Override
+            List<String> svnInfo(File workingDirectory, List<String> targets) throws IOException {
+                invocations.add(targets);
+                final List<String> output = new ArrayList<>();
+                for (String target : targets) {
+                    output.add("Path: " + target);
+                    output.add("URL: file:///repository/" + new File(target).getName());
+                    output.add("");
+                }
+                return output;
+            }
+        };
+    }
+
+    @After
+    public void tearDown() {
+        IoUtil.deleteRecursive(root);
+    }
+
+    @Test
+    public void shouldReadUrlsOfAllProjectsWithSingleInvocation() throws Exception {
+        for (int i = 0; i < PROJECTS; i++) {
+            assertEquals("file:///repository/project" + i, provider.getRepositoryUrl(new File(root, "project" + i).getPath()));
+        }
+
+        assertEquals(1, invocations.size());
+        assertEquals(PROJECTS, invocations.get(0).size());
+    }
+
+    @Test
+    public void shouldReadUrlAgainOnlyForChangedWorkingCopy() throws Exception {
+        provider.getRepositoryUrl(new File(root, "project0").getPath());
+        Files.write(new File(root, "project1/" + RepositoryUrlProviderImpl.WC_DB).toPath(), new byte[]{1, 2});
+
+        provider.getRepositoryUrl(new File(root, "project0").getPath());
+        provider.getRepositoryUrl(new File(root, "project1").getPath());
+
+        assertEquals(2, invocations.size());
+        assertEquals(1, invocations.get(1).size());
+        assertEquals(new File(root, "project1").getPath(), invocations.get(1).get(0));
+    }
+
+    private void createWorkingCopy(String name) throws IOException {
+        final File wcDb = new File(root, name + '/' + RepositoryUrlProviderImpl.WC_DB);
+        Files.createDirectories(wcDb.getParentFile().toPath());
+        Files.write(wcDb.toPath(), new byte[]{1});
+    }
+}
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server;
+
+import org.eclipse.che.api.vfs.Path;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps absolute paths to values keeping them in a tree of path elements,
+ * so lookups of the values on and under a path or of the closest value above a path
+ * cost proportionally to the depth of the path instead of the number of stored values.
+ * <p/>
+ * Reads don't block, modifications are serialized.
+ *
+ * @param <V>
+ *         type of values
+ */
+class PathTrie<V> {
+
+    private final Node<V> root = new Node<>(null, "/");
+
+    /** Returns value mapped to the path or {@code null}. */
+    V get(String path) {
+        final Node<V> node = find(path);
+        return node == null ? null : node.value;
+    }
+
+    /** Maps value to the path and returns previous value or {@code null}. */
+    synchronized V put(String path, V value) {
+        Node<V> node = root;
+        for (String element : Path.of(path).elements()) {
+            final Node<V> parent = node;
+            node = parent.children.computeIfAbsent(element, name -> new Node<>(parent, parent.childPath(name)));
+        }
+        final V previous = node.value;
+        node.value = value;
+        return previous;
+    }
+
+    /** Removes value mapped to the path and returns it or {@code null}. */
+    synchronized V remove(String path) {
+        Node<V> node = find(path);
+        if (node == null) {
+            return null;
+        }
+        final V removed = node.value;
+        node.value = null;
+        // prune branch which doesn't hold values anymore
+        while (node.parent != null && node.value == null && node.children.isEmpty()) {
+            node.parent.children.remove(node.name());
+            node = node.parent;
+        }
+        return removed;
+    }
+
+    /** Returns all the values. */
+    List<V> values() {
+        final List<V> values = new ArrayList<>();
+        collect(root, values, null);
+        return values;
+    }
+
+    /** Returns paths which are mapped to values and are located under the given path, the path itself is not included. */
+    List<String> getChildPaths(String path) {
+        final Node<V> node = find(path);
+        final List<String> paths = new ArrayList<>();
+        if (node != null) {
+            for (Node<V> child : node.children.values()) {
+                collect(child, null, paths);
+            }
+        }
+        return paths;
+    }
+
+    /** Returns value mapped to the path or to the closest of its parents or {@code null}. */
+    V getClosest(String path) {
+        Node<V> node = root;
+        V closest = root.value;
+        for (String element : Path.of(path).elements()) {
+            node = node.children.get(element);
+            if (node == null) {
+                break;
+            }
+            if (node.value != null) {
+                closest = node.value;
+            }
+        }
+        return closest;
+    }
+
+    private Node<V> find(String path) {
+        Node<V> node = root;
+        for (String element : Path.of(path).elements()) {
+            node = node.children.get(element);
+            if (node == null) {
+                return null;
+            }
+        }
+        return node;
+    }
+
+    private void collect(Node<V> node, List<V> values, List<String> paths) {
+        final V value = node.value;
+        if (value != null) {
+            if (values != null) {
+                values.add(value);
+            }
+            if (paths != null) {
+                paths.add(node.path);
+            }
+        }
+        for (Node<V> child : node.children.values()) {
+            collect(child, values, paths);
+        }
+    }
+
+    private static class Node<V> {
+        final    Node<V>              parent;
+        final    String               path;
+        final    Map<String, Node<V>> children;
+        volatile V                    value;
+
+        Node(Node<V> parent, String path) {
+            this.parent = parent;
+            this.path = path;
+            this.children = new ConcurrentHashMap<>();
+        }
+
+        String name() {
+            return path.substring(path.lastIndexOf('/') + 1);
+        }
+
+        String childPath(String name) {
+            return parent == null ? '/' + name : path + '/' + name;
+        }
+    }
+}
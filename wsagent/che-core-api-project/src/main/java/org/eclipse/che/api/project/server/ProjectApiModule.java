@@ -21,6 +21,7 @@ import org.eclipse.che.api.project.server.importer.ProjectImportersService;
 import org.eclipse.che.api.project.server.type.BaseProjectType;
 import org.eclipse.che.api.project.server.type.InitBaseProjectTypeHandler;
 import org.eclipse.che.api.project.server.type.ProjectTypeDef;
+import org.eclipse.che.api.project.server.type.ValueProviderCache;
 import org.eclipse.che.api.vfs.VirtualFileFilter;
 import org.eclipse.che.api.vfs.VirtualFileSystemProvider;
 import org.eclipse.che.api.vfs.impl.file.DefaultFileWatcherNotificationHandler;
@@ -55,6 +56,7 @@ public class ProjectApiModule extends AbstractModule {
         bind(ProjectService.class);
         bind(ProjectTypeService.class);
         bind(ProjectImportersService.class);
+        bind(ValueProviderCache.class);
 
         bind(WorkspaceProjectsSyncer.class).to(WorkspaceHolder.class);
 
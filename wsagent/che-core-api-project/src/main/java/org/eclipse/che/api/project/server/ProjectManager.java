@@ -171,6 +171,16 @@ public final class ProjectManager {
         return projectRegistry.getProjects();
     }
 
+    /**
+     * @param path
+     *         path of the project, or root to get durations of all the projects
+     * @return durations in milliseconds of project registrations and of project init handler calls
+     * @see ProjectRegistry#getInitTimings(String)
+     */
+    public Map<String, Long> getInitTimings(String path) {
+        return projectRegistry.getInitTimings(path);
+    }
+
     /**
      * @param projectPath
      * @return project
@@ -10,12 +10,15 @@
  *******************************************************************************/
 package org.eclipse.che.api.project.server;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.project.ProjectConfig;
 import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.core.notification.EventSubscriber;
 import org.eclipse.che.api.project.server.RegisteredProject.Problem;
 import org.eclipse.che.api.project.server.handlers.ProjectHandlerRegistry;
 import org.eclipse.che.api.project.server.handlers.ProjectInitHandler;
@@ -23,6 +26,8 @@ import org.eclipse.che.api.project.server.type.BaseProjectType;
 import org.eclipse.che.api.project.server.type.ProjectTypeConstraintException;
 import org.eclipse.che.api.project.server.type.ProjectTypeRegistry;
 import org.eclipse.che.api.project.server.type.ValueStorageException;
+import org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType;
+import org.eclipse.che.api.project.shared.dto.event.VfsWatchEvent;
 import org.eclipse.che.api.vfs.Path;
 import org.eclipse.che.api.vfs.VirtualFile;
 import org.eclipse.che.api.vfs.VirtualFileSystem;
@@ -31,14 +36,20 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Stores internal representation of Projects registered in the Workspace Agent.
@@ -49,15 +60,20 @@ import java.util.stream.Collectors;
 public class ProjectRegistry {
     private static final Logger LOG = LoggerFactory.getLogger(ProjectRegistry.class);
 
-    private final Map<String, RegisteredProject> projects;
+    /** Number of threads which register projects on start. */
+    private static final int INIT_THREADS = 1 + Runtime.getRuntime().availableProcessors();
+
+    private final PathTrie<RegisteredProject>    projects;
     private final WorkspaceProjectsSyncer        workspaceHolder;
     private final VirtualFileSystem              vfs;
     private final ProjectTypeRegistry            projectTypeRegistry;
     private final ProjectHandlerRegistry         handlers;
     private final FolderEntry                    root;
-    private final EventService eventService;
+    private final EventService                   eventService;
+    private final EventSubscriber<VfsWatchEvent> rootFoldersWatcher;
+    private final Map<String, Long>              initTimings;
 
-    private boolean initialized;
+    private volatile boolean initialized;
 
     @Inject
     public ProjectRegistry(WorkspaceProjectsSyncer workspaceHolder,
@@ -66,12 +82,14 @@ public class ProjectRegistry {
                            ProjectHandlerRegistry handlers,
                            EventService eventService) throws ServerException {
         this.eventService = eventService;
-        this.projects = new ConcurrentHashMap<>();
+        this.projects = new PathTrie<>();
         this.workspaceHolder = workspaceHolder;
         this.vfs = vfsProvider.getVirtualFileSystem();
         this.projectTypeRegistry = projectTypeRegistry;
         this.handlers = handlers;
         this.root = new FolderEntry(vfs.getRoot());
+        this.rootFoldersWatcher = this::onRootFolderEvent;
+        this.initTimings = new ConcurrentHashMap<>();
     }
 
     @PostConstruct
@@ -80,38 +98,136 @@ public class ProjectRegistry {
 
         List<? extends ProjectConfig> projectConfigs = workspaceHolder.getProjects();
 
-        // take all the projects from ws's config
-        for (ProjectConfig projectConfig : projectConfigs) {
-            final String path = projectConfig.getPath();
-            final VirtualFile vf = vfs.getRoot().getChild(Path.of(path));
-            final FolderEntry projectFolder = ((vf == null) ? null : new FolderEntry(vf, this));
-            // need that to make "problematic" project and not break the workspace
-            try {
-                putProject(projectConfig, projectFolder, false, false);
-            } catch (ProjectTypeConstraintException e) {
-                //in case bad config
-                projects.put(path, new RegisteredProject(projectFolder, false, false, projectTypeRegistry, new Problem(12, e.getMessage())));
-            } catch (NotFoundException e) {
-                //in case project type not found
-                projects.put(path, new RegisteredProject(projectFolder, false, false, projectTypeRegistry, new Problem(13, e.getMessage())));
-            } catch (ValueStorageException e) {
-                //in case can't calculate Attributes
-                projects.put(path, new RegisteredProject(projectFolder, false, false, projectTypeRegistry, new Problem(14, e.getMessage())));
+        final long start = System.currentTimeMillis();
+        final ExecutorService executor = Executors.newFixedThreadPool(INIT_THREADS,
+                                                                      new ThreadFactoryBuilder().setNameFormat("ProjectRegistry-Init-%d")
+                                                                                                .setDaemon(true)
+                                                                                                .build());
+        try {
+            // take all the projects from ws's config, attributes of different projects are computed concurrently
+            final List<Future<?>> registrations = new ArrayList<>(projectConfigs.size());
+            for (ProjectConfig projectConfig : projectConfigs) {
+                registrations.add(executor.submit(() -> {
+                    registerProject(projectConfig);
+                    return null;
+                }));
             }
-        }
+            awaitAll(registrations);
 
-        initUnconfiguredFolders();
+            initUnconfiguredFolders();
+            eventService.subscribe(rootFoldersWatcher, VfsWatchEvent.class);
 
-        initialized = true;
+            initialized = true;
 
-        for (RegisteredProject project : projects.values()) {
-            // only for projects with sources
-            if(project.getBaseFolder() != null) {
-                fireInitHandlers(project);
+            // init handlers aren't thread-safe, e.g. they update the java model or maven workspace,
+            // so they are fired on this thread, parent projects go first since they may change their sub-projects
+            final List<RegisteredProject> withSources = new ArrayList<>();
+            for (RegisteredProject project : projects.values()) {
+                // only for projects with sources
+                if (project.getBaseFolder() != null) {
+                    withSources.add(project);
+                }
             }
+            fireInitHandlers(withSources);
+        } finally {
+            executor.shutdownNow();
+        }
+        LOG.info("Initialized {} projects in {} ms", projectConfigs.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Returns durations in milliseconds of the project registrations made on start and of the project init handler calls
+     * for the project with the given path and its modules, or for all the projects if path is root.
+     * Durations of registrations are mapped to project paths,
+     * durations of init handler calls are mapped to {@code <project path>@<project type>}.
+     */
+    public Map<String, Long> getInitTimings(String path) {
+        final String projectPath = absolutizePath(path);
+        if ("/".equals(projectPath)) {
+            return new TreeMap<>(initTimings);
+        }
+        final Map<String, Long> timings = new TreeMap<>();
+        initTimings.forEach((key, duration) -> {
+            if (key.equals(projectPath) || key.startsWith(projectPath + '/') || key.startsWith(projectPath + '@')) {
+                timings.put(key, duration);
+            }
+        });
+        return timings;
+    }
+
+
+    @PreDestroy
+    void stop() {
+        eventService.unsubscribe(rootFoldersWatcher);
+    }
+
+    private void registerProject(ProjectConfig projectConfig) throws ServerException, ConflictException, NotFoundException {
+        final long start = System.currentTimeMillis();
+        final String path = projectConfig.getPath();
+        final VirtualFile vf = vfs.getRoot().getChild(Path.of(path));
+        final FolderEntry projectFolder = ((vf == null) ? null : new FolderEntry(vf, this));
+        // need that to make "problematic" project and not break the workspace
+        try {
+            putProject(projectConfig, projectFolder, false, false);
+        } catch (ProjectTypeConstraintException e) {
+            //in case bad config
+            putProblematicProject(path, projectFolder, new Problem(12, e.getMessage()));
+        } catch (NotFoundException e) {
+            //in case project type not found
+            putProblematicProject(path, projectFolder, new Problem(13, e.getMessage()));
+        } catch (ValueStorageException e) {
+            //in case can't calculate Attributes
+            putProblematicProject(path, projectFolder, new Problem(14, e.getMessage()));
         }
+        initTimings.put(absolutizePath(path), System.currentTimeMillis() - start);
     }
 
+    private void putProblematicProject(String path, FolderEntry folder, Problem problem) throws ServerException,
+                                                                                              ConflictException,
+                                                                                              NotFoundException {
+        final RegisteredProject project = new RegisteredProject(folder, false, false, projectTypeRegistry, problem);
+        synchronized (this) {
+            projects.put(path, project);
+        }
+    }
+
+    /** Fires init handlers for the given projects one by one, parent projects go first. */
+    private void fireInitHandlers(List<RegisteredProject> projects) throws ForbiddenException,
+                                                                      ConflictException,
+                                                                      NotFoundException,
+                                                                      ServerException {
+        projects.sort(Comparator.comparingInt(project -> Path.of(project.getPath()).elements().length));
+        for (RegisteredProject project : projects) {
+            fireInitHandlers(project);
+        }
+    }
+
+    /** Waits for the tasks and rethrows the first failure. */
+    private static void awaitAll(List<Future<?>> tasks) throws ForbiddenException,
+                                                               ConflictException,
+                                                               NotFoundException,
+                                                               ServerException {
+        for (Future<?> task : tasks) {
+            try {
+                task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServerException("Interrupted while initializing projects");
+            } catch (ExecutionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof ForbiddenException) {
+                    throw (ForbiddenException)cause;
+                } else if (cause instanceof ConflictException) {
+                    throw (ConflictException)cause;
+                } else if (cause instanceof NotFoundException) {
+                    throw (NotFoundException)cause;
+                } else if (cause instanceof ServerException) {
+                    throw (ServerException)cause;
+                }
+                throw new ServerException(cause.getLocalizedMessage(), cause);
+            }
+        }
+    }
 
     /**
      * @return all the registered projects
@@ -119,9 +235,7 @@ public class ProjectRegistry {
     public List<RegisteredProject> getProjects() {
         checkInitializationState();
 
-        initUnconfiguredFolders();
-
-        return new ArrayList<>(projects.values());
+        return projects.values();
     }
 
     /**
@@ -132,9 +246,13 @@ public class ProjectRegistry {
     public RegisteredProject getProject(String projectPath) {
         checkInitializationState();
 
-        initUnconfiguredFolders();
-
-        return projects.get(absolutizePath(projectPath));
+        final String path = absolutizePath(projectPath);
+        final RegisteredProject project = projects.get(path);
+        if (project == null && Path.of(path).elements().length == 1) {
+            // top level folder may be created right before the file watcher reports about it
+            return initUnconfiguredFolder(path);
+        }
+        return project;
     }
 
     /**
@@ -145,14 +263,7 @@ public class ProjectRegistry {
     public List<String> getProjects(String parentPath) {
         checkInitializationState();
 
-        initUnconfiguredFolders();
-
-        final Path root = Path.of(absolutizePath(parentPath));
-
-        return projects.keySet()
-                       .stream()
-                       .filter(key -> Path.of(key).isChild(root))
-                       .collect(Collectors.toList());
+        return projects.getChildPaths(absolutizePath(parentPath));
     }
 
     /**
@@ -164,26 +275,19 @@ public class ProjectRegistry {
         checkInitializationState();
 
         // return this if a project
-        if (getProject(path) != null) {
-            return getProject(path);
+        final RegisteredProject project = getProject(path);
+        if (project != null) {
+            return project;
         }
 
-        // otherwise try to find matched parent
-        Path test;
-        while ((test = Path.of(path).getParent()) != null) {
-            final RegisteredProject project = projects.get(test.toString());
-            if (project != null) {
-                return project;
-            }
-
-            path = test.toString();
-        }
-
-        return null;
+        // otherwise find the closest parent
+        return projects.getClosest(absolutizePath(path));
     }
 
     /**
      * Creates RegisteredProject and caches it.
+     * Attributes of the project are computed outside of the registry lock, only registration itself is guarded,
+     * so the projects may be created concurrently.
      *
      * @param config
      *         project config
@@ -206,7 +310,9 @@ public class ProjectRegistry {
                                                           NotFoundException {
 
         final RegisteredProject project = new RegisteredProject(folder, config, updated, detected, this.projectTypeRegistry);
-        projects.put(project.getPath(), project);
+        synchronized (this) {
+            projects.put(project.getPath(), project);
+        }
 
         return project;
     }
@@ -220,12 +326,12 @@ public class ProjectRegistry {
      *         from where to remove
      * @throws ServerException
      */
-    void removeProjects(String path) throws ServerException {
+    synchronized void removeProjects(String path) throws ServerException {
 
         List<RegisteredProject> removed = new ArrayList<>();
         Optional.ofNullable(projects.remove(path)).ifPresent(removed::add);
-        getProjects(path).forEach(p -> Optional.ofNullable(projects.remove(p))
-                                               .ifPresent(removed::add));
+        projects.getChildPaths(path).forEach(p -> Optional.ofNullable(projects.remove(p))
+                                                          .ifPresent(removed::add));
 
         removed.forEach(registeredProject -> eventService.publish(new ProjectDeletedEvent(registeredProject.getPath())));
     }
@@ -375,17 +481,59 @@ public class ProjectRegistry {
         return (path.startsWith("/")) ? path : "/".concat(path);
     }
 
-    /** Try to initialize projects from unconfigured folders on root. */
+    /**
+     * Try to initialize projects from unconfigured folders on root.
+     * After initialization the folders are tracked with {@link #onRootFolderEvent(VfsWatchEvent)}.
+     */
     private void initUnconfiguredFolders() {
         try {
             for (FolderEntry folder : root.getChildFolders()) {
-                if (!projects.containsKey(folder.getVirtualFile().getPath().toString())) {
-                    putProject(null, folder, true, false);
-                }
+                initUnconfiguredFolder(folder.getVirtualFile().getPath().toString());
             }
+        } catch (ServerException e) {
+            LOG.warn(e.getLocalizedMessage());
+        }
+    }
+
+    /** Initializes project from unconfigured folder on root if such folder exists and is not registered yet. */
+    private synchronized RegisteredProject initUnconfiguredFolder(String path) {
+        final RegisteredProject registered = projects.get(path);
+        if (registered != null) {
+            return registered;
+        }
+        try {
+            final FolderEntry folder = root.getChildFolder(path);
+            return folder == null ? null : putProject(null, folder, true, false);
         } catch (ServerException | ConflictException | NotFoundException e) {
             LOG.warn(e.getLocalizedMessage());
+            return null;
+        }
+    }
+
+    /** Keeps projects of unconfigured folders on root in sync with file system. */
+    private void onRootFolderEvent(VfsWatchEvent event) {
+        final String path = absolutizePath(event.getPath());
+        if (event.isFile() || Path.of(path).elements().length != 1) {
+            return;
         }
+        if (event.getType() == FileWatcherEventType.CREATED) {
+            initUnconfiguredFolder(path);
+        } else if (event.getType() == FileWatcherEventType.DELETED) {
+            synchronized (this) {
+                final RegisteredProject project = projects.get(path);
+                if (project != null && isUnconfigured(project)) {
+                    try {
+                        removeProjects(path);
+                    } catch (ServerException e) {
+                        LOG.warn(e.getLocalizedMessage());
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean isUnconfigured(RegisteredProject project) {
+        return project.getProblems().stream().anyMatch(problem -> problem.code == RegisteredProject.NO_PROJECT_CONFIGURED_PROBLEM);
     }
 
     /**
@@ -417,7 +565,9 @@ public class ProjectRegistry {
                                                                  ServerException {
         ProjectInitHandler projectInitHandler = handlers.getProjectInitHandler(type);
         if (projectInitHandler != null) {
+            final long start = System.currentTimeMillis();
             projectInitHandler.onProjectInitialized(this, project.getBaseFolder());
+            initTimings.put(project.getPath() + '@' + type, System.currentTimeMillis() - start);
         }
     }
 
@@ -141,6 +141,16 @@ public class ProjectService extends Service {
                              .collect(Collectors.toList());
     }
 
+    @GET
+    @Path("/init-timings/{path:.*}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @ApiOperation(value = "Gets durations in milliseconds of project registrations and of project init handler calls")
+    @ApiResponses({@ApiResponse(code = 200, message = "OK")})
+    public Map<String, Long> getInitTimings(@ApiParam("Path to the project, all the projects are included if it is empty")
+                                            @PathParam("path") String path) {
+        return projectManager.getInitTimings(path);
+    }
+
     @GET
     @Path("/{path:.*}")
     @Produces(MediaType.APPLICATION_JSON)
@@ -29,7 +29,10 @@ import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.GenericEntity;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -59,11 +62,13 @@ public class ProjectTypeService extends Service {
             responseContainer = "List",
             response = ProjectTypeDto.class)
     @ApiResponses(@ApiResponse(code = 200, message = "Project types successfully fetched"))
-    public List<ProjectTypeDto> getProjectTypes() {
-        return registry.getProjectTypes()
-                       .stream()
-                       .map(DtoConverter::asDto)
-                       .collect(Collectors.toList());
+    public Response getProjectTypes() {
+        final EntityTag tag = checkNotModified(registry.getVersion());
+        final List<ProjectTypeDto> types = registry.getProjectTypes()
+                                                   .stream()
+                                                   .map(DtoConverter::asDto)
+                                                   .collect(Collectors.toList());
+        return Response.ok(new GenericEntity<List<ProjectTypeDto>>(types) {}).tag(tag).build();
     }
 
     @GET
@@ -72,7 +77,8 @@ public class ProjectTypeService extends Service {
     @ApiOperation("Get the project type by the id")
     @ApiResponses({@ApiResponse(code = 200, message = "The response contains requested project type entity"),
                    @ApiResponse(code = 404, message = "The project type with such id doesn't exist")})
-    public ProjectTypeDto getProjectType(@ApiParam("Project type id") @PathParam("id") String id) throws NotFoundException {
-        return asDto(registry.getProjectType(id));
+    public Response getProjectType(@ApiParam("Project type id") @PathParam("id") String id) throws NotFoundException {
+        final EntityTag tag = checkNotModified(registry.getVersion());
+        return Response.ok(asDto(registry.getProjectType(id))).tag(tag).build();
     }
 }
@@ -41,6 +41,9 @@ import java.util.stream.Collectors;
  */
 public class RegisteredProject implements ProjectConfig {
 
+    /** Code of the problem of projects which are created from folders on root and aren't configured in workspace. */
+    static final int NO_PROJECT_CONFIGURED_PROBLEM = 11;
+
     private final List<Problem>      problems;
     private final Map<String, Value> attributes;
 
@@ -85,7 +88,7 @@ public class RegisteredProject implements ProjectConfig {
         }
 
         if (config == null) {
-            problems.add(new Problem(11, "No project configured in workspace " + this.config.getPath()));
+            problems.add(new Problem(NO_PROJECT_CONFIGURED_PROBLEM, "No project configured in workspace " + this.config.getPath()));
         }
 
         // 1. init project types
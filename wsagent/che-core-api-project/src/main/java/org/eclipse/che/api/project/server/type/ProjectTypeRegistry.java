@@ -44,6 +44,9 @@ public class ProjectTypeRegistry {
 
     private final Map<String, ProjectTypeDef> projectTypes;
     private final Map<String, ProjectTypeDef> validatedData;
+    private final long                        creationTime;
+
+    private volatile long modificationCount;
 
     /**
      * Initialises Set of Project Type definitions
@@ -54,6 +57,7 @@ public class ProjectTypeRegistry {
     public ProjectTypeRegistry(Set<ProjectTypeDef> types) {
         projectTypes = new HashMap<>();
         validatedData = new HashMap<>();
+        creationTime = System.currentTimeMillis();
 
         validate(types);
 
@@ -80,6 +84,14 @@ public class ProjectTypeRegistry {
         }
     }
 
+    /**
+     * Returns version of the registry which changes each time a project type is registered.
+     * It may be used as entity tag of responses which contain project types.
+     */
+    public String getVersion() {
+        return creationTime + "-" + modificationCount;
+    }
+
     /**
      * @param id
      * @return project type by id
@@ -224,6 +236,7 @@ public class ProjectTypeRegistry {
         }
 
         this.projectTypes.put(type.getId(), type);
+        modificationCount++;
 
         LOG.debug("Project Type registered: " + type.getId());
     }
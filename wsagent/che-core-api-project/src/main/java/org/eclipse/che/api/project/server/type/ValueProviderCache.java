@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server.type;
+
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.core.notification.EventSubscriber;
+import org.eclipse.che.api.project.server.FileEntry;
+import org.eclipse.che.api.project.shared.dto.event.VfsWatchEvent;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Memoizes data which {@link ValueProvider}s compute from project files, e.g. attributes read from pom.xml,
+ * so resolving of several attributes of the same project doesn't read and parse the same file again.
+ * <p/>
+ * Cached data is bound to modification date and length of the source file, so it is recomputed as soon as
+ * the file is changed. Data of the files which are reported as changed by the file watcher is dropped right away.
+ */
+@Singleton
+public class ValueProviderCache implements EventSubscriber<VfsWatchEvent> {
+
+    /** Computes data from the source file. */
+    public interface Loader<T> {
+        T load(FileEntry file) throws ValueStorageException;
+    }
+
+    private final EventService                                        eventService;
+    private final ConcurrentMap<String, ConcurrentMap<String, Entry>> entries;
+
+    @Inject
+    public ValueProviderCache(EventService eventService) {
+        this.eventService = eventService;
+        this.entries = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns data which was computed from the given file with the given key,
+     * computes it with {@code loader} if there is no such data or the file was changed since it was computed.
+     *
+     * @param key
+     *         identifies data computed from the file, it should be unique among value provider factories
+     * @param file
+     *         source file
+     * @param loader
+     *         computes data from the file
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, FileEntry file, Loader<T> loader) throws ValueStorageException {
+        final long modified = file.getModified();
+        final long length;
+        try {
+            length = file.getVirtualFile().getLength();
+        } catch (ServerException e) {
+            throw new ValueStorageException(e.getMessage());
+        }
+        final ConcurrentMap<String, Entry> fileEntries = entries.computeIfAbsent(file.getPath().toString(),
+                                                                                 path -> new ConcurrentHashMap<>());
+        Entry entry = fileEntries.get(key);
+        if (entry == null || entry.modified != modified || entry.length != length) {
+            entry = new Entry(modified, length, loader.load(file));
+            fileEntries.put(key, entry);
+        }
+        return (T)entry.value;
+    }
+
+    /** Drops data computed from the file with the given path or from any file under it if the path denotes a folder. */
+    public void invalidate(String path) {
+        final String prefix = path.endsWith("/") ? path : path + '/';
+        entries.keySet().removeIf(filePath -> filePath.equals(path) || filePath.startsWith(prefix));
+    }
+
+    @Override
+    public void onEvent(VfsWatchEvent event) {
+        invalidate(event.getPath());
+    }
+
+    @PostConstruct
+    private void subscribe() {
+        eventService.subscribe(this);
+    }
+
+    @PreDestroy
+    private void unsubscribe() {
+        eventService.unsubscribe(this);
+    }
+
+    private static class Entry {
+        final long   modified;
+        final long   length;
+        final Object value;
+
+        Entry(long modified, long length, Object value) {
+            this.modified = modified;
+            this.length = length;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.HashSet;
+
+import static java.util.Arrays.asList;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link PathTrie}.
+ */
+public class PathTrieTest {
+
+    private PathTrie<String> trie;
+
+    @BeforeMethod
+    public void setUp() {
+        trie = new PathTrie<>();
+        trie.put("/a", "a");
+        trie.put("/a/b/c", "c");
+        trie.put("/d", "d");
+    }
+
+    @Test
+    public void shouldReturnValuesUnderPath() {
+        assertEquals(trie.getChildPaths("/a"), asList("/a/b/c"));
+        assertEquals(new HashSet<>(trie.getChildPaths("/")), new HashSet<>(asList("/a", "/a/b/c", "/d")));
+        assertTrue(trie.getChildPaths("/x").isEmpty());
+    }
+
+    @Test
+    public void shouldReturnClosestValueAbovePath() {
+        assertEquals(trie.getClosest("/a/b/c/file"), "c");
+        assertEquals(trie.getClosest("/a/b"), "a");
+        assertNull(trie.getClosest("/x/y"));
+        assertNull(trie.get("/a/b"));
+    }
+
+    @Test
+    public void shouldRemoveValue() {
+        assertEquals(trie.remove("/a/b/c"), "c");
+
+        assertTrue(trie.getChildPaths("/a").isEmpty());
+        assertEquals(new HashSet<>(trie.values()), new HashSet<>(asList("a", "d")));
+    }
+}
@@ -19,11 +19,15 @@ import org.eclipse.che.api.core.model.project.SourceStorage;
 import org.eclipse.che.api.core.notification.EventSubscriber;
 import org.eclipse.che.api.core.util.LineConsumerFactory;
 import org.eclipse.che.api.core.util.ValueHolder;
+import org.eclipse.che.api.project.server.handlers.ProjectHandlerRegistry;
+import org.eclipse.che.api.project.server.handlers.ProjectInitHandler;
 import org.eclipse.che.api.project.server.importer.ProjectImporter;
 import org.eclipse.che.api.project.server.type.AttributeValue;
 import org.eclipse.che.api.project.server.type.BaseProjectType;
 import org.eclipse.che.api.project.server.type.ProjectTypeConstraintException;
 import org.eclipse.che.api.project.server.type.Variable;
+import org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType;
+import org.eclipse.che.api.project.shared.dto.event.VfsWatchEvent;
 import org.eclipse.che.api.vfs.Path;
 import org.eclipse.che.api.workspace.shared.dto.ProjectConfigDto;
 import org.eclipse.che.api.workspace.shared.dto.SourceStorageDto;
@@ -33,11 +37,15 @@ import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -404,6 +412,97 @@ public class ProjectManagerWriteTest extends WsAgentTestBase {
 
     }
 
+    @Test
+    public void testRemoveUnconfiguredFolderOnWatcherEvent() throws Exception {
+
+        assertTrue(new File(root, "unconfigured").mkdir());
+        assertNotNull(projectRegistry.getProject("/unconfigured"));
+
+        String[] deletedPath = new String[1];
+        eventService.subscribe(new EventSubscriber<ProjectDeletedEvent>() {
+            @Override
+            public void onEvent(ProjectDeletedEvent event) {deletedPath[0] = event.getProjectPath();}
+        });
+        assertTrue(new File(root, "unconfigured").delete());
+        eventService.publish(DtoFactory.newDto(VfsWatchEvent.class)
+                                       .withPath("/unconfigured")
+                                       .withType(FileWatcherEventType.DELETED)
+                                       .withFile(false));
+
+        assertEquals("/unconfigured", deletedPath[0]);
+        assertNull(projectRegistry.getProject("/unconfigured"));
+
+    }
+
+    @Test
+    public void testWatcherEventDoesNotOverwriteConfiguredProject() throws Exception {
+
+        ProjectConfig pc = new NewProjectConfig("/testWatchedProject", BaseProjectType.ID, null, "name", "descr", null, null);
+        pm.createProject(pc, null);
+
+        eventService.publish(DtoFactory.newDto(VfsWatchEvent.class)
+                                       .withPath("/testWatchedProject")
+                                       .withType(FileWatcherEventType.CREATED)
+                                       .withFile(false));
+
+        assertEquals(BaseProjectType.ID, projectRegistry.getProject("/testWatchedProject").getType());
+        assertFalse(projectRegistry.getProject("/testWatchedProject")
+                                   .getProblems()
+                                   .stream()
+                                   .anyMatch(problem -> problem.code == RegisteredProject.NO_PROJECT_CONFIGURED_PROBLEM));
+
+    }
+
+    @Test
+    public void testInitProjectsConcurrentlyAndFireInitHandlersOneByOne() throws Exception {
+
+        List<ProjectConfig> configs = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            assertTrue(new File(root, "init" + i + "/module").mkdirs());
+            configs.add(new NewProjectConfig("/init" + i, "primary1", null, "init" + i, "descr", null, null));
+            configs.add(new NewProjectConfig("/init" + i + "/module", "primary1", null, "module", "descr", null, null));
+        }
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<String> initialized = new CopyOnWriteArrayList<>();
+        ProjectHandlerRegistry handlers = new ProjectHandlerRegistry(new HashSet<>());
+        handlers.register(new ProjectInitHandler() {
+            @Override
+            public void onProjectInitialized(ProjectRegistry registry, FolderEntry projectFolder) {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                initialized.add(projectFolder.getPath().toString());
+                running.decrementAndGet();
+            }
+
+            @Override
+            public String getProjectType() {
+                return "primary1";
+            }
+        });
+
+        ProjectRegistry registry = new ProjectRegistry(new TestWorkspaceHolder(configs), vfsProvider, projectTypeRegistry,
+                                                       handlers, eventService);
+        registry.initProjects();
+
+        assertEquals(1, maxRunning.get());
+        assertEquals(20, initialized.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("primary1", registry.getProject("/init" + i).getType());
+            assertEquals("primary1", registry.getProject("/init" + i + "/module").getType());
+            // parent projects are initialized before their modules
+            assertTrue(initialized.indexOf("/init" + i) < initialized.indexOf("/init" + i + "/module"));
+        }
+
+        Map<String, Long> timings = registry.getInitTimings("/init0");
+        assertEquals(4, timings.size());
+        assertTrue(timings.containsKey("/init0"));
+        assertTrue(timings.containsKey("/init0/module"));
+        assertTrue(timings.containsKey("/init0@primary1"));
+        assertTrue(timings.containsKey("/init0/module@primary1"));
+        assertEquals(40, registry.getInitTimings("/").size());
+
+    }
 
     @Test
     public void testImportProject() throws Exception {
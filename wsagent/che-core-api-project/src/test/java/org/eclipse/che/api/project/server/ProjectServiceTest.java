@@ -106,6 +106,7 @@ import java.util.stream.IntStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
+import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static javax.ws.rs.HttpMethod.DELETE;
 import static javax.ws.rs.HttpMethod.GET;
@@ -356,6 +357,36 @@ public class ProjectServiceTest {
         validateProjectLinks(result);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGetInitTimingsOfProject() throws Exception {
+        vfsProvider.getVirtualFileSystem().getRoot().createFolder("not_project");
+        projectRegistry.initProjects();
+
+        ContainerResponse response = launcher.service(GET, "http://localhost:8080/api/project/init-timings/my_project",
+                                                      "http://localhost:8080/api", null, null, null);
+
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        Map<String, Long> timings = (Map<String, Long>)response.getEntity();
+        assertEquals(timings.keySet(), singleton("/my_project"));
+        assertTrue(timings.get("/my_project") >= 0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGetInitTimingsOfAllProjects() throws Exception {
+        addMockedProjectConfigDto(ptRegistry.getProjectType("my_project_type"), "other_project");
+        projectRegistry.initProjects();
+
+        ContainerResponse response = launcher.service(GET, "http://localhost:8080/api/project/init-timings/",
+                                                      "http://localhost:8080/api", null, null, null);
+
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        Map<String, Long> timings = (Map<String, Long>)response.getEntity();
+        assertTrue(timings.containsKey("/my_project"));
+        assertTrue(timings.containsKey("/other_project"));
+    }
+
     @Test
     public void testGetNotValidProject() throws Exception {
         //MountPoint mountPoint = pm.getProjectsRoot(workspace).getVirtualFile().getMountPoint();
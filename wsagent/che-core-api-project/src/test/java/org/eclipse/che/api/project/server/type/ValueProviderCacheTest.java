@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server.type;
+
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.project.server.FileEntry;
+import org.eclipse.che.api.project.shared.dto.event.VfsWatchEvent;
+import org.eclipse.che.api.vfs.Path;
+import org.eclipse.che.api.vfs.VirtualFile;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests for {@link ValueProviderCache}.
+ */
+public class ValueProviderCacheTest {
+
+    private ValueProviderCache cache;
+    private FileEntry          file;
+    private VirtualFile        virtualFile;
+    private AtomicInteger      loads;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        cache = new ValueProviderCache(new EventService());
+        file = mock(FileEntry.class);
+        virtualFile = mock(VirtualFile.class);
+        loads = new AtomicInteger();
+        when(file.getPath()).thenReturn(Path.of("/project/pom.xml"));
+        when(file.getVirtualFile()).thenReturn(virtualFile);
+        when(file.getModified()).thenReturn(1L);
+        when(virtualFile.getLength()).thenReturn(10L);
+    }
+
+    @Test
+    public void shouldComputeValueOnceWhileFileIsNotModified() throws Exception {
+        assertEquals(get(), "value1");
+        assertEquals(get(), "value1");
+        assertEquals(loads.get(), 1);
+    }
+
+    @Test
+    public void shouldRecomputeValueWhenFileIsModified() throws Exception {
+        get();
+        when(file.getModified()).thenReturn(2L);
+
+        assertEquals(get(), "value2");
+    }
+
+    @Test
+    public void shouldRecomputeValueWhenFileLengthIsChanged() throws Exception {
+        get();
+        when(virtualFile.getLength()).thenReturn(11L);
+
+        assertEquals(get(), "value2");
+    }
+
+    @Test
+    public void shouldDropValuesOfFolderOnWatcherEvent() throws Exception {
+        get();
+        final VfsWatchEvent event = mock(VfsWatchEvent.class);
+        when(event.getPath()).thenReturn("/project");
+
+        cache.onEvent(event);
+
+        assertEquals(get(), "value2");
+    }
+
+    private String get() throws Exception {
+        return cache.get("key", file, f -> "value" + loads.incrementAndGet());
+    }
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che;
+
+import org.eclipse.che.api.core.ApiException;
+import org.eclipse.che.api.core.rest.DefaultHttpJsonRequestFactory;
+import org.eclipse.che.api.core.rest.HttpJsonRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.core.UriBuilder;
+import java.io.IOException;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+
+/**
+ * Notifies workspace master that ws agent web application is started,
+ * so master doesn't need to wait for the next scheduled ping to find out that agent is ready.
+ *
+ * <p>Notification is sent asynchronously to not delay the application start,
+ * master verifies agent state with ping after the notification anyway.
+ */
+public class WsAgentReadinessNotifier implements ServletContextListener {
+    private static final Logger LOG = LoggerFactory.getLogger(WsAgentReadinessNotifier.class);
+
+    private static final int ATTEMPTS         = 3;
+    private static final int ATTEMPT_DELAY_MS = 1000;
+    private static final int TIMEOUT_MS       = 2000;
+
+    @Override
+    public void contextInitialized(ServletContextEvent sce) {
+        final String apiEndpoint = new ApiEndpointProvider().get();
+        final String workspaceId = WorkspaceIdProvider.getWorkspaceId();
+        if (isNullOrEmpty(apiEndpoint) || isNullOrEmpty(workspaceId)) {
+            LOG.warn("Unable to notify workspace master about ws agent start. API endpoint or workspace ID is not set");
+            return;
+        }
+        final String url = UriBuilder.fromUri(apiEndpoint)
+                                     .path("/machine/ws-agent/{workspaceId}/ready")
+                                     .build(workspaceId)
+                                     .toString();
+        final Thread notifier = new Thread(() -> notifyMaster(url), "WsAgentReadinessNotifier");
+        notifier.setDaemon(true);
+        notifier.start();
+    }
+
+    @Override
+    public void contextDestroyed(ServletContextEvent sce) {
+    }
+
+    private void notifyMaster(String url) {
+        final String token = new UserTokenProvider().get();
+        for (int attempt = 1; attempt <= ATTEMPTS; attempt++) {
+            try {
+                final HttpJsonRequest request = new DefaultHttpJsonRequestFactory().fromUrl(url)
+                                                                                  .setMethod(HttpMethod.POST)
+                                                                                  .setTimeout(TIMEOUT_MS);
+                if (!token.isEmpty()) {
+                    request.setAuthorizationHeader(token);
+                }
+                request.request();
+                return;
+            } catch (ApiException | IOException e) {
+                LOG.warn("Unable to notify workspace master about ws agent start. Attempt {} of {}. {}",
+                         attempt,
+                         ATTEMPTS,
+                         e.getLocalizedMessage());
+            }
+            try {
+                Thread.sleep(ATTEMPT_DELAY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -40,6 +40,8 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -66,6 +68,19 @@ public class FactoryBuilder {
         LEGACY_CONVERTERS = Collections.unmodifiableList(l);
     }
 
+    /** Validation plans of factory DTOs, keyed by the version which is checked against the plan. */
+    static final Map<Version, ValidationPlan>  VERSION_PLANS;
+    /** Validation plans of DTOs nested into factory. */
+    static final Map<Class<?>, ValidationPlan> DTO_PLANS;
+
+    static {
+        final Map<Class<?>, ValidationPlan> dtoPlans = new HashMap<>();
+        final Map<Version, ValidationPlan> versionPlans = new EnumMap<>(Version.class);
+        versionPlans.put(Version.V4_0, compile(Factory.class, FactoryV4_0.class, dtoPlans));
+        VERSION_PLANS = Collections.unmodifiableMap(versionPlans);
+        DTO_PLANS = Collections.unmodifiableMap(dtoPlans);
+    }
+
     private final SourceStorageParametersValidator sourceStorageParametersValidator;
 
     @Inject
@@ -137,15 +152,11 @@ public class FactoryBuilder {
             throw new ConflictException(FactoryConstants.INVALID_VERSION_MESSAGE);
         }
 
-        Class usedFactoryVersionMethodProvider;
-        switch (v) {
-            case V4_0:
-                usedFactoryVersionMethodProvider = FactoryV4_0.class;
-                break;
-            default:
-                throw new ConflictException(FactoryConstants.INVALID_VERSION_MESSAGE);
+        final ValidationPlan plan = VERSION_PLANS.get(v);
+        if (plan == null) {
+            throw new ConflictException(FactoryConstants.INVALID_VERSION_MESSAGE);
         }
-        validateCompatibility(factory, null, Factory.class, usedFactoryVersionMethodProvider, v, "");
+        validateCompatibility(factory, null, plan, v, "");
     }
 
     /**
@@ -170,13 +181,10 @@ public class FactoryBuilder {
      *
      * @param object
      *         - object to validate factory parameters
-     * @param object
+     * @param parent
      *         - parent object
-     * @param methodsProvider
-     *         - class that provides methods with {@link org.eclipse.che.api.core.factory.FactoryParameter}
-     *         annotations
-     * @param allowedMethodsProvider
-     *         - class that provides allowed methods
+     * @param plan
+     *         - precompiled parameters of the object type
      * @param version
      *         - version of factory
      * @param parentName
@@ -185,39 +193,26 @@ public class FactoryBuilder {
      */
     void validateCompatibility(Object object,
                                Object parent,
-                               Class methodsProvider,
-                               Class allowedMethodsProvider,
+                               ValidationPlan plan,
                                Version version,
                                String parentName) throws ConflictException {
         // validate source
-        if (SourceStorageDto.class.equals(methodsProvider) && !hasSubprojectInPath(parent)) {
+        if (SourceStorageDto.class.equals(plan.type) && !hasSubprojectInPath(parent)) {
             sourceStorageParametersValidator.validate((SourceStorage)object, version);
         }
 
-        // get all methods recursively
-        for (Method method : methodsProvider.getMethods()) {
-            FactoryParameter factoryParameter = method.getAnnotation(FactoryParameter.class);
-            // is it factory parameter
-
-            if (factoryParameter == null) {
-                continue;
-            }
-            String fullName = (parentName.isEmpty() ? "" : (parentName + ".")) + CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_CAMEL,
-                                                                                                           method.getName()
-                                                                                                                 .substring(3)
-                                                                                                                 .toLowerCase());
+        for (ParameterPlan parameter : plan.parameters) {
+            final FactoryParameter factoryParameter = parameter.annotation;
             // check that field is set
             Object parameterValue;
             try {
-                parameterValue = method.invoke(object);
+                parameterValue = parameter.method.invoke(object);
             } catch (IllegalAccessException | InvocationTargetException | IllegalArgumentException e) {
                 // should never happen
                 LOG.error(e.getLocalizedMessage(), e);
                 throw new ConflictException(FactoryConstants.INVALID_PARAMETER_MESSAGE);
             }
 
-
-
             // if value is null or empty collection or default value for primitives
             if (ValueHelper.isEmpty(parameterValue)) {
                 // field must not be a mandatory, unless it's ignored or deprecated or doesn't suit to the version
@@ -226,61 +221,142 @@ public class FactoryBuilder {
                                     .compareTo(version) > 0 &&
                     factoryParameter.ignoredSince()
                                     .compareTo(version) > 0 &&
-                    method.getDeclaringClass()
-                          .isAssignableFrom(allowedMethodsProvider)) {
-                    throw new ConflictException(String.format(FactoryConstants.MISSING_MANDATORY_MESSAGE, method.getName()));
+                    parameter.allowed) {
+                    throw new ConflictException(String.format(FactoryConstants.MISSING_MANDATORY_MESSAGE, parameter.method.getName()));
                 }
-            } else if (!method.getDeclaringClass()
-                              .isAssignableFrom(allowedMethodsProvider)) {
+                continue;
+            }
+            final String fullName = parentName.isEmpty() ? parameter.name : parentName + '.' + parameter.name;
+            if (!parameter.allowed) {
                 throw new ConflictException(String.format(FactoryConstants.PARAMETRIZED_INVALID_PARAMETER_MESSAGE, fullName, version));
-            } else {
-                // is parameter deprecated
-                if (factoryParameter.deprecatedSince().compareTo(version) <= 0 || factoryParameter.setByServer()) {
-                    throw new ConflictException(
-                            String.format(FactoryConstants.PARAMETRIZED_INVALID_PARAMETER_MESSAGE, fullName, version));
-                }
+            }
+            // is parameter deprecated
+            if (factoryParameter.deprecatedSince().compareTo(version) <= 0 || factoryParameter.setByServer()) {
+                throw new ConflictException(String.format(FactoryConstants.PARAMETRIZED_INVALID_PARAMETER_MESSAGE, fullName, version));
+            }
 
-                // use recursion if parameter is DTO object
-                if (method.getReturnType().isAnnotationPresent(DTO.class)) {
+            switch (parameter.kind) {
+                case DTO:
                     // validate inner objects such Git ot ProjectAttributes
-                    validateCompatibility(parameterValue, object, method.getReturnType(), method.getReturnType(), version, fullName);
-                } else if (Map.class.isAssignableFrom(method.getReturnType())) {
-                    Type tp = ((ParameterizedType)method.getGenericReturnType()).getActualTypeArguments()[1];
-
-                    Class secMapParamClass = (tp instanceof ParameterizedType) ? (Class)((ParameterizedType)tp).getRawType() : (Class)tp;
-                    if (!String.class.equals(secMapParamClass) && !List.class.equals(secMapParamClass)) {
-                        if (secMapParamClass.isAnnotationPresent(DTO.class)) {
-                            Map<Object, Object> map = (Map)parameterValue;
-                            for (Map.Entry<Object, Object> entry : map.entrySet()) {
-                                validateCompatibility(entry.getValue(), object, secMapParamClass, secMapParamClass, version,
-                                                      fullName + "." + entry.getKey());
-                            }
-                        } else {
-                            throw new RuntimeException("This type of fields is not supported by factory.");
-                        }
+                    validateCompatibility(parameterValue, object, DTO_PLANS.get(parameter.valueType), version, fullName);
+                    break;
+                case DTO_MAP:
+                    for (Map.Entry<?, ?> entry : ((Map<?, ?>)parameterValue).entrySet()) {
+                        validateCompatibility(entry.getValue(), object, DTO_PLANS.get(parameter.valueType), version,
+                                              fullName + "." + entry.getKey());
                     }
-                } else if (List.class.isAssignableFrom(method.getReturnType())) {
-                    Type tp = ((ParameterizedType)method.getGenericReturnType()).getActualTypeArguments()[0];
-
-                    Class secListParamClass = (tp instanceof ParameterizedType) ? (Class)((ParameterizedType)tp).getRawType() : (Class)tp;
-                    if (!String.class.equals(secListParamClass) && !List.class.equals(secListParamClass)) {
-                        if (secListParamClass.isAnnotationPresent(DTO.class)) {
-                            List<Object> list = (List)parameterValue;
-                            for (Object entry : list) {
-                                validateCompatibility(entry, object, secListParamClass, secListParamClass, version, fullName);
-                            }
-                        } else {
-                            throw new RuntimeException("This type of fields is not supported by factory.");
-                        }
+                    break;
+                case DTO_LIST:
+                    for (Object entry : (List<?>)parameterValue) {
+                        validateCompatibility(entry, object, DTO_PLANS.get(parameter.valueType), version, fullName);
                     }
-                }
+                    break;
+                case UNSUPPORTED:
+                    throw new RuntimeException("This type of fields is not supported by factory.");
             }
         }
     }
 
+    /**
+     * Compiles plans of the given type and of all the DTO types reachable from its factory parameters.
+     *
+     * @param methodsProvider
+     *         - class that provides methods with {@link org.eclipse.che.api.core.factory.FactoryParameter}
+     *         annotations
+     * @param allowedMethodsProvider
+     *         - class that provides allowed methods
+     * @param dtoPlans
+     *         - plans of DTO types, plans of reachable types are added to it
+     * @return - plan of the given type
+     */
+    private static ValidationPlan compile(Class<?> methodsProvider,
+                                          Class<?> allowedMethodsProvider,
+                                          Map<Class<?>, ValidationPlan> dtoPlans) {
+        final List<ParameterPlan> parameters = new ArrayList<>();
+        for (Method method : methodsProvider.getMethods()) {
+            final FactoryParameter factoryParameter = method.getAnnotation(FactoryParameter.class);
+            // is it factory parameter
+            if (factoryParameter == null) {
+                continue;
+            }
+            final ParameterPlan parameter = new ParameterPlan(method,
+                                                              factoryParameter,
+                                                              method.getDeclaringClass().isAssignableFrom(allowedMethodsProvider));
+            parameters.add(parameter);
+            if (parameter.valueType != null && !dtoPlans.containsKey(parameter.valueType)) {
+                // reserve the type first, so recursive DTOs are compiled once
+                dtoPlans.put(parameter.valueType, null);
+                dtoPlans.put(parameter.valueType, compile(parameter.valueType, parameter.valueType, dtoPlans));
+            }
+        }
+        return new ValidationPlan(methodsProvider, parameters);
+    }
+
     private boolean hasSubprojectInPath(Object parent) {
         return parent != null
             && ProjectConfig.class.isAssignableFrom(parent.getClass())
             && ((ProjectConfig)parent).getPath().indexOf('/', 1) != -1;
     }
+
+    /** Factory parameters of the DTO type, computed once, as reflection is too expensive to repeat per validation. */
+    static final class ValidationPlan {
+        final Class<?>            type;
+        final List<ParameterPlan> parameters;
+
+        ValidationPlan(Class<?> type, List<ParameterPlan> parameters) {
+            this.type = type;
+            this.parameters = Collections.unmodifiableList(parameters);
+        }
+    }
+
+    private enum ValueKind {
+        PLAIN, DTO, DTO_MAP, DTO_LIST, UNSUPPORTED
+    }
+
+    private static final class ParameterPlan {
+        final Method           method;
+        final FactoryParameter annotation;
+        final String           name;
+        final boolean          allowed;
+        final ValueKind        kind;
+        /** DTO type of the value, of map values or of list elements, {@code null} if parameter doesn't hold DTOs. */
+        final Class<?>         valueType;
+
+        ParameterPlan(Method method, FactoryParameter annotation, boolean allowed) {
+            this.method = method;
+            this.annotation = annotation;
+            this.allowed = allowed;
+            this.name = CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_CAMEL, method.getName().substring(3).toLowerCase());
+
+            final Class<?> returnType = method.getReturnType();
+            if (returnType.isAnnotationPresent(DTO.class)) {
+                kind = ValueKind.DTO;
+                valueType = returnType;
+            } else if (Map.class.isAssignableFrom(returnType)) {
+                valueType = dtoTypeArgument(method, 1);
+                kind = valueType != null ? ValueKind.DTO_MAP : plainOrUnsupported(method, 1);
+            } else if (List.class.isAssignableFrom(returnType)) {
+                valueType = dtoTypeArgument(method, 0);
+                kind = valueType != null ? ValueKind.DTO_LIST : plainOrUnsupported(method, 0);
+            } else {
+                kind = ValueKind.PLAIN;
+                valueType = null;
+            }
+        }
+
+        private static Class<?> typeArgument(Method method, int index) {
+            final Type tp = ((ParameterizedType)method.getGenericReturnType()).getActualTypeArguments()[index];
+            return (tp instanceof ParameterizedType) ? (Class<?>)((ParameterizedType)tp).getRawType() : (Class<?>)tp;
+        }
+
+        private static Class<?> dtoTypeArgument(Method method, int index) {
+            final Class<?> argument = typeArgument(method, index);
+            return argument.isAnnotationPresent(DTO.class) ? argument : null;
+        }
+
+        private static ValueKind plainOrUnsupported(Method method, int index) {
+            final Class<?> argument = typeArgument(method, index);
+            return String.class.equals(argument) || List.class.equals(argument) ? ValueKind.PLAIN : ValueKind.UNSUPPORTED;
+        }
+    }
 }
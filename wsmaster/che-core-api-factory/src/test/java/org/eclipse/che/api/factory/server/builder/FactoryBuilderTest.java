@@ -53,6 +53,7 @@ import static org.eclipse.che.dto.server.DtoFactory.newDto;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertTrue;
 
 /**
  * Tests for {@link org.eclipse.che.api.factory.shared.dto.Factory}
@@ -90,6 +91,14 @@ public class FactoryBuilderTest {
         verify(sourceProjectParametersValidator).validate(any(), eq(FactoryParameter.Version.V4_0));
     }
 
+    @Test
+    public void shouldCompileValidationPlansOfNestedDtos() throws Exception {
+        assertTrue(FactoryBuilder.VERSION_PLANS.containsKey(FactoryParameter.Version.V4_0));
+        assertTrue(FactoryBuilder.DTO_PLANS.containsKey(WorkspaceConfigDto.class));
+        assertTrue(FactoryBuilder.DTO_PLANS.containsKey(SourceStorageDto.class));
+        assertTrue(FactoryBuilder.DTO_PLANS.containsKey(Action.class));
+    }
+
     @Test(expectedExceptions = ApiException.class)
     public void shouldNotValidateUnparseableFactory() throws ApiException, URISyntaxException {
         factoryBuilder.checkValid(null);
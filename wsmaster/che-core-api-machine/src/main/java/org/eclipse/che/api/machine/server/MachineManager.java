@@ -22,11 +22,13 @@ import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.machine.Command;
 import org.eclipse.che.api.core.model.machine.Machine;
 import org.eclipse.che.api.core.model.machine.MachineConfig;
+import org.eclipse.che.api.core.model.machine.MachineSource;
 import org.eclipse.che.api.core.model.machine.MachineStatus;
 import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.core.notification.EventSubscriber;
 import org.eclipse.che.api.core.util.CompositeLineConsumer;
-import org.eclipse.che.api.core.util.FileLineConsumer;
+import org.eclipse.che.api.core.util.IndexedFileLineConsumer;
+import org.eclipse.che.api.core.util.IndexedLogFile;
 import org.eclipse.che.api.core.util.LineConsumer;
 import org.eclipse.che.api.core.util.WebsocketLineConsumer;
 import org.eclipse.che.api.machine.server.dao.SnapshotDao;
@@ -63,10 +65,9 @@ import javax.inject.Singleton;
 import java.io.File;
 import java.io.IOException;
 import java.io.Reader;
-import java.nio.charset.Charset;
-import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -93,6 +94,8 @@ public class MachineManager {
 
     private final SnapshotDao              snapshotDao;
     private final File                     machineLogsDir;
+    private final long                     machineLogsSegmentSize;
+    private final int                      machineLogsMaxSegments;
     private final MachineInstanceProviders machineInstanceProviders;
     private final MachineRegistry          machineRegistry;
     private final EventService             eventService;
@@ -108,6 +111,8 @@ public class MachineManager {
                           MachineRegistry machineRegistry,
                           MachineInstanceProviders machineInstanceProviders,
                           @Named("machine.logs.location") String machineLogsDir,
+                          @Named("machine.logs.segment_size_mb") int machineLogsSegmentSizeMB,
+                          @Named("machine.logs.max_segments") int machineLogsMaxSegments,
                           EventService eventService,
                           @Named("machine.default_mem_size_mb") int defaultMachineMemorySizeMB,
                           WsAgentLauncher wsAgentLauncher) {
@@ -116,6 +121,9 @@ public class MachineManager {
         this.eventService = eventService;
         this.wsAgentLauncher = wsAgentLauncher;
         this.machineLogsDir = new File(machineLogsDir);
+        this.machineLogsSegmentSize = machineLogsSegmentSizeMB > 0 ? machineLogsSegmentSizeMB * 1024L * 1024L
+                                                                   : IndexedFileLineConsumer.UNLIMITED;
+        this.machineLogsMaxSegments = machineLogsMaxSegments;
         this.machineRegistry = machineRegistry;
         this.defaultMachineMemorySizeMB = defaultMachineMemorySizeMB;
 
@@ -774,15 +782,29 @@ public class MachineManager {
      *         if other error occur
      */
     public Reader getMachineLogReader(String machineId) throws NotFoundException, MachineException {
-        final File machineLogsFile = getMachineLogsFile(machineId);
-        if (machineLogsFile.isFile()) {
-            try {
-                return Files.newBufferedReader(machineLogsFile.toPath(), Charset.defaultCharset());
-            } catch (IOException e) {
-                throw new MachineException(String.format("Unable read log file for machine '%s'. %s", machineId, e.getMessage()));
-            }
+        try {
+            return getMachineLogFile(machineId).openReader();
+        } catch (IOException e) {
+            throw new MachineException(String.format("Unable read log file for machine '%s'. %s", machineId, e.getMessage()));
         }
-        throw new NotFoundException(String.format("Logs for machine '%s' are not available", machineId));
+    }
+
+    /**
+     * Gets indexed log file of machine by specified id.
+     * Log file allows reading of byte ranges and last lines of the log without reading it entirely.
+     *
+     * @param machineId
+     *         machine id whose log file will be returned
+     * @return log file of specified machine
+     * @throws NotFoundException
+     *         if logs of machine with specified id are not available
+     */
+    public IndexedLogFile getMachineLogFile(String machineId) throws NotFoundException {
+        final IndexedLogFile logFile = new IndexedLogFile(getMachineLogsFile(machineId));
+        if (!logFile.exists()) {
+            throw new NotFoundException(String.format("Logs for machine '%s' are not available", machineId));
+        }
+        return logFile;
     }
 
     /**
@@ -799,16 +821,31 @@ public class MachineManager {
      *         if other error occur
      */
     public Reader getProcessLogReader(String machineId, int pid) throws NotFoundException, MachineException {
-        final File processLogsFile = getProcessLogsFile(machineId, pid);
-        if (processLogsFile.isFile()) {
-            try {
-                return Files.newBufferedReader(processLogsFile.toPath(), Charset.defaultCharset());
-            } catch (IOException e) {
-                throw new MachineException(
-                        String.format("Unable read log file for process '%s' of machine '%s'. %s", pid, machineId, e.getMessage()));
-            }
+        try {
+            return getProcessLogFile(machineId, pid).openReader();
+        } catch (IOException e) {
+            throw new MachineException(
+                    String.format("Unable read log file for process '%s' of machine '%s'. %s", pid, machineId, e.getMessage()));
         }
-        throw new NotFoundException(String.format("Logs for process '%s' of machine '%s' are not available", pid, machineId));
+    }
+
+    /**
+     * Gets indexed log file of process of machine by specified id.
+     *
+     * @param machineId
+     *         machine id whose process log file will be returned
+     * @param pid
+     *         process id
+     * @return log file of specified process
+     * @throws NotFoundException
+     *         if logs of specified process are not available
+     */
+    public IndexedLogFile getProcessLogFile(String machineId, int pid) throws NotFoundException {
+        final IndexedLogFile logFile = new IndexedLogFile(getProcessLogsFile(machineId, pid));
+        if (!logFile.exists()) {
+            throw new NotFoundException(String.format("Logs for process '%s' of machine '%s' are not available", pid, machineId));
+        }
+        return logFile;
     }
 
     private SnapshotImpl doSaveMachine(SnapshotImpl snapshot, Instance machine) throws SnapshotException, MachineException {
@@ -828,7 +865,10 @@ public class MachineManager {
                                                                    snapshot.getEnvName(),
                                                                    snapshot.getMachineName());
                 snapshotDao.removeSnapshot(oldSnapshot.getId());
-                machineInstanceProviders.getProvider(oldSnapshot.getType()).removeInstanceSnapshot(oldSnapshot.getMachineSource());
+                // instance may reuse its previous snapshot if its state is not changed
+                if (!isSameSource(oldSnapshot.getMachineSource(), snapshotWithKey.getMachineSource())) {
+                    machineInstanceProviders.getProvider(oldSnapshot.getType()).removeInstanceSnapshot(oldSnapshot.getMachineSource());
+                }
             } catch (NotFoundException ignored) {
                //DO nothing if we has no snapshots or when provider not found
             } catch (SnapshotException se) {
@@ -859,6 +899,14 @@ public class MachineManager {
         return snapshotWithKey;
     }
 
+    private static boolean isSameSource(MachineSource source1, MachineSource source2) {
+        return source1 != null
+               && source2 != null
+               && Objects.equals(source1.getType(), source2.getType())
+               && Objects.equals(source1.getLocation(), source2.getLocation())
+               && Objects.equals(source1.getContent(), source2.getContent());
+    }
+
     private void doDestroy(Instance machine) throws MachineException, NotFoundException {
         LOG.info("Destroying machine [ws = {}: env = {}: machine name = {}: machine id = {}]",
                  machine.getWorkspaceId(),
@@ -897,9 +945,9 @@ public class MachineManager {
         }
     }
 
-    private FileLineConsumer getMachineFileLogger(String machineId) throws MachineException {
+    private IndexedFileLineConsumer getMachineFileLogger(String machineId) throws MachineException {
         try {
-            return new FileLineConsumer(getMachineLogsFile(machineId));
+            return new IndexedFileLineConsumer(getMachineLogsFile(machineId), machineLogsSegmentSize, machineLogsMaxSegments);
         } catch (IOException e) {
             throw new MachineException(String.format("Unable create log file for machine '%s'. %s", machineId, e.getMessage()));
         }
@@ -913,9 +961,9 @@ public class MachineManager {
         return new File(new File(machineLogsDir, machineId), Integer.toString(pid));
     }
 
-    private FileLineConsumer getProcessFileLogger(String machineId, int pid) throws MachineException {
+    private IndexedFileLineConsumer getProcessFileLogger(String machineId, int pid) throws MachineException {
         try {
-            return new FileLineConsumer(getProcessLogsFile(machineId, pid));
+            return new IndexedFileLineConsumer(getProcessLogsFile(machineId, pid), machineLogsSegmentSize, machineLogsMaxSegments);
         } catch (IOException e) {
             throw new MachineException(
                     String.format("Unable create log file for process '%s' of machine '%s'. %s", pid, machineId, e.getMessage()));
@@ -24,9 +24,11 @@ import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.machine.Machine;
 import org.eclipse.che.api.core.rest.Service;
+import org.eclipse.che.api.core.util.IndexedLogFile;
 import org.eclipse.che.api.machine.server.exception.MachineException;
 import org.eclipse.che.api.machine.server.model.impl.SnapshotImpl;
 import org.eclipse.che.api.machine.server.spi.Instance;
+import org.eclipse.che.api.machine.server.wsagent.WsAgentLauncher;
 import org.eclipse.che.api.machine.shared.dto.CommandDto;
 import org.eclipse.che.api.machine.shared.dto.MachineDto;
 import org.eclipse.che.api.machine.shared.dto.MachineProcessDto;
@@ -61,14 +63,22 @@ import java.util.stream.Collectors;
 @Api(value = "/machine", description = "Machine REST API")
 @Path("/machine")
 public class MachineService extends Service {
+    public static final String LOG_NEXT_OFFSET_HEADER = "X-Log-Next-Offset";
+
+    private static final long LOG_FOLLOW_TIMEOUT_MS = 30_000;
+
     private MachineManager machineManager;
 
     private final MachineServiceLinksInjector linksInjector;
+    private final WsAgentLauncher             wsAgentLauncher;
 
     @Inject
-    public MachineService(MachineManager machineManager, MachineServiceLinksInjector linksInjector) {
+    public MachineService(MachineManager machineManager,
+                          MachineServiceLinksInjector linksInjector,
+                          WsAgentLauncher wsAgentLauncher) {
         this.machineManager = machineManager;
         this.linksInjector = linksInjector;
+        this.wsAgentLauncher = wsAgentLauncher;
     }
 
     @GET
@@ -273,13 +283,31 @@ public class MachineService extends Service {
     @GET
     @Path("/{machineId}/logs")
     @Produces(MediaType.TEXT_PLAIN)
-    @ApiOperation(value = "Get logs of machine")
+    @ApiOperation(value = "Get logs of machine",
+                  notes = "Whole log is returned if none of 'from', 'tail' and 'follow' parameters is specified. " +
+                          "Otherwise the response contains the requested part of the log and the '" + LOG_NEXT_OFFSET_HEADER +
+                          "' header with the offset which should be used to get the next part. Parts are read from the " +
+                          "current segment of the rotated log only, so right after rotation 'tail' may return fewer lines " +
+                          "and content of the previous segment is available in the whole log only")
     @ApiResponses({@ApiResponse(code = 200, message = "The response contains logs"),
                    @ApiResponse(code = 404, message = "Machine with specified ID does not exist"),
                    @ApiResponse(code = 500, message = "Internal server error occurred")})
     public void getMachineLogs(@ApiParam(value = "Machine ID")
                                @PathParam("machineId")
                                String machineId,
+                               @ApiParam(value = "Byte offset to read logs from")
+                               @QueryParam("from")
+                               Long from,
+                               @ApiParam(value = "Max number of bytes to read")
+                               @QueryParam("length")
+                               Long length,
+                               @ApiParam(value = "Number of last lines to read, overrides 'from' parameter")
+                               @QueryParam("tail")
+                               Integer tail,
+                               @ApiParam(value = "Wait for new logs if there are no logs after the offset")
+                               @QueryParam("follow")
+                               @DefaultValue("false")
+                               Boolean follow,
                                @Context
                                HttpServletResponse httpServletResponse)
             throws NotFoundException,
@@ -287,13 +315,22 @@ public class MachineService extends Service {
                    ServerException,
                    IOException {
 
-        addLogsToResponse(machineManager.getMachineLogReader(machineId), httpServletResponse);
+        if (from == null && tail == null && !follow) {
+            addLogsToResponse(machineManager.getMachineLogReader(machineId), httpServletResponse);
+        } else {
+            addLogsToResponse(machineManager.getMachineLogFile(machineId), from, length, tail, follow, httpServletResponse);
+        }
     }
 
     @GET
     @Path("/{machineId}/process/{pid}/logs")
     @Produces(MediaType.TEXT_PLAIN)
-    @ApiOperation(value = "Get logs of machine process")
+    @ApiOperation(value = "Get logs of machine process",
+                  notes = "Whole log is returned if none of 'from', 'tail' and 'follow' parameters is specified. " +
+                          "Otherwise the response contains the requested part of the log and the '" + LOG_NEXT_OFFSET_HEADER +
+                          "' header with the offset which should be used to get the next part. Parts are read from the " +
+                          "current segment of the rotated log only, so right after rotation 'tail' may return fewer lines " +
+                          "and content of the previous segment is available in the whole log only")
     @ApiResponses({@ApiResponse(code = 200, message = "The response contains logs"),
                    @ApiResponse(code = 404, message = "Machine or process with specified ID does not exist"),
                    @ApiResponse(code = 500, message = "Internal server error occurred")})
@@ -303,6 +340,19 @@ public class MachineService extends Service {
                                @ApiParam(value = "Process ID")
                                @PathParam("pid")
                                int pid,
+                               @ApiParam(value = "Byte offset to read logs from")
+                               @QueryParam("from")
+                               Long from,
+                               @ApiParam(value = "Max number of bytes to read")
+                               @QueryParam("length")
+                               Long length,
+                               @ApiParam(value = "Number of last lines to read, overrides 'from' parameter")
+                               @QueryParam("tail")
+                               Integer tail,
+                               @ApiParam(value = "Wait for new logs if there are no logs after the offset")
+                               @QueryParam("follow")
+                               @DefaultValue("false")
+                               Boolean follow,
                                @Context
                                HttpServletResponse httpServletResponse)
             throws NotFoundException,
@@ -310,7 +360,29 @@ public class MachineService extends Service {
                    ServerException,
                    IOException {
 
-        addLogsToResponse(machineManager.getProcessLogReader(machineId, pid), httpServletResponse);
+        if (from == null && tail == null && !follow) {
+            addLogsToResponse(machineManager.getProcessLogReader(machineId, pid), httpServletResponse);
+        } else {
+            addLogsToResponse(machineManager.getProcessLogFile(machineId, pid), from, length, tail, follow, httpServletResponse);
+        }
+    }
+
+    /**
+     * Receives readiness notification from ws agent of the workspace which is being started.
+     * Notification only speeds up detection of the agent start, agent state is always verified by ping.
+     *
+     * @param workspaceId
+     *         id of the workspace whose agent is ready
+     */
+    @POST
+    @Path("/ws-agent/{workspaceId}/ready")
+    @ApiOperation(value = "Notify that ws agent of the workspace is ready")
+    @ApiResponses({@ApiResponse(code = 204, message = "Notification was successfully received"),
+                   @ApiResponse(code = 500, message = "Internal server error occurred")})
+    public void notifyWsAgentReady(@ApiParam(value = "Workspace ID")
+                                   @PathParam("workspaceId")
+                                   String workspaceId) {
+        wsAgentLauncher.notifyWsAgentReady(workspaceId);
     }
 
     /**
@@ -420,6 +492,41 @@ public class MachineService extends Service {
         httpServletResponse.getWriter().flush();
     }
 
+    private void addLogsToResponse(IndexedLogFile logFile,
+                                   Long from,
+                                   Long length,
+                                   Integer tail,
+                                   boolean follow,
+                                   HttpServletResponse httpServletResponse) throws IOException, ServerException {
+        final long start;
+        if (tail != null) {
+            start = logFile.findTail(tail);
+        } else if (from != null) {
+            start = Math.max(from, logFile.getStartOffset());
+        } else {
+            start = logFile.getEndOffset();
+        }
+        long end;
+        if (follow) {
+            try {
+                end = logFile.awaitData(start, LOG_FOLLOW_TIMEOUT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServerException("Interrupted while waiting for logs");
+            }
+        } else {
+            end = logFile.getEndOffset();
+        }
+        if (length != null && length >= 0) {
+            end = Math.min(end, start + length);
+        }
+        // Response is written directly to the servlet request stream
+        httpServletResponse.setContentType("text/plain");
+        httpServletResponse.setHeader(LOG_NEXT_OFFSET_HEADER, Long.toString(Math.max(start, end)));
+        logFile.copyRange(start, Math.max(0, end - start), httpServletResponse.getOutputStream());
+        httpServletResponse.getOutputStream().flush();
+    }
+
     /**
      * Checks object reference is not {@code null}
      *
@@ -20,4 +20,13 @@ import org.eclipse.che.api.machine.server.exception.MachineException;
  */
 public interface WsAgentLauncher {
     void startWsAgent(String workspaceId) throws NotFoundException, MachineException, InterruptedException;
+
+    /**
+     * Notifies launcher that ws agent of the workspace reported its readiness,
+     * so it is not needed to wait for the next scheduled ping to check the agent state.
+     *
+     * @param workspaceId
+     *         id of the workspace whose ws agent is ready
+     */
+    void notifyWsAgentReady(String workspaceId);
 }
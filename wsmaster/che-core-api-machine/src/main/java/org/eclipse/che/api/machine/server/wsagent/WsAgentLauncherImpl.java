@@ -31,10 +31,19 @@ import javax.inject.Singleton;
 import javax.ws.rs.HttpMethod;
 import java.io.IOException;
 import java.net.HttpURLConnection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Starts ws agent in the machine and waits until ws agent sends notification about its start
  *
+ * <p>Ws agent notifies about its readiness with {@link #notifyWsAgentReady(String)} call,
+ * after the notification agent is pinged with short delay until it responds.
+ * If notification doesn't come, e.g. agent is not able to reach API, agent is pinged
+ * with exponentially growing delay starting from {@code machine.ws_agent.ping_delay_ms}.
+ *
  * @author Alexander Garagatyi
  */
 @Singleton
@@ -45,14 +54,17 @@ public class WsAgentLauncherImpl implements WsAgentLauncher {
     protected static final Logger LOG = LoggerFactory.getLogger(WsAgentLauncherImpl.class);
 
     private static final String WS_AGENT_PROCESS_OUTPUT_CHANNEL = "workspace:%s:ext-server:output";
+    private static final long   READY_WS_AGENT_PING_DELAY_MS    = 100;
+    private static final int    MAX_PING_DELAY_FACTOR           = 4;
 
-    private final Provider<MachineManager> machineManagerProvider;
-    private final HttpJsonRequestFactory   httpJsonRequestFactory;
-    private final String                   wsAgentStartCommandLine;
-    private final long                     wsAgentMaxStartTimeMs;
-    private final long                     wsAgentPingDelayMs;
-    private final int                      wsAgentPingConnectionTimeoutMs;
-    private final String                   pingTimedOutErrorMessage;
+    private final Provider<MachineManager>    machineManagerProvider;
+    private final HttpJsonRequestFactory      httpJsonRequestFactory;
+    private final String                      wsAgentStartCommandLine;
+    private final long                        wsAgentMaxStartTimeMs;
+    private final long                        wsAgentPingDelayMs;
+    private final int                         wsAgentPingConnectionTimeoutMs;
+    private final String                      pingTimedOutErrorMessage;
+    private final Map<String, CountDownLatch> readinessSignals;
 
     @Inject
     public WsAgentLauncherImpl(Provider<MachineManager> machineManagerProvider,
@@ -69,6 +81,7 @@ public class WsAgentLauncherImpl implements WsAgentLauncher {
         this.wsAgentPingDelayMs = wsAgentPingDelayMs;
         this.wsAgentPingConnectionTimeoutMs = wsAgentPingConnectionTimeoutMs;
         this.pingTimedOutErrorMessage = pingTimedOutErrorMessage;
+        this.readinessSignals = new ConcurrentHashMap<>();
     }
 
     public static String getWsAgentProcessOutputChannel(String workspaceId) {
@@ -80,6 +93,8 @@ public class WsAgentLauncherImpl implements WsAgentLauncher {
         final Machine devMachine = getMachineManager().getDevMachine(workspaceId);
         final HttpJsonRequest wsAgentPingRequest = createPingRequest(devMachine);
         final String wsAgentPingUrl = wsAgentPingRequest.getUrl();
+        final CountDownLatch readinessSignal = new CountDownLatch(1);
+        readinessSignals.put(workspaceId, readinessSignal);
         try {
             getMachineManager().exec(devMachine.getId(),
                                      new CommandImpl(WS_AGENT_PROCESS_NAME, wsAgentStartCommandLine, "Arbitrary"),
@@ -90,20 +105,35 @@ public class WsAgentLauncherImpl implements WsAgentLauncher {
                       wsAgentPingUrl,
                       pingStartTimestamp);
 
+            long pingDelay = wsAgentPingDelayMs;
             while (System.currentTimeMillis() - pingStartTimestamp < wsAgentMaxStartTimeMs) {
                 if (pingWsAgent(wsAgentPingRequest)) {
                     return;
-                } else {
-                    Thread.sleep(wsAgentPingDelayMs);
+                } else if (readinessSignal.getCount() == 0) {
+                    // agent reported readiness, so it is going to respond very soon
+                    Thread.sleep(READY_WS_AGENT_PING_DELAY_MS);
+                } else if (!readinessSignal.await(pingDelay, TimeUnit.MILLISECONDS)) {
+                    pingDelay = Math.min(pingDelay * 2, wsAgentPingDelayMs * MAX_PING_DELAY_FACTOR);
                 }
             }
         } catch (BadRequestException wsAgentLaunchingExc) {
             throw new MachineException(wsAgentLaunchingExc.getLocalizedMessage(), wsAgentLaunchingExc);
+        } finally {
+            readinessSignals.remove(workspaceId, readinessSignal);
         }
         LOG.error("Fail pinging ws agent. Workspace ID:{}. Url:{}. Timestamp:{}", workspaceId, wsAgentPingUrl);
         throw new MachineException(pingTimedOutErrorMessage);
     }
 
+    @Override
+    public void notifyWsAgentReady(String workspaceId) {
+        final CountDownLatch readinessSignal = readinessSignals.get(workspaceId);
+        if (readinessSignal != null) {
+            LOG.debug("Ws agent reported readiness. Workspace ID:{}", workspaceId);
+            readinessSignal.countDown();
+        }
+    }
+
     // forms the ping request based on information about the machine.
     protected HttpJsonRequest createPingRequest(Machine machine) {
         String wsAgentPingUrl = machine.getRuntime()
@@ -116,6 +116,8 @@ public class MachineManagerTest {
                                          machineRegistry,
                                          machineInstanceProviders,
                                          machineLogsDir,
+                                         0,
+                                         0,
                                          eventService,
                                          DEFAULT_MACHINE_MEMORY_SIZE_MB,
                                          wsAgentLauncher));
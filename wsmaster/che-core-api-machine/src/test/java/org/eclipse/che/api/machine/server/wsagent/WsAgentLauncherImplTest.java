@@ -37,12 +37,17 @@ import javax.ws.rs.core.UriBuilder;
 import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -165,6 +170,34 @@ public class WsAgentLauncherImplTest {
         verify(pingResponse).getResponseCode();
     }
 
+    @Test
+    public void shouldPingWsAgentRightAfterReadinessNotification() throws Exception {
+        final WsAgentLauncherImpl launcher = new WsAgentLauncherImpl(() -> machineManager,
+                                                                     requestFactory,
+                                                                     WS_AGENT_START_CMD_LINE,
+                                                                     60_000,
+                                                                     30_000,
+                                                                     WS_AGENT_PING_CONN_TIMEOUT_MS,
+                                                                     WS_AGENT_TIMED_OUT_MESSAGE);
+        when(pingResponse.getResponseCode()).thenReturn(HttpURLConnection.HTTP_NOT_FOUND,
+                                                        HttpURLConnection.HTTP_OK);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<?> start = executor.submit(() -> {
+                launcher.startWsAgent(WS_ID);
+                return null;
+            });
+            verify(pingRequest, timeout(5_000)).request();
+
+            launcher.notifyWsAgentReady(WS_ID);
+
+            start.get(5, TimeUnit.SECONDS);
+            verify(pingRequest, times(2)).request();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test(expectedExceptions = NotFoundException.class, expectedExceptionsMessageRegExp = "Test exception")
     public void shouldThrowNotFoundExceptionIfMachineManagerGetDevMachineForWsThrowsNotFoundException() throws Exception {
         final String notExistingWsId = "notExistingWsId";
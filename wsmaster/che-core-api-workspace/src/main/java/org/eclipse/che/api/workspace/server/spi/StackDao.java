@@ -112,4 +112,28 @@ public interface StackDao {
      *         when {@code skipCount} or {@code maxItems} is negative
      */
     List<StackImpl> searchStacks(String user, @Nullable List<String> tags, int skipCount, int maxItems) throws ServerException;
+
+    /**
+     * Returns version of the stacks storage, which changes each time any stack is created, updated or removed.
+     * It allows to check whether stacks were modified without loading them.
+     *
+     * @return version of the storage or {@code null} if implementation doesn't track modifications
+     */
+    @Nullable
+    default String getVersion() {
+        return null;
+    }
+
+    /**
+     * Returns version of the stack, which changes each time the stack is updated.
+     * It allows to check whether the stack was modified without loading it.
+     *
+     * @param id
+     *         stack identifier
+     * @return version of the stack or {@code null} if there is no such stack or implementation doesn't track modifications
+     */
+    @Nullable
+    default String getVersion(String id) {
+        return null;
+    }
 }
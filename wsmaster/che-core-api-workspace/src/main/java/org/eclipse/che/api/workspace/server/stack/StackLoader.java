@@ -101,7 +101,7 @@ public class StackLoader {
         try {
             Path stackIconPath = stackIconFolderPath.resolve(stackIcon.getName());
             if (Files.exists(stackIconPath) && Files.isRegularFile(stackIconPath)) {
-                stackIcon = new StackIcon(stackIcon.getName(), stackIcon.getMediaType(), Files.readAllBytes(stackIconPath));
+                stackIcon = new StackIcon(stackIcon.getName(), stackIcon.getMediaType(), stackIconPath);
                 stack.setStackIcon(stackIcon);
             } else {
                 throw new IOException("Stack icon is not a file or doesn't exist by path: " + stackIconPath);
@@ -134,6 +134,7 @@ public class StackService extends Service {
                    @ApiResponse(code = 403, message = "The user has not permission get requested stack"),
                    @ApiResponse(code = 500, message = "Internal server error occurred")})
     public StackDto getStack(@ApiParam("The stack id") @PathParam("id") final String id) throws ApiException {
+        checkNotModified(stackDao.getVersion(id));
         return asStackDto(stackDao.getById(id));
     }
 
@@ -211,6 +212,11 @@ public class StackService extends Service {
                                        @QueryParam("maxItems")
                                        final Integer maxItems) throws ServerException {
         final String currentUser = EnvironmentContext.getCurrent().getSubject().getUserId();
+        final String version = stackDao.getVersion();
+        if (version != null) {
+            // result of the search depends on the user
+            checkNotModified(version + '-' + currentUser);
+        }
         return stackDao.searchStacks(currentUser, tags, skipCount, maxItems)
                        .stream()
                        .map(this::asStackDto)
@@ -240,6 +246,10 @@ public class StackService extends Service {
         if (image == null) {
             throw new NotFoundException("Image for stack with id '" + id + "' was not found.");
         }
+        if (image.getDataPath() != null) {
+            // stream icon right from the file instead of loading it to memory
+            return Response.ok(image.getDataPath().toFile(), image.getMediaType()).build();
+        }
         return Response.ok(image.getData(), image.getMediaType()).build();
     }
 
@@ -13,7 +13,12 @@ package org.eclipse.che.api.workspace.server.stack.image;
 import com.google.common.base.Objects;
 
 import org.eclipse.che.commons.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Set;
 
@@ -30,11 +35,15 @@ public class StackIcon {
 
     private static final Set<String> VALID_MEDIA_TYPES = of("image/jpeg", "image/png", "image/gif", "image/svg+xml");
     private static final int         LIMIT_SIZE        = 1024 * 1024;
+    private static final Logger      LOG               = LoggerFactory.getLogger(StackIcon.class);
 
     private String name;
     private String mediaType;
     private byte[] data;
 
+    /** File which holds icon data, data of such icons isn't kept in memory. */
+    private transient Path dataPath;
+
     public StackIcon(String name, String mediaType, @Nullable byte[] data) {
         if (data != null) {
             if (data.length == 0) {
@@ -45,7 +54,21 @@ public class StackIcon {
             }
         }
         this.data = data;
+        init(name, mediaType);
+    }
+
+    /**
+     * Creates icon which data is read from the given file each time it is requested.
+     *
+     * @param dataPath
+     *         path to the existing file with icon data
+     */
+    public StackIcon(String name, String mediaType, Path dataPath) {
+        this.dataPath = requireNonNull(dataPath, "Icon data path required");
+        init(name, mediaType);
+    }
 
+    private void init(String name, String mediaType) {
         requireNonNull(mediaType, "Icon media type required");
         if (!VALID_MEDIA_TYPES.stream().anyMatch(elem -> elem.equals(mediaType))) {
             String errorMessage = format("Media type '%s' is unsupported. Supported media types: '%s'", mediaType, VALID_MEDIA_TYPES);
@@ -64,10 +87,32 @@ public class StackIcon {
         return mediaType;
     }
 
+    /**
+     * Returns icon data or {@code null} when icon doesn't have data
+     * or its data file can't be read.
+     */
+    @Nullable
     public byte[] getData() {
+        if (data == null && dataPath != null) {
+            try {
+                return Files.readAllBytes(dataPath);
+            } catch (IOException e) {
+                LOG.error(format("Failed to read data of stack icon '%s'", name), e);
+            }
+        }
         return data;
     }
 
+    /** Returns file which holds icon data or {@code null} when data is held in memory. */
+    @Nullable
+    public Path getDataPath() {
+        return dataPath;
+    }
+
+    /**
+     * Icons which data is stored in files are equal when they refer to the same file,
+     * so comparison never reads icon data.
+     */
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
@@ -79,6 +124,7 @@ public class StackIcon {
         StackIcon another = (StackIcon)obj;
         return Objects.equal(name, another.name) &&
                Objects.equal(mediaType, another.mediaType) &&
+               Objects.equal(dataPath, another.dataPath) &&
                Arrays.equals(data, another.data);
     }
 
@@ -87,6 +133,7 @@ public class StackIcon {
         int hash = 7;
         hash = 31 * hash + Objects.hashCode(name);
         hash = 31 * hash + Objects.hashCode(mediaType);
+        hash = 31 * hash + Objects.hashCode(dataPath);
         hash = 31 * hash + Arrays.hashCode(data);
         return hash;
     }
@@ -25,14 +25,21 @@ import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
+import static java.util.Comparator.comparingInt;
+import static java.util.Comparator.comparingLong;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 
@@ -44,22 +51,39 @@ import static java.util.stream.Collectors.toList;
 @Singleton
 public class LocalStackDaoImpl implements StackDao {
 
-    private final StackLocalStorage      stackStorage;
-    private final Map<String, StackImpl> stacks;
-    private final ReadWriteLock          lock;
+    private final StackLocalStorage        stackStorage;
+    private final Map<String, StackImpl>   stacks;
+    private final Map<String, Set<String>> tagIndex;
+    private final Map<String, Long>        stackVersions;
+    private final Map<String, Long>        stackPositions;
+    private final ReadWriteLock            lock;
+    private final long                     creationTime;
+    private final AtomicLong               modificationCount;
+
+    private long nextPosition;
 
     @Inject
     public LocalStackDaoImpl(StackLocalStorage stackLocalStorage) throws IOException {
         this.stackStorage = stackLocalStorage;
         this.stacks = new LinkedHashMap<>();
+        this.tagIndex = new HashMap<>();
+        this.stackVersions = new HashMap<>();
+        this.stackPositions = new HashMap<>();
         this.lock = new ReentrantReadWriteLock();
+        this.creationTime = System.currentTimeMillis();
+        this.modificationCount = new AtomicLong();
     }
 
     @PostConstruct
     public void start() {
-        lock.readLock().lock();
-        stacks.putAll(stackStorage.loadMap());
-        lock.readLock().unlock();
+        lock.writeLock().lock();
+        try {
+            stacks.putAll(stackStorage.loadMap());
+            stacks.values().forEach(this::indexTags);
+            stacks.keySet().forEach(id -> stackPositions.put(id, nextPosition++));
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @PreDestroy
@@ -78,6 +102,9 @@ public class LocalStackDaoImpl implements StackDao {
                 throw new ConflictException(format("Stack with id %s is already exist", stack.getId()));
             }
             stacks.put(stack.getId(), stack);
+            indexTags(stack);
+            stackPositions.put(stack.getId(), nextPosition++);
+            stackVersions.put(stack.getId(), modificationCount.incrementAndGet());
         } finally {
             lock.writeLock().unlock();
         }
@@ -103,7 +130,13 @@ public class LocalStackDaoImpl implements StackDao {
         requireNonNull(id, "Stack id required");
         lock.writeLock().lock();
         try {
-            stacks.remove(id);
+            final StackImpl removed = stacks.remove(id);
+            if (removed != null) {
+                unindexTags(removed, null);
+                stackVersions.remove(id);
+                stackPositions.remove(id);
+                modificationCount.incrementAndGet();
+            }
         } finally {
             lock.writeLock().unlock();
         }
@@ -116,25 +149,63 @@ public class LocalStackDaoImpl implements StackDao {
         lock.writeLock().lock();
         try {
             String updateId = update.getId();
-            if (!stacks.containsKey(updateId)) {
+            final StackImpl existing = stacks.get(updateId);
+            if (existing == null) {
                 throw new NotFoundException(format("Stack with id %s was not found", updateId));
             }
             stacks.replace(updateId, update);
+            unindexTags(existing, update.getTags());
+            indexTags(update);
+            stackVersions.put(updateId, modificationCount.incrementAndGet());
             return new StackImpl(update);
         } finally {
             lock.writeLock().unlock();
         }
     }
 
+    @Override
+    public String getVersion() {
+        return creationTime + "-" + modificationCount.get();
+    }
+
+    @Override
+    public String getVersion(String id) {
+        requireNonNull(id, "Stack id required");
+        lock.readLock().lock();
+        try {
+            if (!stacks.containsKey(id)) {
+                return null;
+            }
+            // stacks loaded from the storage keep the initial version until they are updated
+            return creationTime + "-" + stackVersions.getOrDefault(id, 0L);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
     @Override
     public List<StackImpl> searchStacks(String user, @Nullable List<String> tags, int skipCount, int maxItems) {
         lock.readLock().lock();
         try {
-            Stream<StackImpl> stacksStream = stacks.values()
-                                                   .stream()
-                                                   .skip(skipCount)
-                                                   .filter(decoratedStack -> tags == null ||
-                                                                             decoratedStack.getTags().containsAll(tags));
+            Stream<StackImpl> stacksStream;
+            if (tags == null || tags.isEmpty()) {
+                stacksStream = stacks.values().stream();
+            } else {
+                final List<Set<String>> taggedIds = findTaggedIds(tags);
+                if (taggedIds == null) {
+                    return new ArrayList<>();
+                }
+                // only stacks marked with the least used tag are checked, they are sorted in the order of the storage
+                // so pages are stable whatever the tags are
+                final List<Set<String>> otherIds = taggedIds.subList(1, taggedIds.size());
+                stacksStream = taggedIds.get(0)
+                                        .stream()
+                                        .filter(id -> hasAll(otherIds, id))
+                                        .sorted(comparingLong(stackPositions::get))
+                                        .map(stacks::get);
+            }
+            // stacks are copied only after paging, so only returned stacks are copied
+            stacksStream = stacksStream.skip(skipCount);
             if (maxItems != 0) {
                 stacksStream = stacksStream.limit(maxItems);
             }
@@ -145,4 +216,53 @@ public class LocalStackDaoImpl implements StackDao {
             lock.readLock().unlock();
         }
     }
+
+    /**
+     * Returns ids of the stacks marked with each of the given tags, the least used tags go first,
+     * or {@code null} if there is a tag no stack is marked with.
+     */
+    private List<Set<String>> findTaggedIds(List<String> tags) {
+        final List<Set<String>> result = new ArrayList<>(tags.size());
+        for (String tag : tags) {
+            final Set<String> ids = tagIndex.get(tag);
+            if (ids == null) {
+                return null;
+            }
+            result.add(ids);
+        }
+        result.sort(comparingInt(Set::size));
+        return result;
+    }
+
+    private static boolean hasAll(List<Set<String>> taggedIds, String stackId) {
+        for (Set<String> ids : taggedIds) {
+            if (!ids.contains(stackId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void indexTags(StackImpl stack) {
+        if (stack.getTags() != null) {
+            for (String tag : stack.getTags()) {
+                tagIndex.computeIfAbsent(tag, key -> new HashSet<>()).add(stack.getId());
+            }
+        }
+    }
+
+    /** Removes stack from index of its tags except of the {@code retained} tags. */
+    private void unindexTags(StackImpl stack, @Nullable List<String> retained) {
+        if (stack.getTags() != null) {
+            for (String tag : stack.getTags()) {
+                if (retained != null && retained.contains(tag)) {
+                    continue;
+                }
+                final Set<String> ids = tagIndex.get(tag);
+                if (ids != null && ids.remove(stack.getId()) && ids.isEmpty()) {
+                    tagIndex.remove(tag);
+                }
+            }
+        }
+    }
 }
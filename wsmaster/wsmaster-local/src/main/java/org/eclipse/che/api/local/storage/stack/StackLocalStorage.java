@@ -25,6 +25,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 
 import static java.lang.String.format;
@@ -63,8 +64,15 @@ public class StackLocalStorage {
      */
     public void store(Map<String, StackImpl> stacks) throws IOException {
         localStorage.store(stacks);
+        // icons loaded from the storage refer to the files which are going to be rewritten, so read them beforehand
+        final Map<String, byte[]> iconsData = new HashMap<>();
+        for (StackImpl stack : stacks.values()) {
+            if (stack.getStackIcon() != null) {
+                iconsData.put(stack.getId(), stack.getStackIcon().getData());
+            }
+        }
         deleteDirectory(iconFolderPath.toFile());
-        stacks.values().forEach(this::saveIcon);
+        stacks.values().forEach(stack -> saveIcon(stack, iconsData.get(stack.getId())));
     }
 
     /**
@@ -80,7 +88,8 @@ public class StackLocalStorage {
     }
 
     /**
-     * Set binary data to {@link StackIcon} of the {@code stack}. Stack icon files store in the by {@code stackIconFolderPath}
+     * Set {@link StackIcon} of the {@code stack} which refers to the icon file, so icon data is not held in memory.
+     * Stack icon files store in the by {@code stackIconFolderPath}
      * Icon data stores in the local storage by path:
      * {@code stackIconFolderPath}/stackId/IconName.
      *
@@ -100,7 +109,7 @@ public class StackLocalStorage {
         try {
             Path stackIconPath = stackIconFolderPath.resolve(stack.getId()).resolve(stackIcon.getName());
             if (Files.exists(stackIconPath) && Files.isRegularFile(stackIconPath)) {
-                stackIcon = new StackIcon(stackIcon.getName(), stackIcon.getMediaType(), Files.readAllBytes(stackIconPath));
+                stackIcon = new StackIcon(stackIcon.getName(), stackIcon.getMediaType(), stackIconPath);
                 stack.setStackIcon(stackIcon);
             } else {
                 throw new IOException("Stack icon is not a file or doesn't exist by path: " + stackIconPath);
@@ -116,15 +125,17 @@ public class StackLocalStorage {
      *
      * @param stack
      *         {@link StackImpl} which contains {@link StackIcon} to store
+     * @param data
+     *         icon data
      */
-    private void saveIcon(StackImpl stack) {
+    private void saveIcon(StackImpl stack, byte[] data) {
         try {
             StackIcon stackIcon = stack.getStackIcon();
-            if (stackIcon != null && stackIcon.getData() != null) {
+            if (stackIcon != null && data != null) {
                 Path iconParentDirectory = iconFolderPath.resolve(stack.getId());
                 Files.createDirectories(iconParentDirectory);
                 Path iconPath = iconParentDirectory.resolve(stackIcon.getName());
-                Files.write(iconPath, stackIcon.getData(), CREATE, TRUNCATE_EXISTING);
+                Files.write(iconPath, data, CREATE, TRUNCATE_EXISTING);
             }
         } catch (IOException ex) {
             LOG.error(format("Failed to save icon for stack with id '%s'", stack.getId()), ex);
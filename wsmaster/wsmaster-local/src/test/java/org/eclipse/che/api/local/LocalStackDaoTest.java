@@ -20,7 +20,6 @@ import org.eclipse.che.api.workspace.server.model.impl.stack.StackComponentImpl;
 import org.eclipse.che.api.workspace.server.model.impl.stack.StackImpl;
 import org.eclipse.che.api.workspace.server.model.impl.stack.StackSourceImpl;
 import org.eclipse.che.api.workspace.server.stack.image.StackIcon;
-import org.eclipse.che.api.workspace.shared.stack.Stack;
 import org.eclipse.che.api.workspace.shared.stack.StackSource;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
@@ -38,8 +37,13 @@ import java.util.Map;
 import static java.nio.file.Files.readAllBytes;
 import static java.nio.file.Files.write;
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
 
 /**
  * Test for {@link LocalStackDaoImpl}
@@ -100,10 +104,82 @@ public class LocalStackDaoTest {
 
         stackDao.start();
 
-        Stack result = stackDao.getById("stackdskhfdskf");
+        StackImpl result = stackDao.getById("stackdskhfdskf");
+        assertEquals(result.getStackIcon().getData(), SVG_ICON.getBytes());
+        // loaded icon refers to the icon file instead of holding its data
+        stack.setStackIcon(new StackIcon("java-type.svg", "image/svg+xml", pathToIcon));
         assertEquals(result, stack);
     }
 
+    @Test
+    public void shouldApplyPagingAfterFilteringByTags() throws Exception {
+        stackDao.create(createStack("stack1", "java", "maven"));
+        stackDao.create(createStack("stack2", "node"));
+        stackDao.create(createStack("stack3", "java"));
+        stackDao.create(createStack("stack4", "maven", "java"));
+
+        assertEquals(ids(stackDao.searchStacks("user", asList("java", "maven"), 0, 0)), asList("stack1", "stack4"));
+        assertEquals(ids(stackDao.searchStacks("user", singletonList("java"), 1, 1)), singletonList("stack3"));
+        assertEquals(ids(stackDao.searchStacks("user", singletonList("go"), 0, 0)), emptyList());
+
+        stackDao.update(createStack("stack2", "node", "java"));
+        stackDao.remove("stack1");
+
+        // filtered stacks keep the order of the storage, the same as the unfiltered ones
+        assertEquals(ids(stackDao.searchStacks("user", singletonList("java"), 0, 0)), asList("stack2", "stack3", "stack4"));
+        assertEquals(ids(stackDao.searchStacks("user", singletonList("java"), 1, 1)), singletonList("stack3"));
+        assertEquals(ids(stackDao.searchStacks("user", asList("maven", "java"), 0, 0)), singletonList("stack4"));
+        assertEquals(ids(stackDao.searchStacks("user", null, 0, 2)), asList("stack2", "stack3"));
+    }
+
+    @Test
+    public void shouldFindStacksByTagsAfterRestart() throws Exception {
+        stackDao.create(createStack("stack1", "java", "maven"));
+        stackDao.create(createStack("stack2", "node"));
+        stackDao.create(createStack("stack3", "maven", "java"));
+        stackDao.stop();
+
+        final LocalStackDaoImpl restarted = new LocalStackDaoImpl(new StackLocalStorage(storageRoot.toString()));
+        restarted.start();
+        restarted.create(createStack("stack4", "java"));
+
+        assertEquals(ids(restarted.searchStacks("user", asList("java", "maven"), 0, 0)), asList("stack1", "stack3"));
+        assertEquals(ids(restarted.searchStacks("user", singletonList("java"), 1, 2)), asList("stack3", "stack4"));
+        assertEquals(ids(restarted.searchStacks("user", asList("node", "java"), 0, 0)), emptyList());
+    }
+
+    @Test
+    public void shouldChangeVersionOfStackOnlyWhenTheStackIsModified() throws Exception {
+        stackDao.create(createStack("stack1", "java"));
+        stackDao.create(createStack("stack2", "node"));
+        final String version = stackDao.getVersion("stack1");
+
+        stackDao.update(createStack("stack2", "node", "java"));
+        stackDao.remove("stack2");
+
+        assertEquals(stackDao.getVersion("stack1"), version);
+        assertNull(stackDao.getVersion("stack2"));
+
+        stackDao.update(createStack("stack1", "java", "maven"));
+
+        assertNotEquals(stackDao.getVersion("stack1"), version);
+    }
+
+    private static StackImpl createStack(String id, String... tags) {
+        return StackImpl.builder()
+                        .setId(id)
+                        .setName(id)
+                        .setScope("general")
+                        .setCreator("user")
+                        .setTags(asList(tags))
+                        .setSource(new StackSourceImpl("image", "codenvy/ubuntu_jdk8"))
+                        .build();
+    }
+
+    private static List<String> ids(List<StackImpl> stacks) {
+        return stacks.stream().map(StackImpl::getId).collect(toList());
+    }
+
     private void createStackIcon() throws IOException {
         Files.createDirectories(parentIconFolder);
         Files.write(pathToIcon, SVG_ICON.getBytes());